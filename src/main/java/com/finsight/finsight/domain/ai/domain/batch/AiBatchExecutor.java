@@ -0,0 +1,297 @@
+package com.finsight.finsight.domain.ai.domain.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.domain.ai.domain.client.OpenAiBatchClient;
+import com.finsight.finsight.domain.ai.domain.client.OpenAiBatchClient.BatchInfo;
+import com.finsight.finsight.domain.ai.domain.client.OpenAiClient;
+import com.finsight.finsight.domain.ai.domain.service.AiJobService;
+import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.domain.ai.persistence.repository.AiBatchRepository;
+import com.finsight.finsight.domain.ai.persistence.repository.AiJobRepository;
+import com.finsight.finsight.global.config.AiBatchProperties;
+import com.finsight.finsight.global.exception.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * OpenAI Batch API 실행 모드 (backlog 소진 / prompt_version 재생성)
+ *
+ * 제출 (submit-interval-ms):
+ * - 타입별로 배치 전용 prompt_version(+ backlog 초과 시 전 버전) PENDING 을 claim (worker_id = batch:{uuid})
+ * - Job 마다 AiJobService.prepareBatchRequest 로 /responses 본문 준비 → JSONL(custom_id = job-{id}) 업로드 → 배치 생성
+ * - 제출 실패 시 claim 한 Job 은 OPENAI_BATCH_FAILED(재시도 가능) → RETRY_WAIT
+ *
+ * 폴링 (poll-interval-ms):
+ * - next_poll_at 으로 한 인스턴스만 폴링, 폴링마다 배치 Job 리스 연장 (폴링이 끊기면 Sweeper 가 회수)
+ * - 종료 상태면 결과 파일(성공)/에러 파일(실패)을 줄 단위로 기존 complete*Success 저장 경로에 반영
+ * - 결과에 없는 Job (expired/cancelled/failed) 은 OPENAI_BATCH_FAILED → RETRY_WAIT
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiBatchExecutor {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+    private static final String CUSTOM_ID_PREFIX = "job-";
+
+    private final AiJobService aiJobService;
+    private final AiJobRepository aiJobRepository;
+    private final AiBatchRepository batchRepository;
+    private final OpenAiBatchClient batchClient;
+    private final AiBatchProperties props;
+    private final MeterRegistry meterRegistry;
+
+    // =========================
+    // 제출
+    // =========================
+
+    @Scheduled(fixedDelayString = "${ai.batch.submit-interval-ms:300000}")
+    public void submit() {
+        if (!props.isEnabled()) return;
+
+        for (AiJobType type : props.getJobTypes()) {
+            try {
+                submit(type);
+            } catch (Exception e) {
+                incEvent("submit_error");
+                log.error("[AI-BATCH] event_type=ai_batch_submit_error type={}", type, e);
+            }
+        }
+    }
+
+    private void submit(AiJobType type) {
+        boolean backlog = props.getBacklogThreshold() > 0
+                && aiJobRepository.countByStatusAndJobType(AiJobStatus.PENDING, type) > props.getBacklogThreshold();
+        if (props.getPromptVersions().isEmpty() && !backlog) return;
+
+        String owner = "batch:" + UUID.randomUUID();
+        List<Long> jobIds = aiJobService.claimBatchJobs(type, props.getMaxRequestsPerBatch(), backlog, owner, lease());
+        if (jobIds.isEmpty()) return;
+
+        StringBuilder jsonl = new StringBuilder();
+        int requests = 0;
+        for (Long jobId : jobIds) {
+            Optional<Map<String, Object>> body = aiJobService.prepareBatchRequest(type, jobId, owner);
+            if (body.isEmpty()) continue; // 캐시 hit 으로 저장 완료 / 준비 실패로 상태 전환 완료
+
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("custom_id", CUSTOM_ID_PREFIX + jobId);
+            line.put("method", "POST");
+            line.put("url", "/v1/responses");
+            line.put("body", body.get());
+            jsonl.append(toJson(line)).append('\n');
+            requests++;
+        }
+        if (requests == 0) return;
+
+        AiBatchEntity batch = batchRepository.save(AiBatchEntity.builder()
+                .jobType(type)
+                .owner(owner)
+                .requestCount(requests)
+                .build());
+
+        try {
+            String fileId = batchClient.uploadFile(owner.replace(':', '-') + ".jsonl",
+                    jsonl.toString().getBytes(StandardCharsets.UTF_8));
+            BatchInfo info = batchClient.createBatch(fileId);
+            batch.markSubmitted(info.id(), fileId, info.status());
+            batchRepository.save(batch);
+
+            incEvent("submitted");
+            log.info("[AI-BATCH] event_type=ai_batch_submitted type={} batch_id={} openai_batch_id={} requests={} backlog={}",
+                    type, batch.getId(), info.id(), requests, backlog);
+        } catch (Exception e) {
+            batch.markSubmitFailed(e.getMessage());
+            batchRepository.save(batch);
+            int released = failRemaining(owner, submitErrorCode(e));
+
+            incEvent("submit_failed");
+            log.warn("[AI-BATCH] event_type=ai_batch_submit_failed type={} batch_id={} released_jobs={}",
+                    type, batch.getId(), released);
+        }
+    }
+
+    // =========================
+    // 폴링 / 결과 반영
+    // =========================
+
+    @Scheduled(fixedDelayString = "${ai.batch.poll-interval-ms:60000}")
+    public void poll() {
+        if (!props.isEnabled()) return;
+
+        for (AiBatchEntity batch : batchRepository.findByStatusOrderByIdAsc(AiBatchStatus.SUBMITTED)) {
+            if (batchRepository.claimPoll(batch.getId(), props.getPollLeaseSeconds()) == 0) continue; // 다른 인스턴스 차례
+
+            try {
+                poll(batch);
+            } catch (Exception e) {
+                incEvent("poll_error");
+                log.warn("[AI-BATCH] event_type=ai_batch_poll_error batch_id={}", batch.getId(), e);
+            }
+        }
+    }
+
+    private void poll(AiBatchEntity batch) {
+        String owner = batch.getOwner();
+        List<Long> running = aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, owner);
+        aiJobService.renewLeases(running, owner, lease());
+
+        BatchInfo info = batchClient.getBatch(batch.getOpenaiBatchId());
+        if (!info.isTerminal()) {
+            batch.markPolled(info.status());
+            batchRepository.save(batch);
+            return;
+        }
+
+        // expired/cancelled 도 일부 결과가 있을 수 있음 → 있는 만큼 반영 후 나머지 실패 처리
+        int success = 0;
+        int failed = 0;
+        if (info.outputFileId() != null) {
+            int[] counts = applyResults(owner, batchClient.fileContent(info.outputFileId()));
+            success += counts[0];
+            failed += counts[1];
+        }
+        if (info.errorFileId() != null) {
+            int[] counts = applyResults(owner, batchClient.fileContent(info.errorFileId()));
+            success += counts[0];
+            failed += counts[1];
+        }
+        failed += failRemaining(owner, AiErrorCode.OPENAI_BATCH_FAILED);
+
+        batch.markFinished(info.status(), info.outputFileId(), info.errorFileId(), success, failed);
+        batchRepository.save(batch);
+
+        incEvent(info.status());
+        incResults(batch.getJobType(), "success", success);
+        incResults(batch.getJobType(), "failed", failed);
+        log.info("[AI-BATCH] event_type=ai_batch_finished batch_id={} openai_status={} success={} failed={}",
+                batch.getId(), info.status(), success, failed);
+    }
+
+    /**
+     * 결과/에러 JSONL 반영
+     * - 한 줄: { custom_id, response: { status_code, body }, error }
+     * @return [성공 수, 실패 수]
+     */
+    private int[] applyResults(String owner, String jsonl) {
+        int success = 0;
+        int failed = 0;
+
+        for (String line : jsonl.split("\n")) {
+            if (line.isBlank()) continue;
+
+            JsonNode row;
+            try {
+                row = OM.readTree(line);
+            } catch (Exception e) {
+                log.warn("[AI-BATCH] event_type=ai_batch_line_parse_error owner={}", owner);
+                continue;
+            }
+
+            Long jobId = jobIdOf(row.path("custom_id").asText(""));
+            if (jobId == null) continue;
+
+            JsonNode response = row.path("response");
+            int statusCode = response.path("status_code").asInt(0);
+            if (statusCode == 200) {
+                String jsonText = OpenAiClient.extractOutputText(response.path("body"));
+                if (aiJobService.completeBatchResult(jobId, owner, jsonText)) success++;
+            } else {
+                AiErrorCode errorCode = statusCode > 0
+                        ? lineErrorCode(statusCode, response.path("body"))
+                        : AiErrorCode.OPENAI_BATCH_FAILED;
+                if (aiJobService.failBatchJob(jobId, owner, errorCode)) failed++;
+            }
+        }
+        return new int[]{success, failed};
+    }
+
+    /**
+     * 결과에 없는 (아직 이 배치가 잡고 있는) Job 실패 처리
+     */
+    private int failRemaining(String owner, AiErrorCode errorCode) {
+        int count = 0;
+        for (Long jobId : aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, owner)) {
+            if (aiJobService.failBatchJob(jobId, owner, errorCode)) count++;
+        }
+        return count;
+    }
+
+    private static AiErrorCode lineErrorCode(int statusCode, JsonNode body) {
+        // 줄 단위 실패도 /responses 와 같은 기준 (429/5xx 재시도, 400 실패, 쿼터/인증 SUSPENDED)
+        return switch (statusCode) {
+            case 429 -> AiErrorCode.OPENAI_RATE_LIMIT;
+            case 400 -> AiErrorCode.OPENAI_INVALID_REQUEST;
+            case 401 -> AiErrorCode.OPENAI_INVALID_API_KEY;
+            case 402 -> AiErrorCode.OPENAI_INSUFFICIENT_BALANCE;
+            case 403 -> AiErrorCode.OPENAI_ACCESS_DENIED;
+            default -> {
+                String code = body.path("error").path("code").asText("");
+                if (code.contains("insufficient_quota")) yield AiErrorCode.OPENAI_QUOTA_EXHAUSTED;
+                yield statusCode >= 500 ? AiErrorCode.OPENAI_SERVER_ERROR : AiErrorCode.OPENAI_API_FAIL;
+            }
+        };
+    }
+
+    private static AiErrorCode submitErrorCode(Exception e) {
+        // 쿼터/인증 에러는 그대로 (SUSPENDED), 그 외는 재시도
+        if (e instanceof AppException app && app.getErrorCode() instanceof AiErrorCode code && code.isSuspendable()) {
+            return code;
+        }
+        return AiErrorCode.OPENAI_BATCH_FAILED;
+    }
+
+    private static Long jobIdOf(String customId) {
+        if (!customId.startsWith(CUSTOM_ID_PREFIX)) return null;
+        try {
+            return Long.parseLong(customId.substring(CUSTOM_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Duration lease() {
+        return Duration.ofMinutes(props.getLeaseMinutes());
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return OM.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new AppException(AiErrorCode.OPENAI_INVALID_REQUEST);
+        }
+    }
+
+    private void incEvent(String event) {
+        Counter.builder("ai_batch_events_total")
+                .tag("event", event)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void incResults(AiJobType type, String result, int count) {
+        if (count == 0) return;
+        Counter.builder("ai_batch_results_total")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -0,0 +1,24 @@
+package com.finsight.finsight.domain.ai.domain.bundle;
+
+import com.finsight.finsight.domain.ai.application.dto.response.QuizResponse;
+import com.finsight.finsight.domain.ai.application.dto.response.TermCardResponse;
+
+import java.util.List;
+
+/**
+ * 기사 AI 결과 묶음 (ai_article_bundle.bundle_json / 캐시 값)
+ * - 기사 메타데이터(제목/조회수 등)는 바뀌므로 넣지 않고 조회 시 기사 행에서
+ *
+ * @param articleId AI 결과 기준 기사 id (유사 중복이면 원본)
+ * @param quizzes   QUIZ_CONTENT, QUIZ_TERM 순서
+ */
+public record AiArticleBundle(
+        Long articleId,
+        String promptVersion,
+        String summary3Lines,
+        String summaryFull,
+        List<TermCardResponse> termCards,
+        String insightJson,
+        List<QuizResponse> quizzes
+) {
+}
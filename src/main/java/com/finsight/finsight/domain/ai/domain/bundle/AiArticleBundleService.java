@@ -0,0 +1,341 @@
+package com.finsight.finsight.domain.ai.domain.bundle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.domain.ai.application.dto.response.QuizResponse;
+import com.finsight.finsight.domain.ai.application.dto.response.TermCardResponse;
+import com.finsight.finsight.domain.ai.persistence.entity.AiArticleBundleEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiArticleSummaryEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.domain.ai.persistence.entity.AiTermCardEntity;
+import com.finsight.finsight.domain.ai.persistence.repository.*;
+import com.finsight.finsight.global.config.AiArticleBundleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기사 AI 결과 묶음 (읽기 모델) 조립 + 2단 캐시
+ *
+ * 조립:
+ * - AiJobService.advanceDag 가 기사 DAG 전체 SUCCESS 를 감지한 트랜잭션에서 build → ai_article_bundle 에 JSON 문서로 저장
+ * - 기능 도입 전에 완료된 기사는 조회 경로가 assemble 로 읽은 결과를 backfill
+ * - 같은 기사의 Job 이 다시 성공하면(재생성) invalidate → 새 DAG 완료 시 다시 build
+ *
+ * 조회 (get): 로컬 LRU (local-ttl-seconds) → Redis (ai:bundle:{articleId}, redis-ttl-hours) → DB 행
+ * - 저장/삭제는 커밋 이후 Redis 반영 + ai:bundle:evict 채널로 모든 인스턴스의 로컬 항목 제거
+ * - pub/sub 유실은 로컬 TTL 로 한정, Redis 장애 시 DB 행으로
+ * - 메트릭: ai_bundle_cache_total{tier,result}, ai_bundle_builds_total{result}, ai_bundle_local_entries
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiArticleBundleService implements MessageListener {
+
+    static final String CHANNEL = "ai:bundle:evict";
+    private static final String KEY_PREFIX = "ai:bundle:";
+
+    private final AiArticleBundleRepository bundleRepository;
+    private final AiArticleSummaryRepository aiArticleSummaryRepository;
+    private final AiArticleInsightRepository aiArticleInsightRepository;
+    private final AiQuizSetRepository aiQuizSetRepository;
+    private final AiTermCardRepository aiTermCardRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final AiArticleBundleProperties props;
+    private final MeterRegistry meterRegistry;
+
+    // access-order LRU (monitor = local)
+    private final LinkedHashMap<Long, LocalEntry> local = new LinkedHashMap<>(256, 0.75f, true);
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        Gauge.builder("ai_bundle_local_entries", local, m -> {
+            synchronized (m) {
+                return m.size();
+            }
+        }).register(meterRegistry);
+    }
+
+    // =========================
+    // 조회
+    // =========================
+
+    /**
+     * 로컬 → Redis → DB 순서로 조회 (아래 단계 hit 은 위 단계로 올림)
+     */
+    public Optional<AiArticleBundle> get(Long articleId) {
+        if (!props.isEnabled()) return Optional.empty();
+
+        synchronized (local) {
+            LocalEntry entry = local.get(articleId);
+            if (entry != null && entry.expiresAtNanos() > System.nanoTime()) {
+                inc("local", "hit");
+                return Optional.of(entry.bundle());
+            }
+            if (entry != null) local.remove(articleId);
+        }
+        inc("local", "miss");
+
+        String json = null;
+        try {
+            json = redisTemplate.opsForValue().get(KEY_PREFIX + articleId);
+            inc("redis", json == null ? "miss" : "hit");
+        } catch (Exception e) {
+            inc("redis", "error");
+            log.debug("[AI-BUNDLE] redis get failed article_id={}", articleId, e);
+        }
+
+        boolean fromRedis = json != null;
+        if (json == null) {
+            json = bundleRepository.findById(articleId).map(AiArticleBundleEntity::getBundleJson).orElse(null);
+            inc("db", json == null ? "miss" : "hit");
+            if (json == null) return Optional.empty();
+        }
+
+        AiArticleBundle bundle = fromJson(json);
+        if (bundle == null) {
+            evictRedis(articleId); // 형식이 바뀐 옛 문서 → 다음 조회는 DB/조립으로
+            return Optional.empty();
+        }
+
+        if (!fromRedis) putRedis(articleId, json);
+        putLocal(articleId, bundle);
+        return Optional.of(bundle);
+    }
+
+    /**
+     * 현재 저장된 결과로 묶음 조립 (최신 요약/인사이트/퀴즈 2종/용어 카드 3개 이상이 모두 있어야 함)
+     * - 트랜잭션 안에서 호출 (용어 카드의 Term 지연 로딩)
+     */
+    public Optional<AiArticleBundle> assemble(Long articleId) {
+        var summaryOpt = aiArticleSummaryRepository.findTopByArticleIdOrderByCreatedAtDesc(articleId);
+        var insightOpt = aiArticleInsightRepository.findTopByArticleIdOrderByCreatedAtDesc(articleId);
+        var quizContentOpt = aiQuizSetRepository.findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(articleId, AiJobType.QUIZ_CONTENT);
+        var quizTermOpt = aiQuizSetRepository.findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(articleId, AiJobType.QUIZ_TERM);
+        List<AiTermCardEntity> cards = aiTermCardRepository.findByArticleIdOrderByCardOrderAsc(articleId);
+
+        boolean ready = summaryOpt.isPresent()
+                && insightOpt.isPresent()
+                && quizContentOpt.isPresent()
+                && quizTermOpt.isPresent()
+                && cards.size() >= 3;
+        if (!ready) return Optional.empty();
+
+        AiArticleSummaryEntity summary = summaryOpt.get();
+        return Optional.of(new AiArticleBundle(
+                articleId,
+                summary.getJob().getPromptVersion(),
+                summary.getSummary3Lines(),
+                summary.getSummaryFull(),
+                cards.stream().map(TermCardResponse::from).toList(),
+                insightOpt.get().getInsightJson(),
+                List.of(
+                        QuizResponse.from(quizContentOpt.get()),
+                        QuizResponse.from(quizTermOpt.get())
+                )
+        ));
+    }
+
+    // =========================
+    // 조립 / 무효화 (AiJobService.advanceDag 트랜잭션 안)
+    // =========================
+
+    /**
+     * 기사 DAG 완료 시 조립 + 저장 (캐시는 커밋 이후)
+     */
+    public void build(Long articleId) {
+        if (!props.isEnabled()) return;
+
+        Optional<AiArticleBundle> bundle = assemble(articleId);
+        if (bundle.isEmpty()) {
+            incBuild("incomplete");
+            log.warn("[AI-BUNDLE] event_type=ai_bundle_incomplete article_id={}", articleId);
+            return;
+        }
+        save(bundle.get());
+        incBuild("built");
+    }
+
+    /**
+     * 재생성 Job 성공 → 이전 묶음 삭제 (없으면 0행)
+     */
+    public void invalidate(Long articleId) {
+        if (!props.isEnabled()) return;
+
+        if (bundleRepository.deleteByArticleId(articleId) > 0) {
+            afterCommit(() -> {
+                evictRedis(articleId);
+                publishEvict(articleId);
+            });
+            incBuild("invalidated");
+        }
+    }
+
+    /**
+     * 조회 경로에서 완성된 결과를 읽었는데 묶음이 없을 때 (기능 도입 전 완료 기사)
+     * - 호출한 조회는 읽기 전용 트랜잭션이라 별도 트랜잭션, 실패해도 응답에는 영향 없음
+     */
+    public void backfill(AiArticleBundle bundle) {
+        if (!props.isEnabled()) return;
+
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            tx.executeWithoutResult(status -> save(bundle));
+            incBuild("backfill");
+        } catch (Exception e) {
+            // 동시 backfill 의 PK 충돌 등 → 다음 조회가 다시 시도
+            log.debug("[AI-BUNDLE] backfill failed article_id={}", bundle.articleId(), e);
+        }
+    }
+
+    private void save(AiArticleBundle bundle) {
+        String json = toJson(bundle);
+        bundleRepository.findById(bundle.articleId()).ifPresentOrElse(
+                entity -> entity.rebuild(bundle.promptVersion(), json),
+                () -> bundleRepository.save(AiArticleBundleEntity.builder()
+                        .articleId(bundle.articleId())
+                        .promptVersion(bundle.promptVersion())
+                        .bundleJson(json)
+                        .build()));
+
+        afterCommit(() -> {
+            putRedis(bundle.articleId(), json);
+            publishEvict(bundle.articleId()); // 다른 인스턴스의 이전 묶음 제거
+            putLocal(bundle.articleId(), bundle);
+        });
+    }
+
+    // =========================
+    // 캐시
+    // =========================
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            Long articleId = Long.valueOf(body);
+            synchronized (local) {
+                local.remove(articleId);
+            }
+        } catch (NumberFormatException e) {
+            log.debug("[AI-BUNDLE] invalid evict message body={}", body);
+        }
+    }
+
+    private void putLocal(Long articleId, AiArticleBundle bundle) {
+        long expiresAt = System.nanoTime() + Duration.ofSeconds(props.getLocalTtlSeconds()).toNanos();
+        synchronized (local) {
+            local.put(articleId, new LocalEntry(bundle, expiresAt));
+            var it = local.entrySet().iterator();
+            while (local.size() > props.getLocalMaxEntries() && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+    }
+
+    private void putRedis(Long articleId, String json) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + articleId, json, Duration.ofHours(props.getRedisTtlHours()));
+        } catch (Exception e) {
+            inc("redis", "error");
+            log.debug("[AI-BUNDLE] redis put failed article_id={}", articleId, e);
+        }
+    }
+
+    private void evictRedis(Long articleId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + articleId);
+        } catch (Exception e) {
+            inc("redis", "error");
+            log.debug("[AI-BUNDLE] redis delete failed article_id={}", articleId, e);
+        }
+    }
+
+    private void publishEvict(Long articleId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(articleId));
+        } catch (Exception e) {
+            // 다른 인스턴스는 로컬 TTL 이 지나면 갱신
+            log.debug("[AI-BUNDLE] evict publish failed article_id={}", articleId, e);
+        }
+        synchronized (local) {
+            local.remove(articleId);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 (롤백된 묶음이 캐시에 남지 않도록)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private String toJson(AiArticleBundle bundle) {
+        try {
+            return objectMapper.writeValueAsString(bundle);
+        } catch (Exception e) {
+            throw new IllegalStateException("AI bundle serialize failed article_id=" + bundle.articleId(), e);
+        }
+    }
+
+    private AiArticleBundle fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, AiArticleBundle.class);
+        } catch (Exception e) {
+            inc("decode", "error");
+            log.warn("[AI-BUNDLE] event_type=ai_bundle_decode_error err={}", e.toString());
+            return null;
+        }
+    }
+
+    private void inc(String tier, String result) {
+        Counter.builder("ai_bundle_cache_total")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void incBuild(String result) {
+        Counter.builder("ai_bundle_builds_total")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record LocalEntry(AiArticleBundle bundle, long expiresAtNanos) {}
+}
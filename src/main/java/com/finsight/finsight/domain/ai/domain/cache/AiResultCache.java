@@ -0,0 +1,195 @@
+package com.finsight.finsight.domain.ai.domain.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.finsight.finsight.global.config.AiResultCacheProperties;
+import com.finsight.finsight.global.config.OpenAiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * AI 결과 캐시 (내용 주소 기반)
+ *
+ * - key: SHA-256(model, temperature, max_output_tokens, schema 이름/본문, promptVersion, 렌더링된 input 메시지)
+ *   (model / max_output_tokens 는 실제 요청 본문에 들어가는 값: 통합 모드는 fused-max-output-tokens)
+ *   → 같은 입력이면 기사/Job 이 달라도 같은 키 (재처리, 프롬프트 버전 backfill, 전재 기사)
+ * - value: OpenAI 출력 텍스트 (JSON) 원문
+ * - 2단: 로컬 LRU (localMaxBytes 로 크기 제한) → Redis (ai:result:{key}, ttl)
+ * - 검증을 통과해 저장까지 끝난 출력만 put (AiJobService.complete 이후)
+ * - Redis 장애 시 miss 처리 (OpenAI 호출로 진행)
+ * - 메트릭: ai_result_cache_total{tier,result}, ai_result_cache_bytes_total{source},
+ *           ai_result_cache_local_entries, ai_result_cache_local_bytes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiResultCache {
+
+    private static final String KEY_PREFIX = "ai:result:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final OpenAiProperties openAiProps;
+    private final AiResultCacheProperties props;
+    private final MeterRegistry meterRegistry;
+
+    // access-order LRU, 크기는 문자열 길이 합(바이트 근사)으로 제한
+    private final LinkedHashMap<String, String> local = new LinkedHashMap<>(256, 0.75f, true);
+    private long localBytes;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("ai_result_cache_local_entries", this, c -> c.localStats(false))
+                .register(meterRegistry);
+        Gauge.builder("ai_result_cache_local_bytes", this, c -> c.localStats(true))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 (요청 본문에 영향을 주는 값 전부)
+     * @param model           요청 본문의 model (OpenAiClient.buildRequestBody 와 같은 값)
+     * @param maxOutputTokens 요청 본문의 max_output_tokens → 다른 상한에서 잘린 출력을 재사용하지 않음
+     */
+    public String key(String model, int maxOutputTokens, String schemaName, JsonNode schema,
+                      String promptVersion, List<Map<String, String>> input) {
+        MessageDigest sha = sha256();
+        update(sha, model);
+        update(sha, String.valueOf(openAiProps.getTemperature()));
+        update(sha, String.valueOf(maxOutputTokens));
+        update(sha, schemaName);
+        update(sha, schema == null ? "" : schema.toString());
+        update(sha, promptVersion);
+        for (Map<String, String> message : input) {
+            update(sha, message.get("role"));
+            update(sha, message.get("content"));
+        }
+        return HexFormat.of().formatHex(sha.digest());
+    }
+
+    /**
+     * 로컬 → Redis 순서로 조회 (Redis hit 은 로컬로 올림). 블로킹 호출.
+     */
+    public Optional<String> get(String key) {
+        if (!props.isEnabled()) return Optional.empty();
+
+        String value;
+        synchronized (local) {
+            value = local.get(key);
+        }
+        if (value != null) {
+            record("local", "hit", value);
+            return Optional.of(value);
+        }
+        inc("local", "miss");
+
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        } catch (Exception e) {
+            inc("redis", "error");
+            log.debug("[AI-CACHE] redis get failed key={}", key, e);
+            return Optional.empty();
+        }
+
+        if (value == null) {
+            inc("redis", "miss");
+            return Optional.empty();
+        }
+
+        record("redis", "hit", value);
+        putLocal(key, value);
+        return Optional.of(value);
+    }
+
+    /**
+     * 검증된 출력 저장 (로컬 + Redis). 블로킹 호출.
+     */
+    public void put(String key, String value) {
+        if (!props.isEnabled() || value == null) return;
+
+        putLocal(key, value);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, value, Duration.ofHours(props.getTtlHours()));
+            Counter.builder("ai_result_cache_bytes_total")
+                    .tag("source", "write")
+                    .register(meterRegistry)
+                    .increment(bytes(value));
+        } catch (Exception e) {
+            inc("redis", "error");
+            log.debug("[AI-CACHE] redis put failed key={}", key, e);
+        }
+    }
+
+    private void putLocal(String key, String value) {
+        long size = bytes(value);
+        if (size > props.getLocalMaxBytes()) return; // 한 항목이 전체보다 크면 로컬에는 두지 않음
+
+        synchronized (local) {
+            String prev = local.put(key, value);
+            if (prev != null) localBytes -= bytes(prev);
+            localBytes += size;
+
+            // 가장 오래 안 쓴 항목부터 제거
+            Iterator<Map.Entry<String, String>> it = local.entrySet().iterator();
+            while (localBytes > props.getLocalMaxBytes() && it.hasNext()) {
+                Map.Entry<String, String> eldest = it.next();
+                localBytes -= bytes(eldest.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    private double localStats(boolean bytes) {
+        synchronized (local) {
+            return bytes ? localBytes : local.size();
+        }
+    }
+
+    private void record(String tier, String result, String value) {
+        inc(tier, result);
+        Counter.builder("ai_result_cache_bytes_total")
+                .tag("source", tier)
+                .register(meterRegistry)
+                .increment(bytes(value));
+    }
+
+    private void inc(String tier, String result) {
+        Counter.builder("ai_result_cache_total")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 한국어 위주 JSON → UTF-8 기준 글자당 최대 3바이트로 근사 (인코딩 없이 계산)
+    private static long bytes(String value) {
+        return value.length() * 3L;
+    }
+
+    private static void update(MessageDigest sha, String part) {
+        if (part != null) sha.update(part.getBytes(StandardCharsets.UTF_8));
+        sha.update((byte) 0); // 구분자 (경계가 다른 입력이 같은 해시가 되지 않게)
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.finsight.finsight.domain.ai.domain.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
+import com.finsight.finsight.global.exception.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * OpenAI Batch API (/files, /batches) 호출
+ *
+ * - openAiBatchWebClient: openAiWebClient 와 같은 base-url/인증 (openai.base-url 을 스텁으로 바꾸면 로컬 검증 가능)
+ *   결과 파일이 커서 응답 버퍼는 ai.batch.max-file-bytes, timeout 은 ai.batch.file-timeout-ms
+ * - 스케줄러 스레드에서만 쓰므로 블로킹 호출
+ * - 실패는 AppException(AiErrorCode) (OpenAiClient 와 같은 매핑)
+ */
+@Slf4j
+@Component
+public class OpenAiBatchClient {
+
+    private static final String ENDPOINT = "/v1/responses";
+    private static final String COMPLETION_WINDOW = "24h";
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+
+    public OpenAiBatchClient(WebClient openAiBatchWebClient, MeterRegistry meterRegistry) {
+        this.webClient = openAiBatchWebClient;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 배치 입력 파일 업로드 (purpose=batch)
+     * @return file id
+     */
+    public String uploadFile(String filename, byte[] jsonl) {
+        MultipartBodyBuilder parts = new MultipartBodyBuilder();
+        parts.part("purpose", "batch");
+        parts.part("file", new ByteArrayResource(jsonl) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        }).contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        JsonNode file = call("upload_file", webClient.post()
+                .uri("/files")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(parts.build()))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toAppException)
+                .bodyToMono(JsonNode.class));
+        return file.path("id").asText();
+    }
+
+    public BatchInfo createBatch(String inputFileId) {
+        return BatchInfo.from(call("create_batch", webClient.post()
+                .uri("/batches")
+                .bodyValue(Map.of(
+                        "input_file_id", inputFileId,
+                        "endpoint", ENDPOINT,
+                        "completion_window", COMPLETION_WINDOW))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toAppException)
+                .bodyToMono(JsonNode.class)));
+    }
+
+    public BatchInfo getBatch(String batchId) {
+        return BatchInfo.from(call("get_batch", webClient.get()
+                .uri("/batches/{id}", batchId)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toAppException)
+                .bodyToMono(JsonNode.class)));
+    }
+
+    /**
+     * 결과/에러 파일 내용 (JSONL)
+     */
+    public String fileContent(String fileId) {
+        return call("file_content", webClient.get()
+                .uri("/files/{id}/content", fileId)
+                .accept(MediaType.ALL)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toAppException)
+                .bodyToMono(String.class)
+                .defaultIfEmpty(""));
+    }
+
+    private <T> T call(String op, Mono<T> request) {
+        try {
+            T result = request.block();
+            inc(op, "success");
+            return result;
+        } catch (AppException e) {
+            inc(op, "error");
+            log.warn("[OPENAI-BATCH] event_type=batch_api_error op={} error_code={}", op, e.getErrorCode().getCode());
+            throw e;
+        } catch (Exception e) {
+            inc(op, "error");
+            log.warn("[OPENAI-BATCH] event_type=batch_api_error op={}", op, e);
+            throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+        }
+    }
+
+    private Mono<? extends Throwable> toAppException(ClientResponse response) {
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> new AppException(OpenAiClient.parseErrorCode(response.statusCode().value(), body)));
+    }
+
+    private void inc(String op, String status) {
+        Counter.builder("openai_batch_api_requests_total")
+                .tag("op", op)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * /batches 응답 중 필요한 값
+     * - status: validating, failed, in_progress, finalizing, completed, expired, cancelling, cancelled
+     */
+    public record BatchInfo(String id, String status, String outputFileId, String errorFileId) {
+
+        static BatchInfo from(JsonNode node) {
+            return new BatchInfo(
+                    node.path("id").asText(null),
+                    node.path("status").asText(null),
+                    node.path("output_file_id").asText(null),
+                    node.path("error_file_id").asText(null));
+        }
+
+        /**
+         * 더 이상 바뀌지 않는 상태 (결과 반영 대상)
+         */
+        public boolean isTerminal() {
+            return switch (status == null ? "" : status) {
+                case "completed", "failed", "expired", "cancelled" -> true;
+                default -> false;
+            };
+        }
+    }
+}
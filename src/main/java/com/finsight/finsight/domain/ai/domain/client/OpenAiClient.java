@@ -2,21 +2,23 @@ package com.finsight.finsight.domain.ai.domain.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.domain.ai.domain.throttle.OpenAiConcurrencyLimiter;
 import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
 import com.finsight.finsight.global.config.OpenAiProperties;
 import com.finsight.finsight.global.exception.AppException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.*;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
@@ -28,13 +30,54 @@ public class OpenAiClient {
     private final WebClient openAiWebClient;
     private final OpenAiProperties props;
     private final MeterRegistry meterRegistry;
+    private final OpenAiConcurrencyLimiter limiter;
 
+    /**
+     * 동기 호출 (응답이 올 때까지 호출 스레드 대기)
+     */
     public JsonNode createJsonSchemaResponse(List<Map<String, String>> input, String schemaName, JsonNode jsonSchema) {
+        return createJsonSchemaResponseAsync(input, schemaName, jsonSchema).block();
+    }
+
+    public JsonNode createJsonSchemaResponse(List<Map<String, String>> input, String schemaName,
+                                             JsonNode jsonSchema, int maxOutputTokens) {
+        return createJsonSchemaResponseAsync(input, schemaName, jsonSchema, maxOutputTokens).block();
+    }
+
+    /**
+     * 비동기 호출 (구독 시점에 요청, 응답 대기 중 스레드를 잡지 않음)
+     * - 실패는 AppException(AiErrorCode) 으로 전달 (timeout 포함)
+     */
+    public Mono<JsonNode> createJsonSchemaResponseAsync(List<Map<String, String>> input, String schemaName, JsonNode jsonSchema) {
+        return createJsonSchemaResponseAsync(input, schemaName, jsonSchema, props.getMaxOutputTokens());
+    }
+
+    /**
+     * 비동기 호출 (출력 토큰 상한 지정, 통합 스키마처럼 출력이 긴 호출용)
+     */
+    public Mono<JsonNode> createJsonSchemaResponseAsync(List<Map<String, String>> input, String schemaName,
+                                                        JsonNode jsonSchema, int maxOutputTokens) {
+        Map<String, Object> body = buildRequestBody(input, schemaName, jsonSchema, maxOutputTokens);
+        return callApi(body, schemaName, estimateTokens(input, maxOutputTokens));
+    }
+
+    /**
+     * 요청 본문에 들어가는 model (결과 캐시 키도 이 값으로)
+     */
+    public String requestModel() {
+        return props.getModel();
+    }
+
+    /**
+     * /responses 요청 본문 (Batch API JSONL 의 body 로도 사용)
+     */
+    public Map<String, Object> buildRequestBody(List<Map<String, String>> input, String schemaName,
+                                                JsonNode jsonSchema, int maxOutputTokens) {
         Map<String, Object> body = new LinkedHashMap<>();
-        body.put("model", props.getModel());
+        body.put("model", requestModel());
         body.put("input", input);
         body.put("temperature", props.getTemperature());
-        body.put("max_output_tokens", props.getMaxOutputTokens());
+        body.put("max_output_tokens", maxOutputTokens);
         body.put("truncation", "auto");
         body.put("store", false);
         body.put("text", Map.of(
@@ -45,65 +88,88 @@ public class OpenAiClient {
                         "schema", jsonSchema
                 )
         ));
-
-        return callApi(body, schemaName);
+        return body;
     }
 
     /**
      * API 호출 (재시도 없음 - 재시도는 Job 레벨에서 처리)
+     * - 동시 요청 permit(OpenAiConcurrencyLimiter) 을 받은 뒤 호출, 응답 헤더/결과를 limiter 에 되먹임
+     * - latency 는 permit 대기 이후 실제 호출 구간만 기록 (대기는 openai_limiter_wait_seconds)
      */
-    private JsonNode callApi(Map<String, Object> body, String schemaName) {
-        Timer.Sample sample = Timer.start(meterRegistry);
+    private Mono<JsonNode> callApi(Map<String, Object> body, String schemaName, long estimatedTokens) {
+        return limiter.acquire(estimatedTokens)
+                .flatMap(permit -> send(body, schemaName)
+                        .doFinally(signal -> permit.release()));
+    }
 
-        try {
-            JsonNode result = openAiWebClient.post()
+    private Mono<JsonNode> send(Map<String, Object> body, String schemaName) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return openAiWebClient.post()
                     .uri("/responses")
                     .bodyValue(body)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, this::handleErrorResponse)
-                    .bodyToMono(JsonNode.class)
-                    .block(Duration.ofMillis(props.getTimeoutMs()));
-
-            // 성공 메트릭
-            long latencyMs = recordLatency(sample, schemaName, "success");
-            incApiCounter(schemaName, "success", null);
-
-            // 성공 로그 (토큰 정보 포함)
-            int totalTokens = extractTotalTokens(result);
-            log.info("[OPENAI] event_type=api_success schema={} latency_ms={} total_tokens={}",
-                    schemaName, latencyMs, totalTokens);
-
-            return result;
+                    .exchangeToMono(response -> {
+                        limiter.onHeaders(response.headers().asHttpHeaders());
+                        if (response.statusCode().isError()) {
+                            return handleErrorResponse(response).flatMap(e -> Mono.<JsonNode>error(e));
+                        }
+                        return response.bodyToMono(JsonNode.class);
+                    })
+                    .switchIfEmpty(Mono.error(() -> new OpenAiApiException(200, AiErrorCode.OPENAI_API_FAIL, "")))
+                    .timeout(Duration.ofMillis(props.getTimeoutMs()))
+                    .doOnNext(result -> {
+                        limiter.onSuccess();
+
+                        // 성공 메트릭
+                        long latencyMs = recordLatency(sample, schemaName, "success");
+                        incApiCounter(schemaName, "success", null);
+
+                        // 성공 로그 (토큰 정보 포함)
+                        int totalTokens = extractTotalTokens(result);
+                        log.info("[OPENAI] event_type=api_success schema={} latency_ms={} total_tokens={}",
+                                schemaName, latencyMs, totalTokens);
+                    })
+                    .onErrorMap(e -> toAppException(e, sample, schemaName));
+        });
+    }
 
-        } catch (OpenAiApiException e) {
+    /**
+     * 호출 실패 → AppException 변환 (메트릭/로그 기록)
+     */
+    private Throwable toAppException(Throwable e, Timer.Sample sample, String schemaName) {
+        if (e instanceof OpenAiApiException apiError) {
             recordLatency(sample, schemaName, "error");
-            AiErrorCode errorCode = e.getErrorCode();
+            AiErrorCode errorCode = apiError.getErrorCode();
+            if (errorCode == AiErrorCode.OPENAI_RATE_LIMIT) limiter.onBackoff("http_429");
 
             // 구조화 로그 (키/프롬프트 제외)
             log.warn("[OPENAI] event_type=ai_api_error schema={} http_status={} error_code={} is_retryable={}",
-                    schemaName, e.getHttpStatus(), errorCode.getCode(), errorCode.isRetryable());
+                    schemaName, apiError.getHttpStatus(), errorCode.getCode(), errorCode.isRetryable());
 
             incApiCounter(schemaName, "error", errorCode.getCode());
-            throw new AppException(errorCode);
+            return new AppException(errorCode);
+        }
 
-        } catch (IllegalStateException e) {
-            // Timeout
+        // Mono.timeout 또는 커넥션 ReadTimeoutHandler (같은 timeoutMs)
+        if (e instanceof TimeoutException || e.getCause() instanceof ReadTimeoutException) {
             recordLatency(sample, schemaName, "timeout");
+            limiter.onBackoff("timeout");
             log.warn("[OPENAI] event_type=ai_api_timeout schema={} timeout_ms={}", schemaName, props.getTimeoutMs());
 
             incApiCounter(schemaName, "timeout", AiErrorCode.OPENAI_TIMEOUT.getCode());
-            throw new AppException(AiErrorCode.OPENAI_TIMEOUT);
+            return new AppException(AiErrorCode.OPENAI_TIMEOUT);
+        }
 
-        } catch (AppException e) {
-            throw e;
+        if (e instanceof AppException) {
+            return e;
+        }
 
-        } catch (Exception e) {
-            recordLatency(sample, schemaName, "error");
-            log.error("[OPENAI] event_type=ai_api_unexpected schema={}", schemaName, e);
+        recordLatency(sample, schemaName, "error");
+        log.error("[OPENAI] event_type=ai_api_unexpected schema={}", schemaName, e);
 
-            incApiCounter(schemaName, "error", AiErrorCode.OPENAI_API_FAIL.getCode());
-            throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-        }
+        incApiCounter(schemaName, "error", AiErrorCode.OPENAI_API_FAIL.getCode());
+        return new AppException(AiErrorCode.OPENAI_API_FAIL);
     }
 
     private Mono<Throwable> handleErrorResponse(ClientResponse response) {
@@ -119,7 +185,7 @@ public class OpenAiClient {
     /**
      * HTTP 상태 코드와 응답 본문으로 AiErrorCode 결정
      */
-    private AiErrorCode parseErrorCode(int httpStatus, String responseBody) {
+    static AiErrorCode parseErrorCode(int httpStatus, String responseBody) {
         String errorCode = extractErrorCode(responseBody);
 
         // 에러 코드 기반 매핑 (우선)
@@ -153,7 +219,7 @@ public class OpenAiClient {
         };
     }
 
-    private String extractErrorCode(String responseBody) {
+    private static String extractErrorCode(String responseBody) {
         if (responseBody == null || responseBody.isBlank()) return null;
         try {
             JsonNode root = OM.readTree(responseBody);
@@ -191,6 +257,19 @@ public class OpenAiClient {
         return nanos / 1_000_000; // nanoseconds to milliseconds
     }
 
+    /**
+     * 요청 토큰 추정 (한도 예산 차감용): 입력 글자 수 / 2 + max_output_tokens
+     * - 한국어 기사 기준 보수적으로 (실제 사용량은 응답 헤더로 보정됨)
+     */
+    private long estimateTokens(List<Map<String, String>> input, int maxOutputTokens) {
+        long chars = 0;
+        for (Map<String, String> message : input) {
+            String content = message.get("content");
+            if (content != null) chars += content.length();
+        }
+        return chars / 2 + maxOutputTokens;
+    }
+
     private int extractTotalTokens(JsonNode result) {
         if (result == null) return 0;
         JsonNode usage = result.path("usage");
@@ -0,0 +1,137 @@
+package com.finsight.finsight.domain.ai.domain.dag;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 기사별 AI Job 의존성 그래프 (DAG)
+ *
+ * <pre>
+ * SUMMARY ─┬─ TERM_CARDS ── QUIZ_TERM
+ *          ├─ INSIGHT
+ *          └─ QUIZ_CONTENT
+ * </pre>
+ *
+ * - 자식 Job은 부모가 모두 SUCCESS가 되는 순간 enqueue (AiJobService.advanceDag)
+ * - 모든 노드가 SUCCESS면 기사 AI 작업 완료 (ai_articles_completed_total / ai_article_critical_path_seconds)
+ * - 배정 순서는 남은 임계 경로(height)가 긴 타입 우선
+ */
+public final class AiJobDag {
+
+    private static final Map<AiJobType, Set<AiJobType>> PARENTS = new EnumMap<>(AiJobType.class);
+    private static final Map<AiJobType, Set<AiJobType>> CHILDREN = new EnumMap<>(AiJobType.class);
+    private static final Map<AiJobType, Integer> HEIGHT = new EnumMap<>(AiJobType.class);
+    private static final List<AiJobType> TOPOLOGICAL_ORDER;
+
+    static {
+        for (AiJobType type : AiJobType.values()) {
+            PARENTS.put(type, EnumSet.noneOf(AiJobType.class));
+            CHILDREN.put(type, EnumSet.noneOf(AiJobType.class));
+        }
+
+        edge(AiJobType.SUMMARY, AiJobType.TERM_CARDS);
+        edge(AiJobType.SUMMARY, AiJobType.INSIGHT);
+        edge(AiJobType.SUMMARY, AiJobType.QUIZ_CONTENT);
+        edge(AiJobType.TERM_CARDS, AiJobType.QUIZ_TERM);
+
+        for (AiJobType type : AiJobType.values()) height(type, EnumSet.noneOf(AiJobType.class));
+        TOPOLOGICAL_ORDER = Collections.unmodifiableList(sort());
+    }
+
+    private AiJobDag() {
+    }
+
+    public static Set<AiJobType> parentsOf(AiJobType type) {
+        return Collections.unmodifiableSet(PARENTS.get(type));
+    }
+
+    public static Set<AiJobType> childrenOf(AiJobType type) {
+        return Collections.unmodifiableSet(CHILDREN.get(type));
+    }
+
+    /**
+     * 시작 노드 (크롤러가 enqueue 하는 SUMMARY)
+     */
+    public static AiJobType root() {
+        return TOPOLOGICAL_ORDER.get(0);
+    }
+
+    /**
+     * 부모가 모두 SUCCESS 인지
+     */
+    public static boolean isRunnable(AiJobType type, Set<AiJobType> succeeded) {
+        return succeeded.containsAll(PARENTS.get(type));
+    }
+
+    /**
+     * 모든 노드가 SUCCESS 인지 (기사 AI 작업 완료)
+     */
+    public static boolean isComplete(Set<AiJobType> succeeded) {
+        return succeeded.containsAll(PARENTS.keySet());
+    }
+
+    /**
+     * 위상 정렬 순서 (같은 단계면 남은 임계 경로가 긴 타입 먼저)
+     * 예: SUMMARY → TERM_CARDS → INSIGHT → QUIZ_CONTENT → QUIZ_TERM
+     */
+    public static List<AiJobType> topologicalOrder() {
+        return TOPOLOGICAL_ORDER;
+    }
+
+    // =========================
+    // 그래프 구성
+    // =========================
+
+    private static void edge(AiJobType parent, AiJobType child) {
+        CHILDREN.get(parent).add(child);
+        PARENTS.get(child).add(parent);
+    }
+
+    /**
+     * 싱크까지 남은 최장 경로 길이 (순환이면 초기화 실패)
+     */
+    private static int height(AiJobType type, Set<AiJobType> visiting) {
+        Integer cached = HEIGHT.get(type);
+        if (cached != null) return cached;
+        if (!visiting.add(type)) throw new IllegalStateException("AI job DAG has a cycle at " + type);
+
+        int h = 0;
+        for (AiJobType child : CHILDREN.get(type)) {
+            h = Math.max(h, height(child, visiting) + 1);
+        }
+        visiting.remove(type);
+        HEIGHT.put(type, h);
+        return h;
+    }
+
+    private static List<AiJobType> sort() {
+        Map<AiJobType, Integer> remaining = new EnumMap<>(AiJobType.class);
+        PriorityQueue<AiJobType> ready = new PriorityQueue<>(
+                Comparator.comparing((AiJobType t) -> HEIGHT.get(t)).reversed()
+                        .thenComparing(Enum::ordinal));
+
+        for (AiJobType type : AiJobType.values()) {
+            remaining.put(type, PARENTS.get(type).size());
+            if (PARENTS.get(type).isEmpty()) ready.add(type);
+        }
+
+        List<AiJobType> order = new ArrayList<>(remaining.size());
+        while (!ready.isEmpty()) {
+            AiJobType type = ready.poll();
+            order.add(type);
+            for (AiJobType child : CHILDREN.get(type)) {
+                if (remaining.merge(child, -1, Integer::sum) == 0) ready.add(child);
+            }
+        }
+        return order;
+    }
+}
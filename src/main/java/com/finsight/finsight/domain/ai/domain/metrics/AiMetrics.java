@@ -6,9 +6,11 @@ import io.micrometer.core.instrument.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @RequiredArgsConstructor
@@ -16,6 +18,7 @@ public class AiMetrics {
 
     private final MeterRegistry meterRegistry;
     private final Map<String, AtomicLong> queueSize = new ConcurrentHashMap<>();
+    private final Map<String, AtomicReference<Double>> typeGauges = new ConcurrentHashMap<>();
 
     public void incEnqueue(AiJobType type, String result) {
         // result: ok | dup | skipped
@@ -60,6 +63,22 @@ public class AiMetrics {
                 .register(meterRegistry));
     }
 
+    /**
+     * SUMMARY 입력 본문 추정 토큰 수 (stage: raw=압축 전, condensed=압축 후)
+     */
+    public void recordSummaryInputTokens(int raw, int condensed) {
+        DistributionSummary.builder("ai_summary_input_tokens")
+                .tag("stage", "raw")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry)
+                .record(raw);
+        DistributionSummary.builder("ai_summary_input_tokens")
+                .tag("stage", "condensed")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry)
+                .record(condensed);
+    }
+
     public void setQueueSize(AiJobType type, AiJobStatus status, long value) {
         String key = type.name() + ":" + status.name();
         AtomicLong holder = queueSize.computeIfAbsent(key, k -> {
@@ -73,11 +92,63 @@ public class AiMetrics {
         holder.set(value);
     }
 
+    /**
+     * 가장 오래 기다린 Job 의 나이 (requested_at 이후 초, 대기 Job 이 없으면 0)
+     */
+    public void setQueueOldestAgeSeconds(AiJobType type, AiJobStatus status, long seconds) {
+        String key = "oldest:" + type.name() + ":" + status.name();
+        AtomicLong holder = queueSize.computeIfAbsent(key, k -> {
+            AtomicLong v = new AtomicLong(0);
+            Gauge.builder("ai_jobs_queue_oldest_age_seconds", v, AtomicLong::get)
+                    .tag("type", type.name())
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            return v;
+        });
+        holder.set(seconds);
+    }
+
+    /**
+     * 최근 윈도우 처리율 (SUCCESS + FAILED 완료 수 / 초)
+     */
+    public void setProcessingRate(AiJobType type, double jobsPerSecond) {
+        setTypeGauge("ai_jobs_processing_rate", type, jobsPerSecond);
+    }
+
+    /**
+     * 대기열 소진 예상 시간 (PENDING + RETRY_WAIT + RUNNING / 처리율, 처리가 멈춘 채 쌓여 있으면 -1)
+     */
+    public void setQueueDrainSeconds(AiJobType type, double seconds) {
+        setTypeGauge("ai_jobs_queue_drain_seconds", type, seconds);
+    }
+
+    private void setTypeGauge(String name, AiJobType type, double value) {
+        AtomicReference<Double> holder = typeGauges.computeIfAbsent(name + ":" + type.name(), k -> {
+            AtomicReference<Double> v = new AtomicReference<>(0.0);
+            Gauge.builder(name, v, AtomicReference::get)
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            return v;
+        });
+        holder.set(value);
+    }
+
+    /**
+     * 우선순위 부스트 요청 (result: boosted=미완료 Job 을 올림, noop=이미 부스트됨/대상 없음)
+     */
+    public void incBoost(String source, int boostedJobs) {
+        Counter.builder("ai_jobs_boost_total")
+                .tag("source", source)
+                .tag("result", boostedJobs > 0 ? "boosted" : "noop")
+                .register(meterRegistry)
+                .increment();
+    }
+
     // ========== Article Completion Metrics ==========
 
     /**
      * AI 작업이 모두 완료된 article 카운터
-     * QUIZ_TERM이 성공적으로 완료되면 호출
+     * 기사의 Job DAG 전체가 SUCCESS 가 되는 순간 한 번 호출 (AiJobService.advanceDag)
      */
     public void incArticleCompleted() {
         Counter.builder("ai_articles_completed_total")
@@ -86,6 +157,17 @@ public class AiMetrics {
                 .increment();
     }
 
+    /**
+     * 기사 AI 임계 경로 시간: SUMMARY enqueue → DAG 전체 SUCCESS
+     */
+    public void recordArticleCriticalPath(Duration duration) {
+        Timer.builder("ai_article_critical_path_seconds")
+                .description("SUMMARY enqueue부터 모든 AI Job 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry)
+                .record(duration);
+    }
+
     // ========== Sweeper Metrics ==========
 
     public void incSweeperEvent(String event) {
@@ -0,0 +1,106 @@
+package com.finsight.finsight.domain.ai.domain.metrics;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.domain.ai.persistence.repository.AiJobRepository;
+import com.finsight.finsight.global.config.AiQueueTelemetryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI Job 큐 텔레메트리
+ *
+ * interval-ms 마다 ai_jobs 를 (job_type, status) 그룹 쿼리로 샘플링해서 게이지로 노출:
+ * (대기/실행 상태는 idx_ai_job_status, 최근 끝난 SUCCESS/FAILED 는 idx_ai_job_finished 로 나눠서 조회)
+ * - ai_jobs_queue_size{type,status}: PENDING / RETRY_WAIT / RUNNING / SUSPENDED 행 수
+ * - ai_jobs_queue_oldest_age_seconds{type,status}: 가장 오래 기다린 PENDING / RETRY_WAIT Job 의 나이
+ * - ai_jobs_processing_rate{type}: 최근 rate-window-minutes 동안 끝난(SUCCESS + FAILED) Job 수 / 초
+ * - ai_jobs_queue_drain_seconds{type}: (PENDING + RETRY_WAIT + RUNNING) / 처리율, 처리 없이 쌓여 있으면 -1
+ *
+ * - 값은 DB 기준이라 모든 인스턴스가 같은 값을 냄 → 대시보드에서는 max by (type, status) 로 집계
+ * - 결과에 없는 (type, status) 는 0 으로 덮어서 지난 값이 남지 않게
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiQueueTelemetry {
+
+    private static final List<AiJobStatus> SAMPLED = List.of(
+            AiJobStatus.PENDING, AiJobStatus.RETRY_WAIT, AiJobStatus.RUNNING, AiJobStatus.SUSPENDED);
+    private static final List<AiJobStatus> QUEUED = List.of(AiJobStatus.PENDING, AiJobStatus.RETRY_WAIT);
+
+    private final AiJobRepository aiJobRepository;
+    private final AiMetrics aiMetrics;
+    private final AiQueueTelemetryProperties props;
+
+    @Scheduled(fixedDelayString = "${ai.telemetry.interval-ms:30000}")
+    public void sample() {
+        if (!props.isEnabled()) {
+            return;
+        }
+
+        try {
+            long windowSeconds = props.getRateWindowMinutes() * 60L;
+            List<Object[]> rows = new ArrayList<>(aiJobRepository.sampleActiveQueue());
+            rows.addAll(aiJobRepository.sampleRecentFinished(windowSeconds));
+            Map<AiJobType, Map<AiJobStatus, long[]>> byType = group(rows);
+
+            for (AiJobType type : AiJobType.values()) {
+                Map<AiJobStatus, long[]> byStatus = byType.getOrDefault(type, Map.of());
+
+                for (AiJobStatus status : SAMPLED) {
+                    aiMetrics.setQueueSize(type, status, count(byStatus, status));
+                }
+                for (AiJobStatus status : QUEUED) {
+                    long[] row = byStatus.get(status);
+                    aiMetrics.setQueueOldestAgeSeconds(type, status, row == null ? 0 : row[1]);
+                }
+
+                long finished = count(byStatus, AiJobStatus.SUCCESS) + count(byStatus, AiJobStatus.FAILED);
+                long backlog = count(byStatus, AiJobStatus.PENDING)
+                        + count(byStatus, AiJobStatus.RETRY_WAIT)
+                        + count(byStatus, AiJobStatus.RUNNING);
+                double rate = (double) finished / windowSeconds;
+
+                aiMetrics.setProcessingRate(type, rate);
+                aiMetrics.setQueueDrainSeconds(type, drainSeconds(backlog, rate));
+            }
+        } catch (Exception e) {
+            log.warn("[AI-TELEMETRY] event_type=ai_queue_sample_error", e);
+        }
+    }
+
+    private static double drainSeconds(long backlog, double rate) {
+        if (backlog == 0) return 0;
+        if (rate == 0) return -1; // 쌓여 있는데 최근 윈도우에 끝난 게 없음 (정체)
+        return backlog / rate;
+    }
+
+    /**
+     * [job_type, status, count, oldest_age_seconds] → type → status → {count, oldest_age_seconds}
+     */
+    private static Map<AiJobType, Map<AiJobStatus, long[]>> group(List<Object[]> rows) {
+        Map<AiJobType, Map<AiJobStatus, long[]>> byType = new EnumMap<>(AiJobType.class);
+        for (Object[] row : rows) {
+            AiJobType type = AiJobType.valueOf((String) row[0]);
+            AiJobStatus status = AiJobStatus.valueOf((String) row[1]);
+            long count = ((Number) row[2]).longValue();
+            long oldest = row[3] == null ? 0 : ((Number) row[3]).longValue();
+            byType.computeIfAbsent(type, t -> new EnumMap<>(AiJobStatus.class))
+                    .put(status, new long[]{count, oldest});
+        }
+        return byType;
+    }
+
+    private static long count(Map<AiJobStatus, long[]> byStatus, AiJobStatus status) {
+        long[] row = byStatus.get(status);
+        return row == null ? 0 : row[0];
+    }
+}
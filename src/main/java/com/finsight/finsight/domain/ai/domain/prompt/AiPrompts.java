@@ -185,6 +185,52 @@ public class AiPrompts {
             """.formatted(safe(termCardsText));
     }
 
+    /**
+     * FUSED (SUMMARY + TERM_CARDS + INSIGHT + QUIZ_CONTENT 를 호출 1번으로)
+     * - 본문/시스템 프롬프트를 한 번만 보냄
+     * - termCards/insight/quizContent 는 같은 응답의 summaryFull 을 근거로 작성
+     * - 항목별 규칙은 단독 프롬프트(summaryUser, termCardsUser, insightUser, quizContentUser)와 같음
+     */
+    public static String fusedUser(String title, String press, LocalDateTime publishedAt, String content) {
+        return """
+            [기사 정보]
+            - 제목: %s
+            - 언론사: %s
+            - 발행시각: %s
+
+            [기사 본문]
+            %s
+
+            [요구사항 - JSON]
+            아래 항목을 한 번에 작성합니다. termCards / insight / quizContent 는 모두 1)의 summaryFull 에 근거합니다.
+
+            1) summary3 (배열 3개 고정) / summaryFull (문자열)
+               - summary3: 사건 / 이유·배경 / 영향·전망 순서, 각 1문장, 3줄 합계 "총 100자 안팎", 짧고 친절한 "~요" 체
+               - summaryFull: 배경 → 논쟁/핵심 주장 → 전망 흐름, 8문장 안팎, 5W1H와 수치/사실 포함, "~요" 체
+               - 기사에 없는 내용 추가 금지, 투자 조언/단정 금지, 마크업/하이라이트/불릿 금지
+
+            2) termCards.cards (정확히 3개)
+               - term: 경제/금융 용어(지표·정책·시장 구조·거시/미시 개념)만, 기업명/인명/지명/상품명 금지, 중복 금지
+               - highlightText: summaryFull 에 실제로 있는 문장/구절 1개를 그대로 인용 (임의 생성 금지)
+               - definition: 일반적으로 통용되는 의미 2~3문장 + 마지막 문장에 일상 비유/간단 예시 1개
+                 * "~이에요/~예요" 체, 이번 기사/기업/사건에만 맞춘 정의 금지, 어려운 용어는 괄호로 짧게 풀이
+
+            3) insight.insights (정확히 3개)
+               - 금융 초보자용, 짧고 친절한 "~이에요/~예요" 체, 각 문장 15~25자 정도
+               - 카테고리(금리/물가/주택/주가 등) 규정, 특정 집단 영향, 생활/습관 조언을 골고루
+               - 2인칭 대신 3인칭 표현, 정치/투자 편향·매매 추천 금지
+
+            4) quizContent.questions (4지선다 3문항)
+               - 개념/정의 1 + 인과관계/배경-영향 1 + 지표/정책/시장반응 해석 1
+               - question/options 는 각 1문장, 100자 이내, 보기 길이 비슷하게, 정답은 근거로 명확히 1개
+               - 미세 수치/세부 날짜만 맞히는 문제 금지
+               - answerIndex(0~3)는 3문항에서 골고루 분포
+               - explanations: 선택지별 해설 4개 (정답 2~3문장, 오답 1~2문장), "~요" 체
+
+            출력은 JSON만, 줄바꿈/여분 공백 없이 한 줄로(minified) 작성합니다.
+            """.formatted(safe(title), safe(press), safeDateTime(publishedAt), safe(content));
+    }
+
     private static String safe(String s) {
         return (s == null) ? "" : s;
     }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * - TERM_CARDS: cards (object[3]) { term, highlightText, definition }
  * - INSIGHT: insights (object[3]) { title, detail, whyItMatters }
  * - QUIZ: questions (object[3]) { question, options[4], answerIndex(0~3), explanations[4] }
+ * - FUSED: SUMMARY 필드 + termCards(TERM_CARDS) + insight(INSIGHT) + quizContent(QUIZ)
  */
 public final class AiSchemas {
 
@@ -175,6 +176,33 @@ public final class AiSchemas {
         return root;
     }
 
+    // =========================================================
+    // FUSED (SUMMARY + TERM_CARDS + INSIGHT + QUIZ_CONTENT, 호출 1번)
+    // {
+    //   summary3: [...], summaryFull: "…",
+    //   termCards: { cards: [...] },
+    //   insight: { insights: [...] },
+    //   quizContent: { questions: [...] }
+    // }
+    // 하위 객체는 단독 스키마와 같은 모양 → 저장 형식(insightJson/quizJson)도 동일
+    // =========================================================
+    public static JsonNode fusedSchema() {
+        ObjectNode root = (ObjectNode) summarySchema();
+        ObjectNode props = (ObjectNode) root.get("properties");
+
+        props.set("termCards", termCardsSchema());
+        props.set("insight", insightSchema());
+        props.set("quizContent", quizSchema());
+
+        root.set("required", OM.createArrayNode()
+                .add("summary3")
+                .add("summaryFull")
+                .add("termCards")
+                .add("insight")
+                .add("quizContent"));
+        return root;
+    }
+
     // =========================================================
     // small helpers
     // =========================================================
@@ -0,0 +1,163 @@
+package com.finsight.finsight.domain.ai.domain.prompt;
+
+import com.finsight.finsight.global.config.ArticleCondenserProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * SUMMARY 프롬프트 전 기사 본문 압축
+ *
+ * 1) 네이버 기사 상투 문구 제거 (바이라인/이메일/사진 출처/저작권/관련기사 링크)
+ * 2) 문장 단위로 나눠 토큰 수 추정 (API 호출 없이 로컬 근사)
+ * 3) 예산(maxInputTokens)을 넘으면 문장 점수(리드 위치 + 제목 단어 + 수치) 순으로 예산까지 남기고 원래 순서로 재조립
+ *
+ * - 예산 이하 기사는 상투 문구만 빠지고 내용은 그대로
+ * - 본문은 jsoup text() 결과(줄바꿈 없음)라 문장 경계는 종결 부호 + 공백 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleCondenser {
+
+    // 문장 안에서 지우는 조각
+    private static final List<Pattern> INLINE_NOISE = List.of(
+            Pattern.compile("\\[[^\\]]{0,30}=[^\\]]{0,30}\\]"),              // [서울=뉴시스], [사진=연합뉴스]
+            Pattern.compile("\\[[^\\]]{0,30}(기자|특파원)\\]"),                // [이데일리 홍길동 기자]
+            Pattern.compile("^\\s*[가-힣]{2,4}\\s*(기자|특파원)\\s*=\\s*"),      // 홍길동 기자 = (리드 앞 바이라인)
+            Pattern.compile("\\((사진|그래픽|자료|영상)\\s*=[^)]{0,40}\\)"),   // (사진=연합뉴스)
+            Pattern.compile("/(사진|그래픽|자료)\\s*=\\s*\\S+"),               // /사진=뉴스1
+            Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+"),                // 이메일
+            Pattern.compile("(ⓒ|©|Copyright|저작권자).*$"),                   // 저작권 푸터 (이후 전부)
+            Pattern.compile("무단\\s*전재.{0,20}금지"),
+            Pattern.compile("\\s{2,}")
+    );
+
+    // 문장 전체를 버리는 경우
+    private static final Pattern NOISE_SENTENCE = Pattern.compile(
+            "^[가-힣]{2,4}\\s*(기자|특파원)\\s*=?$"                            // 바이라인만 남은 문장
+                    + "|[▶☞■◆△▲]"                                        // 관련기사/구독 링크
+                    + "|구독\\s*(하기|신청)|바로가기|관련\\s*기사");
+
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?。])\\s+");
+    private static final Pattern NUMBER = Pattern.compile("\\d");
+
+    private final ArticleCondenserProperties props;
+
+    public Condensed condense(String title, String content) {
+        if (content == null || content.isBlank()) return new Condensed(content, 0, 0, 0);
+
+        int before = estimateTokens(content);
+        if (!props.isEnabled()) return new Condensed(content, before, before, 0);
+
+        List<String> sentences = new ArrayList<>();
+        for (String raw : SENTENCE_END.split(content.trim())) {
+            String s = raw;
+            for (Pattern p : INLINE_NOISE) s = p.matcher(s).replaceAll(" ");
+            s = s.trim();
+            if (s.length() < props.getMinSentenceChars() || NOISE_SENTENCE.matcher(s).find()) continue;
+            sentences.add(s);
+        }
+        if (sentences.isEmpty()) return new Condensed(content, before, before, 0); // 판단 불가 → 원문
+
+        int[] tokens = new int[sentences.size()];
+        int total = 0;
+        for (int i = 0; i < sentences.size(); i++) {
+            tokens[i] = estimateTokens(sentences.get(i));
+            total += tokens[i];
+        }
+
+        if (total <= props.getMaxInputTokens()) {
+            String text = String.join(" ", sentences);
+            return new Condensed(text, before, total, 0);
+        }
+
+        // 점수 높은 문장부터 예산까지 (첫 문장은 항상 유지)
+        Set<String> titleWords = words(title);
+        List<Integer> order = new ArrayList<>(sentences.size());
+        double[] score = new double[sentences.size()];
+        for (int i = 0; i < sentences.size(); i++) {
+            score[i] = score(sentences.get(i), i, sentences.size(), titleWords);
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> score[i]).reversed());
+
+        boolean[] keep = new boolean[sentences.size()];
+        keep[0] = true;
+        int kept = tokens[0];
+        for (int i : order) {
+            if (keep[i]) continue;
+            if (kept + tokens[i] > props.getMaxInputTokens()) continue; // 더 짧은 문장은 들어갈 수 있음
+            keep[i] = true;
+            kept += tokens[i];
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int dropped = 0;
+        for (int i = 0; i < sentences.size(); i++) {
+            if (!keep[i]) {
+                dropped++;
+                continue;
+            }
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(sentences.get(i));
+        }
+        return new Condensed(sb.toString(), before, kept, dropped);
+    }
+
+    /**
+     * 토큰 수 근사 (o200k 기준 한국어 음절 ≈ 1토큰, 그 외 문자 ≈ 4자당 1토큰, 공백 제외)
+     * - 실제 사용량과 ±20% 정도 차이 → 예산은 여유 있게
+     */
+    public static int estimateTokens(String text) {
+        if (text == null) return 0;
+        int hangul = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c >= '가' && c <= '힣') hangul++;
+            else other++;
+        }
+        return hangul + (other + 3) / 4;
+    }
+
+    /**
+     * 리드 문장일수록, 제목 단어/수치를 담을수록 높음
+     */
+    private static double score(String sentence, int index, int count, Set<String> titleWords) {
+        double position = 1.0 - (double) index / count;          // 0~1, 앞쪽 문장 우선 (역피라미드)
+        double lead = index < 3 ? 1.0 : 0.0;
+
+        int overlap = 0;
+        for (String w : titleWords) {
+            if (sentence.contains(w)) overlap++;
+        }
+        double title = titleWords.isEmpty() ? 0 : (double) overlap / titleWords.size();
+        double number = NUMBER.matcher(sentence).find() ? 0.3 : 0.0;
+
+        return position + lead + title * 1.5 + number;
+    }
+
+    private static Set<String> words(String title) {
+        Set<String> words = new HashSet<>();
+        if (title == null) return words;
+        for (String w : title.split("[\\s\\p{Punct}‘’“”·…]+")) {
+            if (w.length() >= 2) words.add(w); // 2음절 이상만, 문장 쪽은 부분 일치로 검사
+        }
+        return words;
+    }
+
+    /**
+     * @param text         프롬프트에 넣을 본문
+     * @param tokensBefore 원문 추정 토큰 수
+     * @param tokensAfter  압축 후 추정 토큰 수
+     * @param dropped      예산 때문에 뺀 문장 수
+     */
+    public record Condensed(String text, int tokensBefore, int tokensAfter, int dropped) {}
+}
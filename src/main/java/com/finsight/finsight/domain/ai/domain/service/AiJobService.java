@@ -2,18 +2,28 @@ package com.finsight.finsight.domain.ai.domain.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundleService;
+import com.finsight.finsight.domain.ai.domain.cache.AiResultCache;
 import com.finsight.finsight.domain.ai.domain.client.OpenAiClient;
-import com.finsight.finsight.domain.ai.domain.lock.AiJobLockService;
+import com.finsight.finsight.domain.ai.domain.dag.AiJobDag;
 import com.finsight.finsight.domain.ai.domain.metrics.AiMetrics;
 import com.finsight.finsight.domain.ai.domain.prompt.AiPrompts;
 import com.finsight.finsight.domain.ai.domain.prompt.AiSchemas;
+import com.finsight.finsight.domain.ai.domain.prompt.ArticleCondenser;
+import com.finsight.finsight.domain.ai.domain.worker.AiJobWakeup;
 import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
 import com.finsight.finsight.domain.ai.persistence.entity.*;
 import com.finsight.finsight.domain.ai.persistence.repository.*;
 import com.finsight.finsight.domain.naver.exception.code.NaverCrawlErrorCode;
 import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleContentRepository;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
 import com.finsight.finsight.domain.term.domain.service.TermService;
 import com.finsight.finsight.domain.term.persistence.entity.TermEntity;
+import com.finsight.finsight.global.config.AiBatchProperties;
+import com.finsight.finsight.global.config.AiPipelineProperties;
+import com.finsight.finsight.global.config.AiPriorityProperties;
+import com.finsight.finsight.global.config.OpenAiProperties;
 import com.finsight.finsight.global.exception.AppException;
 import com.finsight.finsight.global.exception.BaseErrorCode;
 import com.finsight.finsight.global.exception.ErrorCode;
@@ -25,8 +35,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Slf4j
@@ -37,52 +53,104 @@ public class AiJobService {
 
     private static final ObjectMapper OM = new ObjectMapper();
 
+    // 피드 노출에 필요한 결과 (용어 카드 3개 + 내용/용어 퀴즈) → naver_article.ai_ready
+    private static final Set<AiJobType> FEED_READY =
+            EnumSet.of(AiJobType.TERM_CARDS, AiJobType.QUIZ_CONTENT, AiJobType.QUIZ_TERM);
+
     private final AiJobRepository aiJobRepository;
     private final AiArticleSummaryRepository aiArticleSummaryRepository;
 
     private final AiTermCardRepository aiTermCardRepository;
     private final AiArticleInsightRepository aiArticleInsightRepository;
     private final AiQuizSetRepository aiQuizSetRepository;
+    private final NaverArticleContentRepository naverArticleContentRepository;
+    private final NaverArticleRepository naverArticleRepository;
 
     private final TermService termService;
+    private final ArticleCondenser condenser;
 
     private final OpenAiClient openAiClient;
-    private final AiJobLockService lockService;
+    private final AiResultCache resultCache;
+    private final AiArticleBundleService bundleService;
+    private final AiPipelineProperties pipelineProps;
+    private final AiBatchProperties batchProps;
+    private final AiPriorityProperties priorityProps;
+    private final OpenAiProperties openAiProps;
     private final AiMetrics metrics;
     private final MeterRegistry meterRegistry;
+    private final AiJobWakeup wakeup;
+    private final TransactionTemplate transactionTemplate;
 
     // =========================
-    // 1) Worker가 호출: PENDING Job ID 목록 조회 (락 없이)
+    // 1) Worker가 호출: PENDING → RUNNING claim (리스 부여)
     // =========================
-    @Transactional(readOnly = true)
-    public List<Long> findPendingJobIds(AiJobType type, int limit) {
-        return aiJobRepository.findPendingIdsForUpdateSkipLocked(type.name(), limit);
-    }
 
-    // =========================
-    // 2) 락 획득 후 RUNNING 전환
-    // =========================
+    /**
+     * 빈 슬롯만큼 PENDING Job을 잠그고(SKIP LOCKED) 같은 트랜잭션에서 RUNNING + 리스로 전환
+     * - 반환된 Job은 이 워커가 실제로 리스를 받은 것만 (Redis 락/개별 RUNNING 전환 없음)
+     * - 리스가 만료되기 전에 renewLeases 로 연장, 만료되면 Sweeper가 회수
+     */
     @Transactional
-    public boolean tryMarkRunning(Long jobId) {
-        Optional<AiJobEntity> optJob = aiJobRepository.findById(jobId);
-        if (optJob.isEmpty()) return false;
+    public List<Long> claimJobs(AiJobType type, int limit, String workerId, Duration lease) {
+        // 배치 전용 prompt_version 은 AiBatchExecutor 가 가져감
+        List<Long> ids = aiJobRepository.findPendingIdsForUpdateSkipLocked(
+                type.name(), batchProps.excludedFromInteractive(), limit);
+        if (ids.isEmpty()) return List.of();
 
-        AiJobEntity job = optJob.get();
-        if (job.getStatus() != AiJobStatus.PENDING) {
-            return false; // 이미 다른 워커가 처리 중
+        List<Long> claimed = leaseLocked(type, ids, workerId, lease);
+
+        log.debug("[AI] event_type=ai_job_claimed type={} count={} worker_id={}", type, claimed.size(), workerId);
+        return claimed;
+    }
+
+    /**
+     * 잠근 PENDING 행을 RUNNING + 리스로 전환하고 실제로 전환된 id 만 반환
+     * - 전부 전환됐으면 (claimLeases 는 PENDING 만 바꿈) 그대로, 아니면 owner 기준으로 다시 읽음
+     *   → 이미 다른 소유자가 가져간 Job 을 실행하지 않음
+     */
+    private List<Long> leaseLocked(AiJobType type, List<Long> ids, String owner, Duration lease) {
+        int updated = aiJobRepository.claimLeases(ids, owner, lease.toSeconds());
+
+        List<Long> claimed = ids;
+        if (updated != ids.size()) {
+            claimed = aiJobRepository.findIdsByIdInAndStatusAndWorkerId(ids, AiJobStatus.RUNNING, owner);
+            log.warn("[AI] event_type=ai_job_claim_mismatch type={} locked={} updated={} owned={}",
+                    type, ids.size(), updated, claimed.size());
         }
 
-        job.markRunning();
-        return true;
+        Counter.builder("ai_jobs_claim_total")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment(claimed.size());
+        return claimed;
+    }
+
+    /**
+     * 실행 중 Job 리스 연장
+     * @return 연장된 Job 수 (요청보다 적으면 일부는 이미 끝났거나 리스를 잃음)
+     */
+    @Transactional
+    public int renewLeases(Collection<Long> jobIds, String workerId, Duration lease) {
+        if (jobIds.isEmpty()) return 0;
+        return aiJobRepository.renewLeases(new ArrayList<>(jobIds), workerId, lease.toSeconds());
     }
 
     // =========================
-    // 3) 에러 유형별 상태 전환
+    // 3) 에러 유형별 상태 전환 (리스 소유자만)
     // =========================
+
+    /**
+     * 리스를 잃은 Job(Sweeper 회수/다른 소유자 재claim)은 건드리지 않음
+     * - Job 행을 잠그고 status/worker_id 확인 → 확인과 전환 사이에 Sweeper 가 끼어들지 못함
+     */
     @Transactional
-    public void handleJobError(Long jobId, AiErrorCode errorCode) {
-        AiJobEntity job = aiJobRepository.findById(jobId)
-                .orElseThrow(() -> new AppException(AiErrorCode.AI_JOB_NOT_FOUND));
+    public void handleJobError(Long jobId, String owner, AiErrorCode errorCode) {
+        AiJobEntity job = lockOwnedRunningJob(jobId, owner);
+        if (job == null) {
+            log.warn("[AI] event_type=ai_job_transition_skipped job_id={} worker_id={} error_code={}",
+                    jobId, owner, errorCode.getCode());
+            return;
+        }
 
         String code = errorCode.getCode();
         String message = errorCode.getMessage();
@@ -93,6 +161,14 @@ public class AiJobService {
             log.warn("[AI] event_type=ai_job_suspended job_id={} error_code={}", jobId, code);
             metrics.incProcessed(job.getJobType(), "suspended", code);
 
+        } else if (errorCode.isLocalThrottle()) {
+            // OpenAI 호출 전 로컬 제한 거절 → PENDING 으로 되돌림 (재시도 횟수 차감 없음)
+            job.markThrottled(code, message,
+                    LocalDateTime.now().plus(Duration.ofMillis(openAiProps.getLimiterThrottledRequeueDelayMs())));
+            log.info("[AI] event_type=ai_job_throttled job_id={} error_code={} next_run_at={}",
+                    jobId, code, job.getNextRunAt());
+            metrics.incProcessed(job.getJobType(), "throttled", code);
+
         } else if (errorCode.isRetryable() && job.canRetry()) {
             // 재시도 가능 에러 + 재시도 가능 → RETRY_WAIT
             job.markRetryWait(code, message);
@@ -109,129 +185,409 @@ public class AiJobService {
     }
 
     @Transactional
-    public void handleJobError(Long jobId, BaseErrorCode errorCode) {
+    public void handleJobError(Long jobId, String owner, BaseErrorCode errorCode) {
         if (errorCode instanceof AiErrorCode aiError) {
-            handleJobError(jobId, aiError);
+            handleJobError(jobId, owner, aiError);
         } else {
             // 일반 에러는 FAILED 처리
-            AiJobEntity job = aiJobRepository.findById(jobId)
-                    .orElseThrow(() -> new AppException(AiErrorCode.AI_JOB_NOT_FOUND));
+            AiJobEntity job = lockOwnedRunningJob(jobId, owner);
+            if (job == null) {
+                log.warn("[AI] event_type=ai_job_transition_skipped job_id={} worker_id={} error_code={}",
+                        jobId, owner, errorCode.getCode());
+                return;
+            }
             job.markFailed(errorCode.getCode(), errorCode.getMessage());
             metrics.incProcessed(job.getJobType(), "failed", errorCode.getCode());
         }
     }
 
-    // 기존 호환용 (deprecated)
-    @Transactional
-    @Deprecated
-    public List<Long> claimNextJobIds(AiJobType type, int limit) {
-        List<Long> ids = aiJobRepository.findPendingIdsForUpdateSkipLocked(type.name(), limit);
-        if (ids.isEmpty()) return List.of();
-
-        int updated = aiJobRepository.markRunning(ids);
-
-        Counter.builder("ai_jobs_claim_total")
-                .tag("type", type.name())
-                .register(meterRegistry)
-                .increment(ids.size());
-
-        log.info("[AI] claim type={} requested={} updated={}", type, ids.size(), updated);
-        return ids;
-    }
-
     // =========================
-    // 2) ENQUEUE (크롤러는 SUMMARY만 enqueue)
+    // 2) ENQUEUE (크롤러는 SUMMARY만 enqueue, 나머지는 DAG 진행으로 enqueue)
+    // - ai_jobs ID 는 pooled sequence 라 save 시점에 INSERT 가 나가지 않음
+    //   → uk_ai_job_article_type_version 위반은 flush/커밋 때 터져 호출 트랜잭션 전체가 롤백되므로
+    //     예외를 잡는 대신 저장 전에 (article, type, promptVersion) 존재 여부를 확인
     // =========================
+
+    /**
+     * 크롤러가 같은 트랜잭션에서 막 저장한 기사의 SUMMARY Job
+     * - 커밋 전 기사라 다른 트랜잭션이 같은 기사의 Job 을 넣을 수 없음 → 존재 확인 없이 batch insert
+     *   (확인 쿼리가 매 기사마다 auto flush 를 일으키면 batch insert 가 깨짐)
+     */
     @Transactional
     public void enqueueSummary(NaverArticleEntity article, String promptVersion, String model) {
-        enqueue(article, AiJobType.SUMMARY, promptVersion, model);
+        persistPending(article, AiJobDag.root(), promptVersion, model, 0);
     }
 
     @Transactional
-    public void enqueueDownstreamAfterSummary(NaverArticleEntity article, String promptVersion, String model) {
-        enqueue(article, AiJobType.TERM_CARDS, promptVersion, model);
-        enqueue(article, AiJobType.INSIGHT, promptVersion, model);
-        enqueue(article, AiJobType.QUIZ_CONTENT, promptVersion, model);
+    public void enqueue(NaverArticleEntity article, AiJobType type, String promptVersion, String model) {
+        enqueue(article, type, promptVersion, model, 0);
     }
 
-    @Transactional
-    public void enqueueQuizTermAfterTermCards(NaverArticleEntity article, String promptVersion, String model) {
-        enqueue(article, AiJobType.QUIZ_TERM, promptVersion, model);
+    /**
+     * 이미 저장된 기사의 Job enqueue (이미 있으면 dup 으로 세고 건너뜀)
+     * - DAG 진행에서는 root Job 행 잠금으로 같은 기사의 확인 → 저장이 직렬화됨
+     */
+    private void enqueue(NaverArticleEntity article, AiJobType type, String promptVersion, String model, int priority) {
+        if (aiJobRepository.existsByArticle_IdAndJobTypeAndPromptVersion(article.getId(), type, promptVersion)) {
+            metrics.incEnqueue(type, "dup");
+            return;
+        }
+        persistPending(article, type, promptVersion, model, priority);
     }
 
-    @Transactional
-    public void enqueue(NaverArticleEntity article, AiJobType type, String promptVersion, String model) {
+    private void persistPending(NaverArticleEntity article, AiJobType type, String promptVersion, String model, int priority) {
+        AiJobEntity job = AiJobEntity.pending(article, type, promptVersion, model);
+        job.raisePriority(priority);
+        aiJobRepository.save(job);
+        metrics.incEnqueue(type, "ok");
+
+        // 커밋 이후 워커 깨우기 (다음 cron 까지 기다리지 않음)
+        wakeup.publish(type);
+    }
+
+    // =========================
+    // 우선순위 부스트: 사용자가 결과를 기다리는 기사의 Job 을 먼저 claim
+    // =========================
+
+    /**
+     * 기사의 미완료 Job 부스트 (AI 결과/퀴즈 조회가 아직 준비 안 됨으로 끝날 때)
+     * - 호출한 조회는 예외로 롤백되므로 별도 트랜잭션
+     * - 실패해도 조회 응답에는 영향 없음
+     * @param source 메트릭 태그 (ai_result, quiz)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void boostArticle(Long articleId, String source) {
+        if (!priorityProps.isBoostEnabled()) return;
+
         try {
-            aiJobRepository.save(AiJobEntity.pending(article, type, promptVersion, model));
-            metrics.incEnqueue(type, "ok");
-        } catch (DataIntegrityViolationException dup) {
-            // uk_ai_job_article_type_version 레이스/중복 방어
-            metrics.incEnqueue(type, "dup");
+            int boosted = aiJobRepository.boostArticle(articleId, priorityProps.getBoostPriority());
+            metrics.incBoost(source, boosted);
+            if (boosted > 0) {
+                log.info("[AI] event_type=ai_job_boosted article_id={} source={} jobs={}", articleId, source, boosted);
+            }
+        } catch (Exception e) {
+            log.warn("[AI] event_type=ai_job_boost_error article_id={} source={}", articleId, source, e);
         }
     }
 
     // =========================
-    // SUMMARY
+    // 처리: prepare(짧은 트랜잭션) → 결과 캐시 / OpenAI 호출(트랜잭션 밖) → complete(짧은 트랜잭션)
     // =========================
-    public void processSummary(Long jobId) {
+
+    /**
+     * 동기 처리 (호출 스레드가 OpenAI 응답까지 대기)
+     * - DB 트랜잭션은 요청 준비/결과 저장 구간에만 열림 (OpenAI 대기 중 커넥션 점유 없음)
+     * - 같은 입력의 검증된 출력이 캐시에 있으면 OpenAI 호출 없이 저장
+     * - 준비/저장/실패 전환은 workerId 가 리스를 갖고 있을 때만 (리스를 잃었으면 결과를 버림)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void process(AiJobType type, Long jobId, String workerId) {
         Timer.Sample sample = metrics.startTimer();
         try {
-            AiJobEntity job = loadRunningJob(jobId, AiJobType.SUMMARY);
-            NaverArticleEntity article = job.getArticle();
-
-            // 본문 없으면 실패
-            if (isBlank(article.getContent())) throw new AppException(NaverCrawlErrorCode.NAVER_ARTICLE_PARSE_FAIL);
-
-            JsonNode response = openAiClient.createJsonSchemaResponse(
-                    List.of(
-                            Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
-                            Map.of("role", "user", "content", AiPrompts.summaryUser(
-                                    article.getTitle(),
-                                    article.getPress(),
-                                    article.getPublishedAt(),
-                                    article.getContent()
-                            ))
-                    ),
-                    "article_summary",
-                    AiSchemas.summarySchema()
-            );
-
-            String jsonText = OpenAiClient.extractOutputText(response);
-            if (jsonText == null || jsonText.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            JsonNode parsed = OM.readTree(jsonText);
-
-            JsonNode arr = parsed.path("summary3");
-            if (!arr.isArray() || arr.size() != 3) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            List<String> lines = new ArrayList<>(3);
-            for (JsonNode n : arr) {
-                String line = n.asText(null);
-                if (line == null || line.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-                lines.add(line.trim());
+            AiRequest request = transactionTemplate.execute(status -> prepare(jobId, type, workerId));
+            Optional<String> cached = resultCache.get(request.cacheKey());
+            if (cached.isPresent()) {
+                applyOutput(request, cached.get(), true);
+            } else {
+                JsonNode response = openAiClient.createJsonSchemaResponse(
+                        request.input(), request.schemaName(), request.schema(), request.maxOutputTokens());
+                applyOutput(request, OpenAiClient.extractOutputText(response), false);
+            }
+
+            metrics.incProcessed(type, "success");
+        } catch (Exception e) {
+            handleProcessError(type, jobId, workerId, e);
+        } finally {
+            metrics.stopTimer(sample, type);
+        }
+    }
+
+    /**
+     * 비동기 처리 (OpenAI 응답 대기 중 스레드를 잡지 않음)
+     * - prepare/캐시 조회는 구독한 스레드에서, 결과 저장/에러 처리는 boundedElastic 에서 (netty 이벤트 루프에서 JDBC 금지)
+     * - 캐시 hit 이면 OpenAI 호출 없이 구독한 스레드에서 바로 저장
+     * - 에러는 Job 상태 전환까지 끝내고 삼킴 (Mono 는 항상 정상 완료)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Void> processAsync(AiJobType type, Long jobId, String workerId) {
+        Timer.Sample sample = metrics.startTimer();
+
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> prepare(jobId, type, workerId)))
+                .flatMap(request -> {
+                    Optional<String> cached = resultCache.get(request.cacheKey());
+                    if (cached.isPresent()) {
+                        return Mono.<Void>fromRunnable(() -> applyOutput(request, cached.get(), true));
+                    }
+                    return openAiClient
+                            .createJsonSchemaResponseAsync(request.input(), request.schemaName(),
+                                    request.schema(), request.maxOutputTokens())
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(response -> applyOutput(request, OpenAiClient.extractOutputText(response), false))
+                            .then();
+                })
+                .then(Mono.<Void>fromRunnable(() -> metrics.incProcessed(type, "success")))
+                .onErrorResume(e -> Mono.fromRunnable(() -> handleProcessError(type, jobId, workerId, e))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then())
+                .doFinally(signal -> metrics.stopTimer(sample, type));
+    }
+
+    /**
+     * 처리 실패 → 에러 유형별 상태 전환 (별도 트랜잭션)
+     * - 리스를 잃었으면 전환하지 않음 (지금 소유자/Sweeper 가 처리)
+     */
+    private void handleProcessError(AiJobType type, Long jobId, String owner, Throwable e) {
+        BaseErrorCode errorCode;
+        if (e instanceof AppException app && app.getErrorCode() == AiErrorCode.AI_JOB_LEASE_LOST) {
+            log.warn("[AI] event_type=ai_job_lease_lost job_type={} job_id={} worker_id={}", type, jobId, owner);
+            metrics.incEvent(type, "lease_lost");
+            return;
+        }
+        if (e instanceof AppException app) {
+            errorCode = app.getErrorCode();
+        } else {
+            log.error("[AI] {} unexpected error jobId={}", type.name().toLowerCase(), jobId, e);
+            errorCode = AiErrorCode.OPENAI_API_FAIL;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> handleJobError(jobId, owner, errorCode));
+        metrics.incProcessed(type, "failed");
+    }
+
+    /**
+     * 출력 저장 (짧은 트랜잭션) → 새로 받은 출력이면 검증/저장이 끝난 뒤 캐시에 기록
+     */
+    private void applyOutput(AiRequest request, String jsonText, boolean fromCache) {
+        transactionTemplate.executeWithoutResult(status ->
+                complete(request.jobId(), request.owner(), request.type(), request.fused(), jsonText));
+
+        if (fromCache) {
+            metrics.incEvent(request.type(), "cache_hit");
+        } else {
+            resultCache.put(request.cacheKey(), jsonText);
+        }
+    }
+
+    /**
+     * OpenAI 요청 준비 (Job/기사/선행 결과 로딩 + 캐시 키)
+     * - 통합 모드 prompt_version 의 SUMMARY 는 통합 프롬프트/스키마로 (AiPipelineProperties)
+     */
+    private AiRequest prepare(Long jobId, AiJobType type, String owner) {
+        AiJobEntity job = loadRunningJob(jobId, type, owner);
+        NaverArticleEntity article = job.getArticle();
+        boolean fused = type == AiJobType.SUMMARY && pipelineProps.isFused(job.getPromptVersion());
+
+        String user = switch (type) {
+            case SUMMARY -> {
+
+                // 본문 없으면 실패 (본문은 naver_article_content 에서 별도 조회)
+                String content = naverArticleContentRepository.findContentByArticleId(article.getId()).orElse(null);
+                if (isBlank(content)) throw new AppException(NaverCrawlErrorCode.NAVER_ARTICLE_PARSE_FAIL);
+
+                // 상투 문구 제거 + 입력 토큰 예산까지 문장 선별 (압축 전/후 토큰 수는 Job 에 기록)
+                ArticleCondenser.Condensed condensed = condenser.condense(article.getTitle(), content);
+                job.recordInputTokens(condensed.tokensBefore(), condensed.tokensAfter());
+                metrics.recordSummaryInputTokens(condensed.tokensBefore(), condensed.tokensAfter());
+                if (condensed.dropped() > 0) {
+                    log.debug("[AI] event_type=ai_summary_input_condensed job_id={} tokens_before={} tokens_after={} dropped_sentences={}",
+                            jobId, condensed.tokensBefore(), condensed.tokensAfter(), condensed.dropped());
+                }
+
+                String body = condensed.text();
+                yield fused
+                        ? AiPrompts.fusedUser(article.getTitle(), article.getPress(), article.getPublishedAt(), body)
+                        : AiPrompts.summaryUser(article.getTitle(), article.getPress(), article.getPublishedAt(), body);
+            }
+            case TERM_CARDS -> AiPrompts.termCardsUser(latestSummaryFull(article.getId()));
+            case INSIGHT -> AiPrompts.insightUser(latestSummaryFull(article.getId()));
+            case QUIZ_CONTENT -> AiPrompts.quizContentUser(latestSummaryFull(article.getId()));
+            case QUIZ_TERM -> {
+                List<AiTermCardEntity> termCards = fetchTermCardsForArticle(article.getId());
+                if (termCards.size() < 3) throw new AppException(ErrorCode.NOT_FOUND);
+
+                yield AiPrompts.quizTermUser(buildTermCardsText(termCards));
+            }
+        };
+
+        List<Map<String, String>> input = List.of(
+                Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
+                Map.of("role", "user", "content", user)
+        );
+        String schemaName = fused ? "article_fused" : schemaName(type);
+        JsonNode schema = fused ? AiSchemas.fusedSchema() : schemaOf(type);
+        int maxOutputTokens = fused ? pipelineProps.getFusedMaxOutputTokens() : openAiProps.getMaxOutputTokens();
+        // 캐시 키는 실제 요청 본문과 같은 model / max_output_tokens 로 (Job 의 model 컬럼은 요청에 쓰이지 않음)
+        String cacheKey = resultCache.key(openAiClient.requestModel(), maxOutputTokens,
+                schemaName, schema, job.getPromptVersion(), input);
+        return new AiRequest(jobId, owner, type, input, schemaName, schema, maxOutputTokens, fused, cacheKey);
+    }
+
+    /**
+     * 출력 검증 + 결과 저장 + Job 성공 처리 (+ DAG 진행)
+     */
+    private void complete(Long jobId, String owner, AiJobType type, boolean fused, String jsonText) {
+        if (isBlank(jsonText)) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+
+        AiJobEntity job = loadRunningJob(jobId, type, owner);
+        NaverArticleEntity article = job.getArticle();
+
+        switch (type) {
+            case SUMMARY -> {
+                JsonNode parsed = readJson(jsonText);
+
+                JsonNode arr = parsed.path("summary3");
+                if (!arr.isArray() || arr.size() != 3) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+
+                List<String> lines = new ArrayList<>(3);
+                for (JsonNode n : arr) {
+                    String line = n.asText(null);
+                    if (line == null || line.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+                    lines.add(line.trim());
+                }
+
+                // 3줄 요약은 배열 → "\n"로 join 해서 문자열로 저장
+                String summary3Lines = String.join("\n", lines);
+
+                String summaryFull = parsed.path("summaryFull").asText(null);
+                if (summaryFull == null || summaryFull.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+
+                if (fused) {
+                    completeFusedSuccess(job, article, summary3Lines, summaryFull, parsed);
+                } else {
+                    completeSummarySuccess(job, article, summary3Lines, summaryFull);
+                }
             }
+            case TERM_CARDS -> {
+                JsonNode cards = readJson(jsonText).path("cards");
+                if (!cards.isArray() || cards.size() != 3) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
 
-            // 3줄 요약은 배열 → "\n"로 join 해서 문자열로 저장
-            String summary3Lines = String.join("\n", lines);
+                completeTermCardsSuccess(job, article, cards);
+            }
+            case INSIGHT -> completeInsightSuccess(job, article, jsonText);
+            case QUIZ_CONTENT, QUIZ_TERM -> completeQuizSuccess(job, article, type, jsonText);
+        }
+    }
 
-            String summaryFull = parsed.path("summaryFull").asText(null);
-            if (summaryFull == null || summaryFull.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+    private static String schemaName(AiJobType type) {
+        return switch (type) {
+            case SUMMARY -> "article_summary";
+            case TERM_CARDS -> "term_cards";
+            case INSIGHT -> "article_insight";
+            case QUIZ_CONTENT -> "quiz_content";
+            case QUIZ_TERM -> "quiz_term";
+        };
+    }
 
-            completeSummarySuccess(job, article, summary3Lines, summaryFull);
+    private static JsonNode schemaOf(AiJobType type) {
+        return switch (type) {
+            case SUMMARY -> AiSchemas.summarySchema();
+            case TERM_CARDS -> AiSchemas.termCardsSchema();
+            case INSIGHT -> AiSchemas.insightSchema();
+            case QUIZ_CONTENT, QUIZ_TERM -> AiSchemas.quizSchema();
+        };
+    }
 
-            metrics.incProcessed(AiJobType.SUMMARY, "success");
-        } catch (AppException e) {
-            markJobFailed(jobId, e.getErrorCode());
-            metrics.incProcessed(AiJobType.SUMMARY, "failed");
+    private static JsonNode readJson(String jsonText) {
+        try {
+            return OM.readTree(jsonText);
         } catch (Exception e) {
-            log.error("[AI] summary unexpected error jobId={}", jobId, e);
-            markJobFailed(jobId, AiErrorCode.OPENAI_API_FAIL);
-            metrics.incProcessed(AiJobType.SUMMARY, "failed");
-        } finally {
-            metrics.stopTimer(sample, AiJobType.SUMMARY);
+            throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+        }
+    }
+
+    // =========================
+    // Batch API 실행 (AiBatchExecutor): claim → 요청 본문 준비 → (제출/폴링) → 결과 저장
+    // =========================
+
+    /**
+     * 배치 제출용 claim (worker_id = 배치 owner, 리스는 폴링마다 연장)
+     * @param includeAllVersions true 면 배치 전용 버전이 아니어도 오래된 PENDING 부터 (backlog 소진)
+     */
+    @Transactional
+    public List<Long> claimBatchJobs(AiJobType type, int limit, boolean includeAllVersions, String owner, Duration lease) {
+        List<Long> ids = aiJobRepository.findPendingIdsForBatchSkipLocked(
+                type.name(), batchProps.batchVersions(), includeAllVersions ? 1 : 0, priorityProps.getBoostPriority(), limit);
+        if (ids.isEmpty()) return List.of();
+
+        return leaseLocked(type, ids, owner, lease);
+    }
+
+    /**
+     * 배치 요청 1건 본문 준비
+     * - 결과 캐시 hit 이면 바로 저장하고 empty (배치에 넣지 않음)
+     * - 준비 실패는 Job 상태 전환까지 끝내고 empty
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Map<String, Object>> prepareBatchRequest(AiJobType type, Long jobId, String owner) {
+        try {
+            AiRequest request = transactionTemplate.execute(status -> prepare(jobId, type, owner));
+            Optional<String> cached = resultCache.get(request.cacheKey());
+            if (cached.isPresent()) {
+                applyOutput(request, cached.get(), true);
+                metrics.incProcessed(type, "success");
+                return Optional.empty();
+            }
+            return Optional.of(openAiClient.buildRequestBody(
+                    request.input(), request.schemaName(), request.schema(), request.maxOutputTokens()));
+        } catch (Exception e) {
+            handleProcessError(type, jobId, owner, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 배치 결과 1건 저장 (이 배치가 아직 잡고 있는 RUNNING Job 만, 중복 폴링/회수된 Job 은 건너뜀)
+     * - 결과 캐시에는 넣지 않음 (캐시 키를 만들려면 요청을 다시 렌더링해야 함)
+     * @return 이 배치 소유 Job 이었으면 true
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean completeBatchResult(Long jobId, String owner, String jsonText) {
+        AiJobEntity job = findOwnedRunningJob(jobId, owner);
+        if (job == null) return false;
+
+        AiJobType type = job.getJobType();
+        boolean fused = type == AiJobType.SUMMARY && pipelineProps.isFused(job.getPromptVersion());
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(jobId, owner, type, fused, jsonText));
+            metrics.incProcessed(type, "success");
+        } catch (Exception e) {
+            handleProcessError(type, jobId, owner, e);
         }
+        return true;
+    }
+
+    /**
+     * 배치 요청 1건 실패 → 에러 유형별 상태 전환 (소유 Job 만)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean failBatchJob(Long jobId, String owner, BaseErrorCode errorCode) {
+        AiJobEntity job = findOwnedRunningJob(jobId, owner);
+        if (job == null) return false;
+
+        handleProcessError(job.getJobType(), jobId, owner, new AppException(errorCode));
+        return true;
+    }
+
+    private AiJobEntity findOwnedRunningJob(Long jobId, String owner) {
+        AiJobEntity job = aiJobRepository.findById(jobId).orElse(null);
+        return isOwnedRunning(job, owner) ? job : null;
+    }
+
+    /**
+     * 상태 전환용: Job 행을 잠근 뒤 소유 확인 (트랜잭션 안에서)
+     */
+    private AiJobEntity lockOwnedRunningJob(Long jobId, String owner) {
+        AiJobEntity job = aiJobRepository.findByIdForUpdate(jobId).orElse(null);
+        return isOwnedRunning(job, owner) ? job : null;
+    }
+
+    private static boolean isOwnedRunning(AiJobEntity job, String owner) {
+        return job != null && job.getStatus() == AiJobStatus.RUNNING && owner.equals(job.getWorkerId());
     }
 
+    // =========================
+    // SUMMARY
+    // =========================
 
     @Transactional
     protected void completeSummarySuccess(AiJobEntity job,
@@ -239,11 +595,59 @@ public class AiJobService {
                                           String summary3Lines,
                                           String summaryFull) {
 
-        // 이미 저장돼 있으면 성공 처리만
-        if (aiArticleSummaryRepository.existsByJobId(job.getId())) {
-            job.markSuccess();
-            return;
+        saveSummary(job, article, summary3Lines, summaryFull);
+        job.markSuccess();
+
+        // ✅ SUMMARY 성공 시 후속 enqueue (TERM/INSIGHT/QUIZ_CONTENT)
+        advanceDag(job, article);
+    }
+
+    /**
+     * 통합 모드 SUMMARY 성공 (요약 + 용어 카드 + 인사이트 + 내용 퀴즈가 한 응답에)
+     * - TERM_CARDS / INSIGHT / QUIZ_CONTENT Job 을 SUCCESS 로 바로 만들고 결과는 기존 테이블에 그대로 저장
+     *   (각 Job 의 advanceDag 로 QUIZ_TERM enqueue, 기사 완료 판정도 기존과 동일)
+     * - 이미 있는 타입(재생성 등)은 건드리지 않고 그 Job 이 따로 처리
+     */
+    @Transactional
+    protected void completeFusedSuccess(AiJobEntity job,
+                                        NaverArticleEntity article,
+                                        String summary3Lines,
+                                        String summaryFull,
+                                        JsonNode parsed) {
+
+        JsonNode cards = parsed.path("termCards").path("cards");
+        JsonNode insight = parsed.path("insight");
+        JsonNode quizContent = parsed.path("quizContent");
+        if (!cards.isArray() || cards.size() != 3
+                || !insight.path("insights").isArray()
+                || !quizContent.path("questions").isArray()) {
+            throw new AppException(AiErrorCode.OPENAI_API_FAIL);
+        }
+
+        saveSummary(job, article, summary3Lines, summaryFull);
+        job.markSuccess();
+
+        Set<AiJobType> existing = EnumSet.noneOf(AiJobType.class);
+        for (Object[] row : aiJobRepository.findTypeAndStatus(article.getId(), job.getPromptVersion())) {
+            existing.add((AiJobType) row[0]);
+        }
+
+        if (!existing.contains(AiJobType.TERM_CARDS)) {
+            completeTermCardsSuccess(inlineJob(job, AiJobType.TERM_CARDS), article, cards);
         }
+        if (!existing.contains(AiJobType.INSIGHT)) {
+            completeInsightSuccess(inlineJob(job, AiJobType.INSIGHT), article, insight.toString());
+        }
+        if (!existing.contains(AiJobType.QUIZ_CONTENT)) {
+            completeQuizSuccess(inlineJob(job, AiJobType.QUIZ_CONTENT), article, AiJobType.QUIZ_CONTENT, quizContent.toString());
+        }
+
+        advanceDag(job, article);
+    }
+
+    private void saveSummary(AiJobEntity job, NaverArticleEntity article, String summary3Lines, String summaryFull) {
+        // 이미 저장돼 있으면 건너뜀 (성공 처리는 호출한 쪽에서)
+        if (aiArticleSummaryRepository.existsByJobId(job.getId())) return;
 
         AiArticleSummaryEntity entity = AiArticleSummaryEntity.builder()
                 .job(job)
@@ -257,57 +661,29 @@ public class AiJobService {
         } catch (DataIntegrityViolationException dup) {
             // uk_ai_summary_job 레이스 방어
         }
+    }
 
-        job.markSuccess();
-
-        // ✅ SUMMARY 성공 시 후속 enqueue (TERM/INSIGHT/QUIZ_CONTENT)
-        enqueueDownstreamAfterSummary(article, job.getPromptVersion(), job.getModel());
+    /**
+     * 통합 응답으로 채울 형제 Job (RUNNING 으로 생성 → complete*Success 에서 SUCCESS)
+     */
+    private AiJobEntity inlineJob(AiJobEntity parent, AiJobType type) {
+        AiJobEntity child = AiJobEntity.pending(parent.getArticle(), type, parent.getPromptVersion(), parent.getModel());
+        child.raisePriority(parent.getPriority()); // QUIZ_TERM 이 이어받도록
+        child.markRunning();
+        aiJobRepository.save(child);
+        metrics.incEvent(type, "fused_inline");
+        return child;
     }
 
     // =========================
     // TERM_CARDS
     // =========================
-    public void processTermCards(Long jobId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            JobAndSummary ctx = loadJobAndSummary(jobId, AiJobType.TERM_CARDS);
-
-            JsonNode response = openAiClient.createJsonSchemaResponse(
-                    List.of(
-                            Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
-                            Map.of("role", "user", "content", AiPrompts.termCardsUser(ctx.summaryFull))
-                    ),
-                    "term_cards",
-                    AiSchemas.termCardsSchema()
-            );
-
-            String jsonText = OpenAiClient.extractOutputText(response);
-            if (jsonText == null || jsonText.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            JsonNode parsed = OM.readTree(jsonText);
-            JsonNode cards = parsed.path("cards");
-            if (!cards.isArray() || cards.size() != 3) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            completeTermCardsSuccess(ctx.job, ctx.article, cards);
-
-            metrics.incProcessed(AiJobType.TERM_CARDS, "success");
-        } catch (AppException e) {
-            markJobFailed(jobId, e.getErrorCode());
-            metrics.incProcessed(AiJobType.TERM_CARDS, "failed");
-        } catch (Exception e) {
-            log.error("[AI] term_cards unexpected error jobId={}", jobId, e);
-            markJobFailed(jobId, AiErrorCode.OPENAI_API_FAIL);
-            metrics.incProcessed(AiJobType.TERM_CARDS, "failed");
-        } finally {
-            metrics.stopTimer(sample, AiJobType.TERM_CARDS);
-        }
-    }
-
     @Transactional
     protected void completeTermCardsSuccess(AiJobEntity job, NaverArticleEntity article, JsonNode cards) {
 
         if (aiTermCardRepository.existsByJobId(job.getId())) {
             job.markSuccess();
+            advanceDag(job, article);
             return;
         }
 
@@ -350,49 +726,18 @@ public class AiJobService {
         job.markSuccess();
 
         // ✅ TERM_CARDS 성공 시 후속 enqueue (QUIZ_TERM)
-        enqueueQuizTermAfterTermCards(article, job.getPromptVersion(), job.getModel());
+        advanceDag(job, article);
     }
 
     // =========================
     // INSIGHT
     // =========================
-    public void processInsight(Long jobId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            JobAndSummary ctx = loadJobAndSummary(jobId, AiJobType.INSIGHT);
-
-            JsonNode response = openAiClient.createJsonSchemaResponse(
-                    List.of(
-                            Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
-                            Map.of("role", "user", "content", AiPrompts.insightUser(ctx.summaryFull))
-                    ),
-                    "article_insight",
-                    AiSchemas.insightSchema()
-            );
-
-            String jsonText = OpenAiClient.extractOutputText(response);
-            if (jsonText == null || jsonText.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            completeInsightSuccess(ctx.job, ctx.article, jsonText);
-
-            metrics.incProcessed(AiJobType.INSIGHT, "success");
-        } catch (AppException e) {
-            markJobFailed(jobId, e.getErrorCode());
-            metrics.incProcessed(AiJobType.INSIGHT, "failed");
-        } catch (Exception e) {
-            log.error("[AI] insight unexpected error jobId={}", jobId, e);
-            markJobFailed(jobId, AiErrorCode.OPENAI_API_FAIL);
-            metrics.incProcessed(AiJobType.INSIGHT, "failed");
-        } finally {
-            metrics.stopTimer(sample, AiJobType.INSIGHT);
-        }
-    }
-
     @Transactional
     protected void completeInsightSuccess(AiJobEntity job, NaverArticleEntity article, String insightJson) {
 
         if (aiArticleInsightRepository.existsByJobId(job.getId())) {
             job.markSuccess();
+            advanceDag(job, article);
             return;
         }
 
@@ -409,92 +754,19 @@ public class AiJobService {
         }
 
         job.markSuccess();
+        advanceDag(job, article);
     }
 
     // =========================
-    // QUIZ_CONTENT
-    // =========================
-    public void processQuizContent(Long jobId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            JobAndSummary ctx = loadJobAndSummary(jobId, AiJobType.QUIZ_CONTENT);
-
-            JsonNode response = openAiClient.createJsonSchemaResponse(
-                    List.of(
-                            Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
-                            Map.of("role", "user", "content", AiPrompts.quizContentUser(ctx.summaryFull))
-                    ),
-                    "quiz_content",
-                    AiSchemas.quizSchema()
-            );
-
-            String jsonText = OpenAiClient.extractOutputText(response);
-            if (jsonText == null || jsonText.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            completeQuizSuccess(ctx.job, ctx.article, AiJobType.QUIZ_CONTENT, jsonText);
-
-            metrics.incProcessed(AiJobType.QUIZ_CONTENT, "success");
-        } catch (AppException e) {
-            markJobFailed(jobId, e.getErrorCode());
-            metrics.incProcessed(AiJobType.QUIZ_CONTENT, "failed");
-        } catch (Exception e) {
-            log.error("[AI] quiz_content unexpected error jobId={}", jobId, e);
-            markJobFailed(jobId, AiErrorCode.OPENAI_API_FAIL);
-            metrics.incProcessed(AiJobType.QUIZ_CONTENT, "failed");
-        } finally {
-            metrics.stopTimer(sample, AiJobType.QUIZ_CONTENT);
-        }
-    }
-
-    // =========================
-    // QUIZ_TERM (TERM_CARDS 기반)
+    // QUIZ_CONTENT / QUIZ_TERM
     // =========================
-    public void processQuizTerm(Long jobId) {
-        Timer.Sample sample = metrics.startTimer();
-        try {
-            AiJobEntity job = loadRunningJob(jobId, AiJobType.QUIZ_TERM);
-            var article = job.getArticle();
-
-            List<AiTermCardEntity> termCards = fetchTermCardsForArticle(article.getId());
-            if (termCards.size() < 3) throw new AppException(ErrorCode.NOT_FOUND);
-
-            String termCardsText = buildTermCardsText(termCards);
-
-            JsonNode response = openAiClient.createJsonSchemaResponse(
-                    List.of(
-                            Map.of("role", "system", "content", AiPrompts.COMMON_SYSTEM),
-                            Map.of("role", "user", "content", AiPrompts.quizTermUser(termCardsText))
-                    ),
-                    "quiz_term",
-                    AiSchemas.quizSchema()
-            );
-
-            String jsonText = OpenAiClient.extractOutputText(response);
-            if (jsonText == null || jsonText.isBlank()) throw new AppException(AiErrorCode.OPENAI_API_FAIL);
-
-            completeQuizSuccess(job, article, AiJobType.QUIZ_TERM, jsonText);
-
-            metrics.incProcessed(AiJobType.QUIZ_TERM, "success");
-            // QUIZ_TERM은 AI 파이프라인의 마지막 단계 → article AI 작업 완료
-            metrics.incArticleCompleted();
-        } catch (AppException e) {
-            markJobFailed(jobId, e.getErrorCode());
-            metrics.incProcessed(AiJobType.QUIZ_TERM, "failed");
-        } catch (Exception e) {
-            log.error("[AI] quiz_term unexpected error jobId={}", jobId, e);
-            markJobFailed(jobId, AiErrorCode.OPENAI_API_FAIL);
-            metrics.incProcessed(AiJobType.QUIZ_TERM, "failed");
-        } finally {
-            metrics.stopTimer(sample, AiJobType.QUIZ_TERM);
-        }
-    }
-
     @Transactional
     protected void completeQuizSuccess(AiJobEntity job, NaverArticleEntity article,
                                        AiJobType kind, String quizJson) {
 
         if (aiQuizSetRepository.existsByJobId(job.getId())) {
             job.markSuccess();
+            advanceDag(job, article);
             return;
         }
 
@@ -512,35 +784,93 @@ public class AiJobService {
         }
 
         job.markSuccess();
+        advanceDag(job, article);
+    }
+
+    // =========================
+    // DAG 진행
+    // =========================
+
+    /**
+     * Job 성공 직후 같은 트랜잭션에서 DAG 진행 (AiJobDag)
+     * - 부모가 모두 SUCCESS 가 된 자식 Job enqueue → 커밋 후 깨우기 신호로 바로 배정
+     * - 용어 카드 + 퀴즈 2종이 SUCCESS 면 기사 ai_ready 켜기 (피드 조회 조건)
+     * - DAG 전체가 SUCCESS 면 기사 완료 처리 (root Job 의 chain_completed_at 으로 1회만)
+     * - root Job 행을 잠가서 같은 기사의 형제 Job 완료 처리를 직렬화
+     *   (늦게 잠근 쪽이 먼저 커밋된 형제의 SUCCESS 를 보므로 완료 판정이 빠지지 않음)
+     */
+    private void advanceDag(AiJobEntity job, NaverArticleEntity article) {
+        Long articleId = article.getId();
+        String promptVersion = job.getPromptVersion();
+
+        AiJobEntity root = aiJobRepository.findForUpdate(articleId, AiJobDag.root(), promptVersion).orElse(null);
+
+        Map<AiJobType, AiJobStatus> statuses = new EnumMap<>(AiJobType.class);
+        for (Object[] row : aiJobRepository.findTypeAndStatus(articleId, promptVersion)) {
+            statuses.put((AiJobType) row[0], (AiJobStatus) row[1]);
+        }
+        statuses.put(job.getJobType(), AiJobStatus.SUCCESS);
+
+        Set<AiJobType> succeeded = EnumSet.noneOf(AiJobType.class);
+        statuses.forEach((type, status) -> {
+            if (status == AiJobStatus.SUCCESS) succeeded.add(type);
+        });
+
+        for (AiJobType child : AiJobDag.childrenOf(job.getJobType())) {
+            if (statuses.containsKey(child)) continue; // 이미 enqueue 됨
+            if (AiJobDag.isRunnable(child, succeeded)) {
+                enqueue(article, child, promptVersion, job.getModel(), job.getPriority()); // 부스트/에이징 이어받기
+                metrics.incEvent(child, "dag_ready");
+            }
+        }
+
+        // 피드 조건이 채워지는 순간 한 번 (INSIGHT 완료와 무관, 이미 켜져 있으면 0행)
+        if (FEED_READY.contains(job.getJobType()) && succeeded.containsAll(FEED_READY)
+                && naverArticleRepository.markAiReady(articleId) > 0) {
+            metrics.incEvent(job.getJobType(), "article_ai_ready");
+        }
+
+        if (root != null && root.getChainCompletedAt() == null && AiJobDag.isComplete(succeeded)) {
+            root.markChainCompleted();
+            bundleService.build(articleId); // 상세/AI 결과 조회용 묶음 (한 번 조립)
+            metrics.incArticleCompleted();
+            metrics.recordArticleCriticalPath(Duration.between(root.getRequestedAt(), root.getChainCompletedAt()));
+            log.info("[AI] event_type=ai_article_completed article_id={} critical_path_ms={}",
+                    articleId, Duration.between(root.getRequestedAt(), root.getChainCompletedAt()).toMillis());
+        } else {
+            // 완료 전 Job 성공 = 첫 생성 중이거나 재생성 중 → 이전 묶음이 있으면 제거
+            bundleService.invalidate(articleId);
+        }
     }
 
     // =========================
     // 공통 로딩/의존성
     // =========================
-    @Transactional(readOnly = true)
-    protected AiJobEntity loadRunningJob(Long jobId, AiJobType expectedType) {
-        AiJobEntity job = aiJobRepository.findByIdWithArticle(jobId)
+
+    /**
+     * 요청 준비/결과 저장 전 소유 확인 (Job 행 잠금, 호출한 트랜잭션이 끝날 때까지 Sweeper 회수와 직렬화)
+     * - RUNNING 이 아니거나 worker_id 가 다르면 리스를 잃은 것 → AI_JOB_LEASE_LOST (결과 저장/상태 전환 없음)
+     */
+    protected AiJobEntity loadRunningJob(Long jobId, AiJobType expectedType, String owner) {
+        AiJobEntity job = aiJobRepository.findByIdForUpdate(jobId)
                 .orElseThrow(() -> new AppException(AiErrorCode.AI_JOB_NOT_FOUND));
 
-        if (job.getStatus() != AiJobStatus.RUNNING) throw new AppException(ErrorCode.BAD_REQUEST);
+        if (!isOwnedRunning(job, owner)) throw new AppException(AiErrorCode.AI_JOB_LEASE_LOST);
         if (job.getJobType() != expectedType) throw new AppException(ErrorCode.BAD_REQUEST);
         return job;
     }
 
     @Transactional(readOnly = true)
-    protected JobAndSummary loadJobAndSummary(Long jobId, AiJobType expectedType) {
-        AiJobEntity job = loadRunningJob(jobId, expectedType);
-        var article = job.getArticle();
-
+    protected String latestSummaryFull(Long articleId) {
         // 가장 안전: "기사 기준 최신 summary"를 가져오기
         AiArticleSummaryEntity summary = aiArticleSummaryRepository
-                .findTopByArticleIdOrderByCreatedAtDesc(article.getId())
+                .findTopByArticleIdOrderByCreatedAtDesc(articleId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND));
 
         String summaryFull = summary.getSummaryFull();
         if (isBlank(summaryFull)) throw new AppException(ErrorCode.NOT_FOUND);
 
-        return new JobAndSummary(job, article, summaryFull);
+        return summaryFull;
     }
 
     @Transactional(readOnly = true)
@@ -562,22 +892,19 @@ public class AiJobService {
         return sb.toString();
     }
 
-    /**
-     * @deprecated handleJobError 사용 권장
-     */
-    @Transactional
-    @Deprecated
-    protected void markJobFailed(Long jobId, BaseErrorCode errorCode) {
-        handleJobError(jobId, errorCode);
-    }
-
     private static boolean isBlank(String s) {
         return s == null || s.isBlank();
     }
 
-    private record JobAndSummary(
-            AiJobEntity job,
-            NaverArticleEntity article,
-            String summaryFull
+    private record AiRequest(
+            Long jobId,
+            String owner,
+            AiJobType type,
+            List<Map<String, String>> input,
+            String schemaName,
+            JsonNode schema,
+            int maxOutputTokens,
+            boolean fused,
+            String cacheKey
     ) {}
 }
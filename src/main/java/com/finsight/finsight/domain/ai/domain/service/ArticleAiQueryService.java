@@ -1,9 +1,9 @@
 package com.finsight.finsight.domain.ai.domain.service;
 
 import com.finsight.finsight.domain.ai.application.dto.response.*;
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundle;
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundleService;
 import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
-import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
-import com.finsight.finsight.domain.ai.persistence.repository.*;
 import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
 import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
 import com.finsight.finsight.global.exception.AppException;
@@ -13,7 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -21,48 +21,37 @@ import java.util.List;
 public class ArticleAiQueryService {
 
     private final NaverArticleRepository naverArticleRepository;
-    private final AiArticleSummaryRepository aiArticleSummaryRepository;
-    private final AiTermCardRepository aiTermCardRepository;
-    private final AiArticleInsightRepository aiArticleInsightRepository;
-    private final AiQuizSetRepository aiQuizSetRepository;
+    private final AiArticleBundleService bundleService;
+    private final AiJobService aiJobService;
 
     public ArticleAiResultResponse getAiResultRequireAll(Long articleId) {
         NaverArticleEntity article = naverArticleRepository.findById(articleId)
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND));
 
-        var summaryOpt = aiArticleSummaryRepository.findTopByArticleIdOrderByCreatedAtDesc(articleId);
-        var insightOpt = aiArticleInsightRepository.findTopByArticleIdOrderByCreatedAtDesc(articleId);
-        var quizContentOpt = aiQuizSetRepository.findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(articleId, AiJobType.QUIZ_CONTENT);
-        var quizTermOpt = aiQuizSetRepository.findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(articleId, AiJobType.QUIZ_TERM);
+        // 유사 중복 기사면 원본 기사의 AI 결과를 사용
+        Long aiArticleId = article.resolveAiArticleId();
 
-        List<com.finsight.finsight.domain.ai.persistence.entity.AiTermCardEntity> cards =
-                aiTermCardRepository.findByArticleIdOrderByCardOrderAsc(articleId);
+        // DAG 완료 시 조립된 묶음 (로컬 → Redis → DB), 없으면 결과 테이블에서 직접 조립
+        Optional<AiArticleBundle> cached = bundleService.get(aiArticleId);
+        AiArticleBundle bundle = cached.or(() -> bundleService.assemble(aiArticleId)).orElse(null);
 
-        boolean ready = summaryOpt.isPresent()
-                && insightOpt.isPresent()
-                && quizContentOpt.isPresent()
-                && quizTermOpt.isPresent()
-                && cards.size() >= 3;
-
-        if (!ready) {
+        if (bundle == null) {
+            // 사용자가 기다리는 기사 → 남은 Job 을 backlog 앞으로
+            aiJobService.boostArticle(aiArticleId, "ai_result");
             throw new AppException(AiErrorCode.AI_RESULT_NOT_READY);
         }
-
-        var summary = summaryOpt.get();
-        var insight = insightOpt.get();
-        var quizContent = quizContentOpt.get();
-        var quizTerm = quizTermOpt.get();
+        if (cached.isEmpty()) {
+            // 묶음 도입 전에 완료된 기사 → 다음 조회부터 묶음으로
+            bundleService.backfill(bundle);
+        }
 
         return ArticleAiResultResponse.of(
                 article,
-                summary.getSummary3Lines(),
-                summary.getSummaryFull(),
-                cards.stream().map(TermCardResponse::from).toList(),
-                insight.getInsightJson(),
-                List.of(
-                        QuizResponse.from(quizContent),
-                        QuizResponse.from(quizTerm)
-                )
+                bundle.summary3Lines(),
+                bundle.summaryFull(),
+                bundle.termCards(),
+                bundle.insightJson(),
+                bundle.quizzes()
         );
     }
 }
@@ -0,0 +1,299 @@
+package com.finsight.finsight.domain.ai.domain.throttle;
+
+import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
+import com.finsight.finsight.global.config.OpenAiProperties;
+import com.finsight.finsight.global.exception.AppException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * OpenAI 동시 요청 제한 (AIMD) + 클러스터 공유 잔량(OpenAiRateLimitBudget)
+ *
+ * - 요청 전 acquire(): 동시 요청 permit 대기(논블로킹) → Redis 잔량 차감 (부족하면 리셋까지 대기)
+ * - 성공 + 잔량 여유(limiterHeadroomRatio 초과): limit += limiterIncreaseStep / limit (윈도우당 +step)
+ * - 성공 + 잔량 여유 없음: 유지 (한도 바로 아래에서 운행)
+ * - 429 / timeout: limit *= limiterDecreaseFactor
+ * - 대기가 limiterMaxQueueWaitMs 를 넘으면 OPENAI_LOCAL_THROTTLED 로 거절 (Job 은 재시도 횟수 차감 없이 PENDING)
+ * - 메트릭: openai_limiter_limit, openai_limiter_in_flight, openai_limiter_queue_size,
+ *           openai_limiter_wait_seconds, openai_limiter_rejected_total{reason}, openai_ratelimit_remaining{kind}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiConcurrencyLimiter {
+
+    private final OpenAiProperties props;
+    private final OpenAiRateLimitBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    private final Object lock = new Object();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+
+    // 마지막으로 본 헤더 잔량 (증가 여부 판단 + 게이지)
+    private final AtomicReference<RateLimitSnapshot> lastSnapshot = new AtomicReference<>();
+    private final AtomicLong remainingRequests = new AtomicLong(-1);
+    private final AtomicLong remainingTokens = new AtomicLong(-1);
+
+    private Timer waitTimer;
+
+    @PostConstruct
+    void init() {
+        limit = clamp(props.getLimiterInitialConcurrency());
+
+        Gauge.builder("openai_limiter_limit", this, l -> l.snapshot(true))
+                .register(meterRegistry);
+        Gauge.builder("openai_limiter_in_flight", this, l -> l.snapshot(false))
+                .register(meterRegistry);
+        Gauge.builder("openai_limiter_queue_size", this, OpenAiConcurrencyLimiter::queueSize)
+                .register(meterRegistry);
+        Gauge.builder("openai_ratelimit_remaining", remainingRequests, AtomicLong::get)
+                .tag("kind", "requests")
+                .register(meterRegistry);
+        Gauge.builder("openai_ratelimit_remaining", remainingTokens, AtomicLong::get)
+                .tag("kind", "tokens")
+                .register(meterRegistry);
+
+        waitTimer = Timer.builder("openai_limiter_wait_seconds")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 1건 permit 획득 (구독 시점부터 대기, 스레드를 잡지 않음)
+     * - 반환된 Permit 은 응답(성공/실패)과 상관없이 반드시 release
+     */
+    public Mono<Permit> acquire(long estimatedTokens) {
+        if (!props.isLimiterEnabled()) return Mono.just(Permit.NOOP);
+
+        return Mono.defer(() -> {
+            long startNs = System.nanoTime();
+            long deadlineNs = startNs + TimeUnit.MILLISECONDS.toNanos(props.getLimiterMaxQueueWaitMs());
+
+            return Mono.<Permit>create(this::enqueue)
+                    .timeout(Duration.ofMillis(props.getLimiterMaxQueueWaitMs()))
+                    .onErrorMap(TimeoutException.class, e -> reject("queue_timeout"))
+                    // timeout 과 permit 전달이 겹쳐 버려진 permit 반납
+                    .doOnDiscard(Permit.class, Permit::release)
+                    .flatMap(permit -> awaitBudget(estimatedTokens, deadlineNs)
+                            .thenReturn(permit)
+                            .doOnError(e -> permit.release()))
+                    .doOnNext(permit -> waitTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    /**
+     * 응답 헤더 반영 (성공/에러 응답 모두)
+     */
+    public void onHeaders(HttpHeaders headers) {
+        if (!props.isLimiterEnabled()) return;
+
+        RateLimitSnapshot snapshot = RateLimitSnapshot.from(headers);
+        if (snapshot.isEmpty()) return;
+
+        lastSnapshot.set(snapshot);
+        if (snapshot.remainingRequests() >= 0) remainingRequests.set(snapshot.remainingRequests());
+        if (snapshot.remainingTokens() >= 0) remainingTokens.set(snapshot.remainingTokens());
+
+        if (props.isLimiterRedisBudgetEnabled()) {
+            // Redis 호출은 블로킹 → 이벤트 루프 밖에서
+            Schedulers.boundedElastic().schedule(() -> budget.update(snapshot));
+        }
+    }
+
+    /**
+     * 성공 응답 → 잔량 여유가 있으면 증가
+     */
+    public void onSuccess() {
+        if (!props.isLimiterEnabled()) return;
+
+        RateLimitSnapshot last = lastSnapshot.get();
+        if (last != null && last.remainingRatio() <= props.getLimiterHeadroomRatio()) return; // 한도 근처: 유지
+
+        synchronized (lock) {
+            limit = clamp(limit + props.getLimiterIncreaseStep() / limit);
+            drainLocked();
+        }
+    }
+
+    /**
+     * 429 / timeout → 감소
+     * @param reason http_429 | timeout
+     */
+    public void onBackoff(String reason) {
+        if (!props.isLimiterEnabled()) return;
+
+        double before;
+        double after;
+        synchronized (lock) {
+            before = limit;
+            limit = clamp(limit * props.getLimiterDecreaseFactor());
+            after = limit;
+        }
+
+        Counter.builder("openai_limiter_backoff_total")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        log.info("[OPENAI-LIMIT] backoff reason={} limit={} -> {}",
+                reason, String.format("%.2f", before), String.format("%.2f", after));
+    }
+
+    // =========================
+    // permit 대기열
+    // =========================
+
+    private void enqueue(MonoSink<Permit> sink) {
+        Waiter waiter = new Waiter(sink);
+        boolean granted = false;
+
+        synchronized (lock) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                granted = true;
+            } else {
+                waiters.addLast(waiter);
+            }
+        }
+
+        if (granted) {
+            waiter.grant();
+            return;
+        }
+
+        // 대기 중 취소(timeout) → 대기열에서 제거, 이미 permit 을 받았으면 반납
+        sink.onCancel(() -> {
+            if (waiter.cancel()) {
+                synchronized (lock) {
+                    waiters.remove(waiter);
+                }
+            }
+        });
+    }
+
+    private void release() {
+        synchronized (lock) {
+            inFlight--;
+            drainLocked();
+        }
+    }
+
+    /**
+     * 빈 permit 만큼 대기열 앞에서부터 배정 (lock 보유 상태에서 호출)
+     */
+    private void drainLocked() {
+        while (!waiters.isEmpty() && inFlight < (int) limit) {
+            Waiter next = waiters.pollFirst();
+            inFlight++;
+            // sink 로의 전달은 다른 스레드로 넘겨서 lock 안에서 다운스트림이 실행되지 않게
+            Schedulers.parallel().schedule(next::grant);
+        }
+    }
+
+    private Mono<Void> awaitBudget(long estimatedTokens, long deadlineNs) {
+        if (!props.isLimiterRedisBudgetEnabled()) return Mono.empty();
+
+        return Mono.fromCallable(() -> budget.tryConsume(estimatedTokens))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(waitMs -> {
+                    if (waitMs <= 0) return Mono.<Void>empty();
+                    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs) > deadlineNs) {
+                        return Mono.<Void>error(reject("budget_exhausted"));
+                    }
+                    return Mono.delay(Duration.ofMillis(waitMs))
+                            .then(Mono.defer(() -> awaitBudget(estimatedTokens, deadlineNs)));
+                });
+    }
+
+    private AppException reject(String reason) {
+        Counter.builder("openai_limiter_rejected_total")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("[OPENAI-LIMIT] event_type=openai_limiter_rejected reason={} limit={} in_flight={} queue={}",
+                reason, String.format("%.2f", snapshot(true)), (int) snapshot(false), queueSize());
+        return new AppException(AiErrorCode.OPENAI_LOCAL_THROTTLED);
+    }
+
+    private double clamp(double value) {
+        return Math.max(props.getLimiterMinConcurrency(), Math.min(props.getLimiterMaxConcurrency(), value));
+    }
+
+    private double snapshot(boolean limitValue) {
+        synchronized (lock) {
+            return limitValue ? limit : inFlight;
+        }
+    }
+
+    private double queueSize() {
+        synchronized (lock) {
+            return waiters.size();
+        }
+    }
+
+    /**
+     * 대기 중인 구독 1건 (permit 전달과 취소 중 먼저 온 쪽만 유효)
+     */
+    private final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        void grant() {
+            if (done.compareAndSet(false, true)) {
+                sink.success(new Permit(OpenAiConcurrencyLimiter.this::release));
+            } else {
+                release(); // 이미 취소됨 → 받은 permit 반납
+            }
+        }
+
+        /**
+         * @return 대기열에 있을 때 취소됐으면 true (permit 을 받은 적 없음)
+         */
+        boolean cancel() {
+            return done.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * 동시 요청 permit (release 는 여러 번 호출해도 한 번만 반영)
+     */
+    public static final class Permit {
+        static final Permit NOOP = new Permit(() -> { });
+
+        private final Runnable onRelease;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Runnable onRelease) {
+            this.onRelease = onRelease;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) onRelease.run();
+        }
+    }
+}
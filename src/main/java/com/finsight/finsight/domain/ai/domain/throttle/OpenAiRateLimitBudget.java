@@ -0,0 +1,89 @@
+package com.finsight.finsight.domain.ai.domain.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * OpenAI 요청/토큰 잔량 (클러스터 공유, Redis)
+ *
+ * - key: ai:openai:budget:requests / ai:openai:budget:tokens
+ * - 값: x-ratelimit-remaining-* 헤더 (TTL = x-ratelimit-reset-*)
+ *   → 응답이 올 때마다 헤더 값으로 덮어씀 (OpenAI 가 본 실제 잔량이 기준)
+ * - 요청 전 tryConsume 으로 요청 1개 + 예상 토큰을 미리 차감 (모든 인스턴스 공통)
+ *   → 예상 토큰은 실제보다 크게 잡으므로, 다음 응답 헤더가 실제 사용량 기준으로 다시 올려 놓음
+ *     (더 작은 값만 반영하면 과다 차감이 쌓여 TTL 이 끝날 때까지 막힘)
+ * - 키가 없으면(헤더를 아직 못 봤거나 윈도우 리셋) 제한 없음
+ * - Redis 장애 시에는 통과 (로컬 동시성 제한만 적용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiRateLimitBudget {
+
+    private static final String REQUESTS_KEY = "ai:openai:budget:requests";
+    private static final String TOKENS_KEY = "ai:openai:budget:tokens";
+
+    // 잔량 부족이면 리셋까지 남은 ms, 아니면 차감 후 0
+    private static final String CONSUME_SCRIPT =
+            "local r = redis.call('GET', KEYS[1]) " +
+            "if r and tonumber(r) < 1 then return math.max(redis.call('PTTL', KEYS[1]), 50) end " +
+            "local t = redis.call('GET', KEYS[2]) " +
+            "if t and tonumber(t) < tonumber(ARGV[1]) then return math.max(redis.call('PTTL', KEYS[2]), 50) end " +
+            "if r then redis.call('DECR', KEYS[1]) end " +
+            "if t then redis.call('DECRBY', KEYS[2], ARGV[1]) end " +
+            "return 0";
+
+    private static final DefaultRedisScript<Long> CONSUME_REDIS_SCRIPT = new DefaultRedisScript<>(CONSUME_SCRIPT, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청 1개 + 예상 토큰 차감
+     * @return 0 이면 통과, 양수면 잔량이 리셋될 때까지 기다려야 하는 시간 (ms)
+     */
+    public long tryConsume(long estimatedTokens) {
+        try {
+            Long waitMs = redisTemplate.execute(CONSUME_REDIS_SCRIPT,
+                    List.of(REQUESTS_KEY, TOKENS_KEY), String.valueOf(estimatedTokens));
+            return waitMs == null ? 0 : waitMs;
+        } catch (Exception e) {
+            incError("consume");
+            log.debug("[OPENAI-LIMIT] budget consume failed, allow", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 응답 헤더의 잔량 반영 (블로킹 호출이므로 이벤트 루프 밖에서 호출)
+     */
+    public void update(RateLimitSnapshot snapshot) {
+        set(REQUESTS_KEY, snapshot.remainingRequests(), snapshot.resetRequestsMs());
+        set(TOKENS_KEY, snapshot.remainingTokens(), snapshot.resetTokensMs());
+    }
+
+    private void set(String key, long remaining, long resetMs) {
+        if (remaining < 0 || resetMs <= 0) return;
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(remaining), Duration.ofMillis(resetMs));
+        } catch (Exception e) {
+            incError("update");
+            log.debug("[OPENAI-LIMIT] budget update failed key={}", key, e);
+        }
+    }
+
+    private void incError(String op) {
+        Counter.builder("openai_limiter_budget_errors_total")
+                .tag("op", op)
+                .register(meterRegistry)
+                .increment();
+    }
+}
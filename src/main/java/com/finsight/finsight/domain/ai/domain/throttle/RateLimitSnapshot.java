@@ -0,0 +1,93 @@
+package com.finsight.finsight.domain.ai.domain.throttle;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * OpenAI x-ratelimit-* 응답 헤더 (없는 값은 -1)
+ *
+ * - x-ratelimit-limit-requests / x-ratelimit-remaining-requests / x-ratelimit-reset-requests
+ * - x-ratelimit-limit-tokens / x-ratelimit-remaining-tokens / x-ratelimit-reset-tokens
+ * - reset 은 "1s", "6m0s", "59.5s", "20ms" 형식
+ */
+public record RateLimitSnapshot(
+        long limitRequests,
+        long remainingRequests,
+        long resetRequestsMs,
+        long limitTokens,
+        long remainingTokens,
+        long resetTokensMs
+) {
+
+    public static RateLimitSnapshot from(HttpHeaders headers) {
+        return new RateLimitSnapshot(
+                number(headers.getFirst("x-ratelimit-limit-requests")),
+                number(headers.getFirst("x-ratelimit-remaining-requests")),
+                durationMs(headers.getFirst("x-ratelimit-reset-requests")),
+                number(headers.getFirst("x-ratelimit-limit-tokens")),
+                number(headers.getFirst("x-ratelimit-remaining-tokens")),
+                durationMs(headers.getFirst("x-ratelimit-reset-tokens"))
+        );
+    }
+
+    public boolean isEmpty() {
+        return remainingRequests < 0 && remainingTokens < 0;
+    }
+
+    /**
+     * 남은 비율 (요청/토큰 중 작은 쪽, 헤더가 없으면 1.0)
+     */
+    public double remainingRatio() {
+        return Math.min(ratio(remainingRequests, limitRequests), ratio(remainingTokens, limitTokens));
+    }
+
+    private static double ratio(long remaining, long limit) {
+        if (remaining < 0 || limit <= 0) return 1.0;
+        return (double) remaining / limit;
+    }
+
+    private static long number(String value) {
+        if (value == null || value.isBlank()) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * "6m0s" → 360000, "59.5s" → 59500, "20ms" → 20 (형식이 다르면 -1)
+     */
+    static long durationMs(String value) {
+        if (value == null || value.isBlank()) return -1;
+        String s = value.trim();
+
+        double totalMs = 0;
+        int i = 0;
+        boolean any = false;
+        while (i < s.length()) {
+            int start = i;
+            while (i < s.length() && (Character.isDigit(s.charAt(i)) || s.charAt(i) == '.')) i++;
+            if (start == i) return -1;
+            double n;
+            try {
+                n = Double.parseDouble(s.substring(start, i));
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+
+            int unitStart = i;
+            while (i < s.length() && Character.isLetter(s.charAt(i))) i++;
+            switch (s.substring(unitStart, i)) {
+                case "ms" -> totalMs += n;
+                case "s" -> totalMs += n * 1_000;
+                case "m" -> totalMs += n * 60_000;
+                case "h" -> totalMs += n * 3_600_000;
+                default -> {
+                    return -1;
+                }
+            }
+            any = true;
+        }
+        return any ? (long) Math.ceil(totalMs) : -1;
+    }
+}
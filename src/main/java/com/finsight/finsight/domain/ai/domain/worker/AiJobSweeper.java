@@ -1,28 +1,25 @@
 package com.finsight.finsight.domain.ai.domain.worker;
 
 import com.finsight.finsight.domain.ai.domain.metrics.AiMetrics;
-import com.finsight.finsight.domain.ai.persistence.entity.AiJobEntity;
-import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
 import com.finsight.finsight.domain.ai.persistence.repository.AiJobRepository;
+import com.finsight.finsight.global.config.AiPriorityProperties;
+import com.finsight.finsight.global.config.AiSweeperProperties;
 import lombok.AccessLevel;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.function.IntSupplier;
 
 /**
  * AI Job Sweeper - 중단 복구 스케줄러
  *
  * 1분 주기로 실행하며 다음 작업 수행:
- * - RUNNING 상태에서 stuck된 Job 복구 (10분 이상 RUNNING)
+ * - RUNNING 상태에서 리스가 만료된 Job 복구 (워커 종료/장애로 연장이 끊김)
+ * - RUNNING 상태에서 stuck된 Job 복구 (리스 없이 10분 이상 RUNNING)
  * - RETRY_WAIT 상태에서 nextRunAt이 지난 Job을 PENDING으로 전환
+ * - 오래 기다린 PENDING Job 우선순위 에이징
  */
 @Slf4j
 @Component
@@ -32,9 +29,13 @@ public class AiJobSweeper {
     private final AiJobRepository aiJobRepository;
     private final AiMetrics aiMetrics;
     private final AiSweeperProperties props;
+    private final AiPriorityProperties priorityProps;
 
+    /**
+     * 트랜잭션은 전환 UPDATE 청크마다 따로 (리포지토리 메서드 단위)
+     * → backlog 가 커져도 잠금 유지 시간/메모리가 청크 크기로 고정
+     */
     @Scheduled(cron = "${ai.sweeper.cron:0 */1 * * * *}")
-    @Transactional
     public void sweep() {
         if (!props.isEnabled()) {
             return;
@@ -44,12 +45,14 @@ public class AiJobSweeper {
         aiMetrics.incSweeperEvent("run");
 
         try {
+            int leaseRecovered = recoverLeaseExpiredJobs();
             int stuckRecovered = recoverStuckJobs();
             int retryWaitRecovered = recoverRetryWaitJobs();
+            int aged = agePendingJobs();
 
-            if (stuckRecovered > 0 || retryWaitRecovered > 0) {
-                log.info("[AI-SWEEPER] event_type=ai_sweeper_complete stuck_recovered={} retry_wait_recovered={}",
-                        stuckRecovered, retryWaitRecovered);
+            if (leaseRecovered > 0 || stuckRecovered > 0 || retryWaitRecovered > 0 || aged > 0) {
+                log.info("[AI-SWEEPER] event_type=ai_sweeper_complete lease_recovered={} stuck_recovered={} retry_wait_recovered={} aged={}",
+                        leaseRecovered, stuckRecovered, retryWaitRecovered, aged);
             }
         } catch (Exception e) {
             aiMetrics.incSweeperEvent("error");
@@ -58,41 +61,42 @@ public class AiJobSweeper {
     }
 
     /**
-     * RUNNING 상태에서 stuck된 Job 복구
+     * RUNNING 상태에서 리스가 만료된 Job 복구
+     * - 살아 있는 워커는 lease-renew-interval 마다 연장하므로 만료 = 소유 워커가 사라짐
+     */
+    private int recoverLeaseExpiredJobs() {
+        return recoverRunningJobs("lease_expired",
+                () -> aiJobRepository.requeueLeaseExpired(props.getChunkSize()),
+                () -> aiJobRepository.failLeaseExpired(props.getChunkSize()));
+    }
+
+    /**
+     * RUNNING 상태에서 stuck된 Job 복구 (리스 없이 RUNNING 된 행)
      * - runningStartedAt 기준으로 stuckThresholdMinutes(기본 10분) 초과면 stuck
-     * - retryCount < maxRetries: RETRY_WAIT로 전환 (1분 후 재시도)
-     * - retryCount >= maxRetries: FAILED로 전환
      */
     private int recoverStuckJobs() {
-        LocalDateTime threshold = LocalDateTime.now().minusMinutes(props.getStuckThresholdMinutes());
-        List<AiJobEntity> stuckJobs = aiJobRepository.findStuckRunningJobs(AiJobStatus.RUNNING, threshold);
-
-        if (stuckJobs.isEmpty()) {
-            return 0;
-        }
+        int minutes = props.getStuckThresholdMinutes();
+        return recoverRunningJobs("stuck",
+                () -> aiJobRepository.requeueStuck(minutes, props.getChunkSize()),
+                () -> aiJobRepository.failStuck(minutes, props.getChunkSize()));
+    }
 
-        int recoveredToRetry = 0;
-        int recoveredToFailed = 0;
-
-        for (AiJobEntity job : stuckJobs) {
-            if (job.canRetry()) {
-                job.markStuckRetryWait();
-                recoveredToRetry++;
-                log.warn("[AI-SWEEPER] event_type=ai_job_stuck_recovered job_id={} job_type={} retry_count={} action=RETRY_WAIT",
-                        job.getId(), job.getJobType(), job.getRetryCount());
-            } else {
-                job.markStuckFailed();
-                recoveredToFailed++;
-                log.warn("[AI-SWEEPER] event_type=ai_job_stuck_failed job_id={} job_type={} action=FAILED",
-                        job.getId(), job.getJobType());
-            }
-        }
+    /**
+     * 소유 워커가 없는 RUNNING Job 전환 (retry_count/max_retries 판단은 SQL 에서)
+     * - retryCount < maxRetries: RETRY_WAIT로 전환 (1분 후 재시도)
+     * - retryCount >= maxRetries: FAILED로 전환
+     */
+    private int recoverRunningJobs(String reason, IntSupplier toRetry, IntSupplier toFailed) {
+        int recoveredToRetry = drain(toRetry);
+        int recoveredToFailed = drain(toFailed);
 
         if (recoveredToRetry > 0) {
-            aiMetrics.incSweeperRecovered("stuck_to_retry", recoveredToRetry);
+            aiMetrics.incSweeperRecovered(reason + "_to_retry", recoveredToRetry);
+            log.warn("[AI-SWEEPER] event_type=ai_job_{}_recovered count={} action=RETRY_WAIT", reason, recoveredToRetry);
         }
         if (recoveredToFailed > 0) {
-            aiMetrics.incSweeperRecovered("stuck_to_failed", recoveredToFailed);
+            aiMetrics.incSweeperRecovered(reason + "_to_failed", recoveredToFailed);
+            log.warn("[AI-SWEEPER] event_type=ai_job_{}_failed count={} action=FAILED", reason, recoveredToFailed);
         }
 
         return recoveredToRetry + recoveredToFailed;
@@ -102,29 +106,44 @@ public class AiJobSweeper {
      * RETRY_WAIT 상태에서 nextRunAt이 지난 Job을 PENDING으로 전환
      */
     private int recoverRetryWaitJobs() {
-        LocalDateTime now = LocalDateTime.now();
-        List<AiJobEntity> retryWaitJobs = aiJobRepository.findRetryWaitJobsReadyToRun(AiJobStatus.RETRY_WAIT, now);
+        int recovered = drain(() -> aiJobRepository.releaseRetryWait(props.getChunkSize()));
 
-        if (retryWaitJobs.isEmpty()) {
-            return 0;
+        if (recovered > 0) {
+            aiMetrics.incSweeperRecovered("retry_wait_to_pending", recovered);
+            log.info("[AI-SWEEPER] event_type=ai_job_retry_wait_to_pending count={}", recovered);
         }
+        return recovered;
+    }
 
-        for (AiJobEntity job : retryWaitJobs) {
-            job.markPendingForRetry();
-            log.info("[AI-SWEEPER] event_type=ai_job_retry_wait_to_pending job_id={} job_type={} retry_count={}",
-                    job.getId(), job.getJobType(), job.getRetryCount());
+    /**
+     * PENDING 이 agingMinutes 기다릴 때마다 우선순위 +1 (부스트 우선순위까지)
+     * - 부스트된 Job 이 계속 들어와도 오래된 Job 이 무기한 밀리지 않음
+     */
+    private int agePendingJobs() {
+        int agingMinutes = priorityProps.getAgingMinutes();
+        if (agingMinutes <= 0) {
+            return 0;
         }
 
-        aiMetrics.incSweeperRecovered("retry_wait_to_pending", retryWaitJobs.size());
-        return retryWaitJobs.size();
+        int aged = drain(() -> aiJobRepository.agePending(agingMinutes, priorityProps.getBoostPriority(), props.getChunkSize()));
+        if (aged > 0) {
+            aiMetrics.incSweeperRecovered("pending_aged", aged);
+        }
+        return aged;
     }
 
-    @Component
-    @ConfigurationProperties(prefix = "ai.sweeper")
-    @Getter
-    @Setter
-    public static class AiSweeperProperties {
-        private boolean enabled = true;
-        private int stuckThresholdMinutes = 10;
+    /**
+     * 청크 UPDATE 를 대상이 없을 때까지 반복 (한 번 실행에 maxChunksPerRun 까지, 남은 건 다음 주기)
+     */
+    private int drain(IntSupplier chunk) {
+        int total = 0;
+        for (int i = 0; i < props.getMaxChunksPerRun(); i++) {
+            int updated = chunk.getAsInt();
+            total += updated;
+            if (updated < props.getChunkSize()) {
+                break;
+            }
+        }
+        return total;
     }
 }
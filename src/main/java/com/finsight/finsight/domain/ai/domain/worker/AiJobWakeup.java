@@ -0,0 +1,148 @@
+package com.finsight.finsight.domain.ai.domain.worker;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI Job 깨우기 신호 (Redis pub/sub)
+ *
+ * - enqueue 쪽: 커밋 이후 채널 ai:job:wakeup 에 Job 타입 publish (트랜잭션당 타입별 1회로 묶음)
+ * - 워커 쪽: 모든 인스턴스가 구독 → 로컬 신호로 바꿔서 디스패처 스레드를 깨움
+ * - pub/sub 는 유실될 수 있으므로 cron 폴링은 안전망으로 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiJobWakeup implements MessageListener {
+
+    static final String CHANNEL = "ai:job:wakeup";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    // 아직 처리하지 않은 깨우기 신호 (monitor = this.signaled)
+    private final Set<AiJobType> signaled = EnumSet.noneOf(AiJobType.class);
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // =========================
+    // publish (enqueue 쪽)
+    // =========================
+
+    /**
+     * 새 Job 알림
+     * - 트랜잭션 안이면 커밋 이후에 publish (워커가 아직 안 보이는 row를 찾지 않도록)
+     */
+    public void publish(AiJobType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(EnumSet.of(type));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<AiJobType> pending = (Set<AiJobType>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<AiJobType> types = EnumSet.noneOf(AiJobType.class);
+            TransactionSynchronizationManager.bindResource(this, types);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(types);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AiJobWakeup.this);
+                }
+            });
+            pending = types;
+        }
+        pending.add(type);
+    }
+
+    private void send(Set<AiJobType> types) {
+        for (AiJobType type : types) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, type.name());
+                inc("published");
+            } catch (Exception e) {
+                // 실패해도 cron 안전망이 처리
+                inc("publish_error");
+                log.warn("[AI-WAKEUP] publish failed type={} err={}", type, e.toString());
+            }
+        }
+    }
+
+    // =========================
+    // subscribe (워커 쪽)
+    // =========================
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            signal(AiJobType.valueOf(body));
+            inc("received");
+        } catch (IllegalArgumentException e) {
+            inc("invalid");
+            log.debug("[AI-WAKEUP] invalid message body={}", body);
+        }
+    }
+
+    /**
+     * 로컬 깨우기 (슬롯이 비었는데 밀린 Job이 있을 때 등)
+     */
+    void signal(AiJobType type) {
+        synchronized (signaled) {
+            signaled.add(type);
+            signaled.notifyAll();
+        }
+    }
+
+    /**
+     * 신호가 올 때까지 대기
+     *
+     * @return 깨운 Job 타입 (타임아웃이면 빈 집합)
+     */
+    Set<AiJobType> await(long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (signaled) {
+            while (signaled.isEmpty()) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) return EnumSet.noneOf(AiJobType.class);
+                signaled.wait(remainingMs);
+            }
+            Set<AiJobType> out = EnumSet.copyOf(signaled);
+            signaled.clear();
+            return out;
+        }
+    }
+
+    private void inc(String event) {
+        Counter.builder("ai_worker_wakeup_total")
+                .tag("event", event)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,50 +1,230 @@
 package com.finsight.finsight.domain.ai.domain.worker;
 
-import com.finsight.finsight.domain.ai.domain.lock.AiJobLockService;
 import com.finsight.finsight.domain.ai.domain.service.AiJobService;
 import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
 import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.global.config.AiWorkerProperties;
 import com.finsight.finsight.global.exception.AppException;
 import io.micrometer.core.instrument.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI Job 워커
+ *
+ * - 디스패처 스레드가 깨우기 신호(AiJobWakeup, Redis pub/sub)를 기다리다가 신호가 온 타입만 바로 배정
+ * - cron 은 신호 유실 대비 안전망 (전체 타입 배정)
+ * - 배정은 타입별 빈 슬롯만큼만 PENDING Job을 claim(RUNNING + 리스)해서 워커 풀에 넘기고 바로 반환
+ * - claim 은 DB 한 트랜잭션(SKIP LOCKED + UPDATE)으로 끝남, Job 단위 Redis 락 없음
+ * - 실행 중 Job 리스는 주기적으로 한 번에 연장, 워커가 죽어 연장이 끊기면 Sweeper가 회수
+ *   (연장은 전용 스레드에서: @Scheduled 공용 스레드는 크롤링 cron 등이 몇 분씩 잡고 있을 수 있어 리스가 만료됨)
+ * - Job 실행은 고정 크기 풀(maxInFlight)에서 병렬로 진행 (OpenAI 호출 대기 동안 다른 Job 처리)
+ * - asyncEnabled 면 풀 스레드는 요청 준비까지만, OpenAI 응답 대기는 논블로킹 (슬롯은 응답 처리 후 반환)
+ * - 동시 실행 상한: 전체 maxInFlight + 타입별 typeConcurrency
+ * - 메트릭: ai_worker_active_slots{type}, ai_worker_in_flight, ai_worker_slot_utilization{type}
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class AiJobWorker {
 
     private final AiJobService aiJobService;
-    private final AiJobLockService lockService;
     private final MeterRegistry meterRegistry;
     private final AiWorkerProperties props;
+    private final AiJobWakeup wakeup;
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final long WAKEUP_POLL_MS = 5_000;
+
+    // 리스 소유자 (인스턴스별)
+    private final String workerId = generateWorkerId();
+
+    // 리스 연장 대상 (실행 중 Job)
+    private final Set<Long> leasedJobs = ConcurrentHashMap.newKeySet();
+
+    // 배정(dispatch)은 한 번에 하나만 (cron 은 건너뛰고, 깨우기 신호는 대기)
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+
+    // 마지막 배정에서 슬롯이 모자랐던 타입 → 슬롯이 비면 바로 다시 배정
+    private final Set<AiJobType> backlogged = ConcurrentHashMap.newKeySet();
+
+    // 실행 슬롯 (전체 / 타입별)
+    private final Map<AiJobType, Semaphore> typeSlots = new EnumMap<>(AiJobType.class);
+    private final Map<AiJobType, AtomicInteger> activeByType = new EnumMap<>(AiJobType.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private Semaphore globalSlots;
+    private ExecutorService executor;
+    private ScheduledExecutorService leaseRenewer;
+    private Thread dispatcher;
+
+    @PostConstruct
+    void init() {
+        int maxInFlight = Math.max(1, props.getMaxInFlight());
+        globalSlots = new Semaphore(maxInFlight);
+
+        for (AiJobType type : AiJobType.values()) {
+            int limit = props.concurrencyOf(type);
+            AtomicInteger active = new AtomicInteger();
+            typeSlots.put(type, new Semaphore(limit));
+            activeByType.put(type, active);
+
+            Gauge.builder("ai_worker_active_slots", active, AtomicInteger::get)
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            Gauge.builder("ai_worker_slot_utilization", active, a -> (double) a.get() / limit)
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+        }
 
-    private final AtomicBoolean running = new AtomicBoolean(false);
+        Gauge.builder("ai_worker_in_flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("ai_worker_slot_utilization", inFlight, n -> (double) n.get() / maxInFlight)
+                .tag("type", "ALL")
+                .register(meterRegistry);
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxInFlight, r -> {
+            Thread t = new Thread(r, "ai-worker-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long renewMs = Math.max(1, props.getLeaseRenewIntervalMs());
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-worker-lease-renewer");
+            t.setDaemon(true);
+            return t;
+        });
+        leaseRenewer.scheduleWithFixedDelay(this::renewLeases, renewMs, renewMs, TimeUnit.MILLISECONDS);
+
+        if (props.isWakeupEnabled()) {
+            dispatcher = new Thread(this::dispatchLoop, "ai-worker-dispatcher");
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+        }
+    }
 
+    /**
+     * 실행 중인 Job은 마저 끝내고 종료 (시간 초과로 끊긴 Job은 리스 만료 후 Sweeper가 복구)
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (dispatcher != null) dispatcher.interrupt();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("[AI-WORKER] event_type=ai_worker_shutdown_timeout in_flight={}", inFlight.get());
+            executor.shutdownNow();
+        }
+
+        // 비동기 실행 중인 Job은 풀 밖에서 끝나므로 따로 대기
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        if (inFlight.get() > 0) {
+            log.warn("[AI-WORKER] event_type=ai_worker_shutdown_timeout in_flight={} mode=async", inFlight.get());
+        }
+
+        // 실행 중 Job 을 기다리는 동안에는 계속 연장
+        leaseRenewer.shutdownNow();
+    }
+
+    /**
+     * 안전망 폴링 (깨우기 신호가 유실돼도 여기서 처리)
+     */
     @Scheduled(cron = "${ai.worker.cron:*/30 * * * * *}")
     public void runScheduled() {
         if (!props.isEnabled()) return;
 
-        if (!running.compareAndSet(false, true)) {
+        if (!dispatchLock.tryLock()) {
             incWorker("skipped_already_running");
             return;
         }
+        try {
+            incWorker("run");
+            dispatch(EnumSet.allOf(AiJobType.class));
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
 
-        Timer.Sample sample = Timer.start(meterRegistry);
+    /**
+     * 실행 중 Job 리스 연장 (Job 수와 상관없이 UPDATE 한 번)
+     * - leaseRenewer 전용 스레드에서 실행 (다른 @Scheduled 작업 뒤에서 기다리지 않음)
+     */
+    void renewLeases() {
+        if (leasedJobs.isEmpty()) return;
 
+        List<Long> ids = new ArrayList<>(leasedJobs);
         try {
-            incWorker("run");
+            int renewed = aiJobService.renewLeases(ids, workerId, lease());
+            incLease("renewed", renewed);
+
+            // 연장 사이에 끝난 Job 은 빼고 비교
+            long stillRunning = ids.stream().filter(leasedJobs::contains).count();
+            if (renewed < stillRunning) {
+                incLease("lost", (int) (stillRunning - renewed));
+                log.warn("[AI-WORKER] event_type=ai_lease_lost worker_id={} in_flight={} renewed={}",
+                        workerId, stillRunning, renewed);
+            }
+        } catch (Exception e) {
+            incLease("renew_error", 1);
+            log.warn("[AI-WORKER] event_type=ai_lease_renew_error worker_id={} count={}", workerId, ids.size(), e);
+        }
+    }
 
-            // 처리 순서: SUMMARY -> TERM -> INSIGHT -> QUIZ_CONTENT -> QUIZ_TERM
+    /**
+     * 깨우기 신호 대기 → 신호 온 타입만 즉시 배정
+     */
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Set<AiJobType> types = wakeup.await(WAKEUP_POLL_MS);
+                if (types.isEmpty() || !props.isEnabled()) continue;
+
+                dispatchLock.lockInterruptibly();
+                try {
+                    incWorker("wakeup");
+                    dispatch(types);
+                } finally {
+                    dispatchLock.unlock();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch(Set<AiJobType> types) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            // 배정 순서: DAG 위상 정렬 (SUMMARY -> TERM -> INSIGHT -> QUIZ_CONTENT -> QUIZ_TERM, 빈 슬롯 선점 순서)
             for (AiJobType type : props.getProcessOrder()) {
-                processType(type);
+                if (types.contains(type)) dispatchType(type);
             }
         } catch (Exception e) {
             incWorker("run_error");
@@ -53,62 +233,147 @@ public class AiJobWorker {
             sample.stop(Timer.builder("ai_worker_run_seconds")
                     .publishPercentiles(0.5, 0.9, 0.99)
                     .register(meterRegistry));
-            running.set(false);
         }
     }
 
-    private void processType(AiJobType type) {
-        // 1. PENDING Job ID 목록 조회
-        List<Long> jobIds = aiJobService.findPendingJobIds(type, props.getBatchSize());
+    /**
+     * 타입별 빈 슬롯만큼 PENDING Job을 claim 해서 워커 풀에 배정 (실행 완료를 기다리지 않음)
+     * - 슬롯을 먼저 잡고 claim (claim 된 Job은 바로 실행되어야 하므로)
+     * - 배정은 dispatchLock 안에서만 일어나므로 확인한 빈 슬롯은 줄어들지 않음
+     */
+    private void dispatchType(AiJobType type) {
+        Semaphore typeSlot = typeSlots.get(type);
+        int free = Math.min(typeSlot.availablePermits(), globalSlots.availablePermits());
+        int limit = Math.min(props.getBatchSize(), free);
+        if (limit <= 0 || !globalSlots.tryAcquire(limit)) {
+            backlogged.add(type);
+            incClaim(type, "saturated");
+            return;
+        }
+        if (!typeSlot.tryAcquire(limit)) {
+            globalSlots.release(limit);
+            backlogged.add(type);
+            incClaim(type, "saturated");
+            return;
+        }
+
+        // 1. PENDING → RUNNING claim (리스 부여)
+        List<Long> jobIds;
+        try {
+            jobIds = aiJobService.claimJobs(type, limit, workerId, lease());
+        } catch (RuntimeException e) {
+            typeSlot.release(limit);
+            globalSlots.release(limit);
+            throw e;
+        }
+
+        // 못 채운 슬롯 반납
+        int unused = limit - jobIds.size();
+        if (unused > 0) {
+            typeSlot.release(unused);
+            globalSlots.release(unused);
+        }
+
         if (jobIds.isEmpty()) {
+            backlogged.remove(type);
             incClaim(type, "empty");
             return;
         }
 
-        log.info("[AI-WORKER] event_type=ai_worker_found type={} count={}", type, jobIds.size());
+        // 가져온 만큼 꽉 찼으면 더 남아 있을 수 있음
+        if (jobIds.size() >= limit) backlogged.add(type);
+        else backlogged.remove(type);
+
+        log.info("[AI-WORKER] event_type=ai_worker_claimed type={} count={} worker_id={}", type, jobIds.size(), workerId);
 
-        int processed = 0;
+        int dispatched = 0;
         for (Long jobId : jobIds) {
-            if (processJobWithLock(type, jobId)) {
-                processed++;
+            leasedJobs.add(jobId);
+            try {
+                executor.execute(() -> runInSlot(type, jobId, typeSlot));
+                dispatched++;
+            } catch (RejectedExecutionException e) {
+                // 종료 중: 남은 Job은 리스 만료 후 Sweeper가 회수
+                leasedJobs.remove(jobId);
+                typeSlot.release();
+                globalSlots.release();
             }
         }
 
-        incClaim(type, "processed", processed);
+        incClaim(type, "dispatched", dispatched);
+    }
+
+    private void runInSlot(AiJobType type, Long jobId, Semaphore typeSlot) {
+        activeByType.get(type).incrementAndGet();
+        inFlight.incrementAndGet();
+
+        if (props.isAsyncEnabled()) {
+            runAsync(type, jobId, typeSlot);
+            return;
+        }
+
+        try {
+            if (processJob(type, jobId)) {
+                incClaim(type, "processed");
+            }
+        } finally {
+            releaseSlot(type, jobId, typeSlot);
+        }
     }
 
     /**
-     * 단일 Job 처리 (락 획득 → RUNNING 전환 → 처리 → finally unlock)
+     * 비동기 실행: 구독만 하고 바로 반환, 슬롯은 결과 저장까지 끝난 뒤 반환
+     * (에러 유형별 상태 전환은 AiJobService.processAsync 안에서 처리됨)
      */
-    private boolean processJobWithLock(AiJobType type, Long jobId) {
-        // 2. Redis 락 획득 시도
-        String lockToken = lockService.tryLock(jobId);
-        if (lockToken == null) {
-            incExecute(type, "lock_failed", null);
-            log.debug("[AI-WORKER] event_type=ai_lock_failed job_id={}", jobId);
-            return false;
+    private void runAsync(AiJobType type, Long jobId, Semaphore typeSlot) {
+        long startNs = System.nanoTime();
+        log.info("[AI-WORKER] event_type=ai_job_start job_type={} job_id={} mode=async", type, jobId);
+
+        try {
+            aiJobService.processAsync(type, jobId, workerId)
+                    .doFinally(signal -> {
+                        recordJobTime(type, startNs);
+                        releaseSlot(type, jobId, typeSlot);
+                    })
+                    .subscribe(
+                            null,
+                            e -> {
+                                incExecute(type, "error", "UNEXPECTED");
+                                log.error("[AI-WORKER] event_type=ai_job_unexpected job_type={} job_id={}", type, jobId, e);
+                            },
+                            () -> {
+                                incExecute(type, "success", null);
+                                incClaim(type, "processed");
+                            });
+        } catch (RuntimeException e) {
+            // 구독 전 실패 (doFinally 미등록)
+            incExecute(type, "error", "UNEXPECTED");
+            log.error("[AI-WORKER] event_type=ai_job_unexpected job_type={} job_id={}", type, jobId, e);
+            releaseSlot(type, jobId, typeSlot);
         }
+    }
 
+    private void releaseSlot(AiJobType type, Long jobId, Semaphore typeSlot) {
+        leasedJobs.remove(jobId);
+        activeByType.get(type).decrementAndGet();
+        inFlight.decrementAndGet();
+        typeSlot.release();
+        globalSlots.release();
+
+        // 밀린 Job이 있으면 다음 cron 까지 기다리지 않고 바로 배정
+        if (backlogged.contains(type)) wakeup.signal(type);
+    }
+
+    /**
+     * 단일 Job 처리 (claim 으로 이미 RUNNING + 리스 보유)
+     */
+    private boolean processJob(AiJobType type, Long jobId) {
         long startNs = System.nanoTime();
 
         try {
-            // 3. RUNNING 전환 (DB)
-            if (!aiJobService.tryMarkRunning(jobId)) {
-                incExecute(type, "already_running", null);
-                log.debug("[AI-WORKER] event_type=ai_already_running job_id={}", jobId);
-                return false;
-            }
-
             log.info("[AI-WORKER] event_type=ai_job_start job_type={} job_id={}", type, jobId);
 
-            // 4. 실제 처리
-            switch (type) {
-                case SUMMARY -> aiJobService.processSummary(jobId);
-                case TERM_CARDS -> aiJobService.processTermCards(jobId);
-                case INSIGHT -> aiJobService.processInsight(jobId);
-                case QUIZ_CONTENT -> aiJobService.processQuizContent(jobId);
-                case QUIZ_TERM -> aiJobService.processQuizTerm(jobId);
-            }
+            aiJobService.process(type, jobId, workerId);
 
             incExecute(type, "success", null);
             return true;
@@ -127,22 +392,35 @@ public class AiJobWorker {
             log.error("[AI-WORKER] event_type=ai_job_unexpected job_type={} job_id={}", type, jobId, e);
 
             try {
-                aiJobService.handleJobError(jobId, AiErrorCode.OPENAI_API_FAIL);
+                aiJobService.handleJobError(jobId, workerId, AiErrorCode.OPENAI_API_FAIL);
             } catch (Exception ignore) {
                 // 에러 처리 실패는 무시
             }
             return false;
 
         } finally {
-            // 5. 항상 unlock
-            lockService.unlock(jobId, lockToken);
+            recordJobTime(type, startNs);
+        }
+    }
 
-            long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
-            Timer.builder("ai_worker_job_seconds")
-                    .tag("type", type.name())
-                    .register(meterRegistry)
-                    .record(tookMs, TimeUnit.MILLISECONDS);
+    private void recordJobTime(AiJobType type, long startNs) {
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs);
+        Timer.builder("ai_worker_job_seconds")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(tookMs, TimeUnit.MILLISECONDS);
+    }
+
+    private Duration lease() {
+        return Duration.ofSeconds(Math.max(1, props.getLeaseSeconds()));
+    }
+
+    private static String generateWorkerId() {
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname == null || hostname.isBlank()) {
+            hostname = "worker";
         }
+        return hostname + "-" + UUID.randomUUID().toString().substring(0, 8);
     }
 
     private void incWorker(String event) {
@@ -168,6 +446,13 @@ public class AiJobWorker {
                 .increment(n);
     }
 
+    private void incLease(String event, int n) {
+        Counter.builder("ai_worker_lease_total")
+                .tag("event", event)
+                .register(meterRegistry)
+                .increment(n);
+    }
+
     private void incExecute(AiJobType type, String status, String errorCode) {
         Counter.Builder builder = Counter.builder("ai_worker_execute_total")
                 .tag("type", type.name())
@@ -179,19 +464,4 @@ public class AiJobWorker {
 
         builder.register(meterRegistry).increment();
     }
-
-    @Component
-    @ConfigurationProperties(prefix = "ai.worker")
-    @Getter @Setter
-    public static class AiWorkerProperties {
-        private boolean enabled = true;
-        private int batchSize = 5;
-        private AiJobType[] processOrder = new AiJobType[]{
-                AiJobType.SUMMARY,
-                AiJobType.TERM_CARDS,
-                AiJobType.INSIGHT,
-                AiJobType.QUIZ_CONTENT,
-                AiJobType.QUIZ_TERM
-        };
-    }
 }
@@ -13,6 +13,7 @@ public enum AiErrorCode implements BaseErrorCode {
     AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI-001", "AI 작업을 찾을 수 없습니다."),
     AI_RESULT_NOT_READY(HttpStatus.CONFLICT, "AI-004", "AI 결과 생성이 완료되지 않았습니다."),
     AI_JOB_NOT_SUSPENDED(HttpStatus.BAD_REQUEST, "AI-005", "SUSPENDED 상태가 아닌 작업은 재개할 수 없습니다."),
+    AI_JOB_LEASE_LOST(HttpStatus.CONFLICT, "AI-006", "AI 작업 리스를 잃어 결과를 반영하지 않습니다."),
 
     // Admin
     ADMIN_TOKEN_INVALID(HttpStatus.FORBIDDEN, "AI-401", "관리자 토큰이 유효하지 않습니다."),
@@ -21,6 +22,10 @@ public enum AiErrorCode implements BaseErrorCode {
     OPENAI_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "AI-002", "OpenAI 호출 제한에 걸렸습니다."),
     OPENAI_SERVER_ERROR(HttpStatus.BAD_GATEWAY, "AI-010", "OpenAI 서버 오류가 발생했습니다."),
     OPENAI_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "AI-011", "OpenAI 응답 시간이 초과되었습니다."),
+    OPENAI_BATCH_FAILED(HttpStatus.BAD_GATEWAY, "AI-013", "OpenAI 배치 처리가 완료되지 않았습니다."),
+
+    // OpenAI 호출 전 로컬 제한 - 재시도 횟수 차감 없이 PENDING 으로 되돌림
+    OPENAI_LOCAL_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "AI-012", "OpenAI 호출 한도 대기 시간이 초과되었습니다."),
 
     // OpenAI - 재시도 불가 (SUSPENDED) - 쿼터/결제/인증
     OPENAI_QUOTA_EXHAUSTED(HttpStatus.PAYMENT_REQUIRED, "AI-020", "OpenAI API 크레딧이 소진되었습니다."),
@@ -48,11 +53,19 @@ public enum AiErrorCode implements BaseErrorCode {
         return switch (this) {
             case OPENAI_RATE_LIMIT,
                  OPENAI_SERVER_ERROR,
-                 OPENAI_TIMEOUT -> true;
+                 OPENAI_TIMEOUT,
+                 OPENAI_BATCH_FAILED -> true;
             default -> false;
         };
     }
 
+    /**
+     * OpenAI 에 요청을 보내기 전에 로컬 제한(동시 요청/공유 잔량)에서 거절됐는지 확인
+     */
+    public boolean isLocalThrottle() {
+        return this == OPENAI_LOCAL_THROTTLED;
+    }
+
     /**
      * 재시도 불가 + SUSPENDED 전환 대상 (쿼터/결제/인증)
      */
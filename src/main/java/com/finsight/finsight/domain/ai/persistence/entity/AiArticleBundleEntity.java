@@ -0,0 +1,48 @@
+package com.finsight.finsight.domain.ai.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 AI 결과 묶음 (읽기 모델)
+ * - 기사의 Job DAG 가 전부 SUCCESS 되는 순간 한 번 조립 (AiArticleBundleService)
+ * - 요약/용어 카드/인사이트/퀴즈를 JSON 문서 하나로 → 상세/AI 결과 조회는 이 행 하나 (+ 캐시)
+ * - 같은 기사의 재생성 Job 이 성공하면 삭제, 새 DAG 완료 시 다시 조립
+ */
+@Entity
+@Getter
+@Table(name = "ai_article_bundle")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiArticleBundleEntity {
+
+    // AI 결과 기준 기사 id (유사 중복 기사는 원본 기사 id 로 조회)
+    @Id
+    @Column(name = "naver_article_id")
+    private Long articleId;
+
+    @Column(name = "prompt_version", nullable = false, length = 30)
+    private String promptVersion;
+
+    @Lob
+    @Column(name = "bundle_json", nullable = false)
+    private String bundleJson;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+
+    @Builder
+    private AiArticleBundleEntity(Long articleId, String promptVersion, String bundleJson) {
+        this.articleId = articleId;
+        this.promptVersion = promptVersion;
+        this.bundleJson = bundleJson;
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public void rebuild(String promptVersion, String bundleJson) {
+        this.promptVersion = promptVersion;
+        this.bundleJson = bundleJson;
+        this.builtAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,124 @@
+package com.finsight.finsight.domain.ai.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * OpenAI Batch API 제출 단위 (AiBatchExecutor)
+ *
+ * - 배치에 들어간 Job 은 worker_id = owner 인 RUNNING 행 (custom_id = "job-{ai_job_id}")
+ * - next_poll_at 으로 인스턴스 간 폴링 중복 방지
+ */
+@Entity
+@Getter
+@Table(
+        name = "ai_batch",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_batch_owner", columnNames = {"owner"}),
+        indexes = @Index(name = "idx_ai_batch_status", columnList = "status")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiBatchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ai_batch_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 30)
+    private AiJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private AiBatchStatus status;
+
+    // ai_jobs.worker_id 로 쓰는 값 (batch:{uuid})
+    @Column(name = "owner", nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "openai_batch_id", length = 100)
+    private String openaiBatchId;
+
+    // OpenAI 쪽 상태 (validating, in_progress, finalizing, completed, failed, expired, cancelled ...)
+    @Column(name = "openai_status", length = 30)
+    private String openaiStatus;
+
+    @Column(name = "input_file_id", length = 100)
+    private String inputFileId;
+
+    @Column(name = "output_file_id", length = 100)
+    private String outputFileId;
+
+    @Column(name = "error_file_id", length = 100)
+    private String errorFileId;
+
+    @Column(name = "request_count", nullable = false)
+    private int requestCount;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "last_error_message", length = 1000)
+    private String lastErrorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    private AiBatchEntity(AiJobType jobType, String owner, int requestCount) {
+        this.jobType = jobType;
+        this.owner = owner;
+        this.requestCount = requestCount;
+        this.status = AiBatchStatus.SUBMITTED;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void markSubmitted(String openaiBatchId, String inputFileId, String openaiStatus) {
+        this.openaiBatchId = openaiBatchId;
+        this.inputFileId = inputFileId;
+        this.openaiStatus = openaiStatus;
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    public void markPolled(String openaiStatus) {
+        this.openaiStatus = openaiStatus;
+    }
+
+    /**
+     * 결과 반영 종료 (completed 면 COMPLETED, 그 외 종료 상태는 FAILED)
+     */
+    public void markFinished(String openaiStatus, String outputFileId, String errorFileId,
+                             int successCount, int failedCount) {
+        this.status = "completed".equals(openaiStatus) ? AiBatchStatus.COMPLETED : AiBatchStatus.FAILED;
+        this.openaiStatus = openaiStatus;
+        this.outputFileId = outputFileId;
+        this.errorFileId = errorFileId;
+        this.successCount = successCount;
+        this.failedCount = failedCount;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 제출 실패 (파일 업로드/배치 생성 에러)
+     */
+    public void markSubmitFailed(String errorMessage) {
+        this.status = AiBatchStatus.FAILED;
+        this.lastErrorMessage = errorMessage;
+        this.failedCount = this.requestCount;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.finsight.finsight.domain.ai.persistence.entity;
+
+public enum AiBatchStatus {
+    /** OpenAI 에 제출됨 (validating / in_progress / finalizing) */
+    SUBMITTED,
+    /** 결과 반영 완료 (OpenAI completed) */
+    COMPLETED,
+    /** 제출 실패 또는 OpenAI failed / expired / cancelled (남은 Job 은 RETRY_WAIT) */
+    FAILED
+}
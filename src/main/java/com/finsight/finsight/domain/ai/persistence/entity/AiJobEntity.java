@@ -3,6 +3,7 @@ package com.finsight.finsight.domain.ai.persistence.entity;
 import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -16,14 +17,22 @@ import java.time.LocalDateTime;
         ),
         indexes = {
                 @Index(name = "idx_ai_job_status", columnList = "status"),
-                @Index(name = "idx_ai_job_article", columnList = "naver_article_id")
+                @Index(name = "idx_ai_job_article", columnList = "naver_article_id"),
+                @Index(name = "idx_ai_job_lease", columnList = "status, lease_expires_at"),
+                // 큐 텔레메트리: 최근 끝난 Job 수 (status, finished_at 범위 + job_type 그룹을 인덱스만으로)
+                @Index(name = "idx_ai_job_finished", columnList = "status, finished_at, job_type"),
+                // claim (priority DESC, requested_at ASC) 을 인덱스만으로: 정렬 + prompt_version/next_run_at 필터 + id
+                @Index(name = "idx_ai_job_claim",
+                        columnList = "status, job_type, priority DESC, requested_at, prompt_version, next_run_at, ai_job_id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AiJobEntity {
 
+    // 크롤링 결과와 함께 batch insert 되도록 pooled sequence 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_job_seq_gen")
+    @SequenceGenerator(name = "ai_job_seq_gen", sequenceName = "ai_job_seq", allocationSize = 50)
     @Column(name = "ai_job_id")
     private Long id;
 
@@ -57,6 +66,26 @@ public class AiJobEntity {
     @Column(name = "running_started_at")
     private LocalDateTime runningStartedAt;
 
+    // 리스(lease): claim 한 워커 인스턴스 + 만료 시각 (워커가 주기적으로 연장, 만료되면 Sweeper가 회수)
+    @Column(name = "worker_id", length = 100)
+    private String workerId;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // claim 우선순위 (높을수록 먼저, 같으면 requested_at 순)
+    // - 사용자가 결과를 기다리는 기사는 부스트, 오래 기다린 PENDING 은 Sweeper 가 에이징으로 올림
+    @ColumnDefault("0")
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    // SUMMARY 입력 본문 추정 토큰 수 (ArticleCondenser 압축 전/후)
+    @Column(name = "input_tokens_raw")
+    private Integer inputTokensRaw;
+
+    @Column(name = "input_tokens_condensed")
+    private Integer inputTokensCondensed;
+
     @Column(name = "last_error_code", length = 50)
     private String lastErrorCode;
 
@@ -73,6 +102,10 @@ public class AiJobEntity {
     @Column(name = "finished_at")
     private LocalDateTime finishedAt;
 
+    // root(SUMMARY) Job 에만 기록: 기사의 DAG 전체가 SUCCESS 된 시각 (완료 처리 1회 보장)
+    @Column(name = "chain_completed_at")
+    private LocalDateTime chainCompletedAt;
+
     @Builder
     private AiJobEntity(NaverArticleEntity article,
                         AiJobType jobType,
@@ -127,6 +160,25 @@ public class AiJobEntity {
     public void markSuccess() {
         this.status = AiJobStatus.SUCCESS;
         this.finishedAt = LocalDateTime.now();
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * 우선순위 올리기 (낮추지는 않음) - DAG 자식 Job 이 부모 우선순위를 이어받을 때
+     */
+    public void raisePriority(int priority) {
+        if (priority > this.priority) {
+            this.priority = priority;
+        }
+    }
+
+    public void recordInputTokens(int raw, int condensed) {
+        this.inputTokensRaw = raw;
+        this.inputTokensCondensed = condensed;
+    }
+
+    public void markChainCompleted() {
+        this.chainCompletedAt = LocalDateTime.now();
     }
 
     public void markFailed(String errorCode, String errorMessage) {
@@ -135,6 +187,7 @@ public class AiJobEntity {
         this.lastErrorMessage = errorMessage;
         this.retryCount++;
         this.finishedAt = LocalDateTime.now();
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -149,6 +202,21 @@ public class AiJobEntity {
         this.retryCount++;
         this.nextRunAt = calculateNextRunAt();
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
+    }
+
+    /**
+     * RUNNING → PENDING 되돌림 (OpenAI 호출 전 로컬 제한으로 거절)
+     * - OpenAI 에 닿지 않았으므로 retryCount 는 그대로
+     * - nextRunAt 전까지는 claim 대상에서 빠짐
+     */
+    public void markThrottled(String errorCode, String errorMessage, LocalDateTime nextRunAt) {
+        this.status = AiJobStatus.PENDING;
+        this.lastErrorCode = errorCode;
+        this.lastErrorMessage = errorMessage;
+        this.nextRunAt = nextRunAt;
+        this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -161,6 +229,7 @@ public class AiJobEntity {
         this.lastErrorMessage = errorMessage;
         this.finishedAt = LocalDateTime.now();
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -173,6 +242,7 @@ public class AiJobEntity {
         this.status = AiJobStatus.PENDING;
         this.nextRunAt = null;
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -196,6 +266,7 @@ public class AiJobEntity {
         this.retryCount++;
         this.nextRunAt = LocalDateTime.now().plusMinutes(1); // 1분 후 재시도
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -211,6 +282,7 @@ public class AiJobEntity {
         this.lastErrorMessage = "Job stuck in RUNNING state, max retries exceeded";
         this.finishedAt = LocalDateTime.now();
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -248,6 +320,7 @@ public class AiJobEntity {
         this.finishedAt = null;
         this.nextRunAt = null;
         this.runningStartedAt = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
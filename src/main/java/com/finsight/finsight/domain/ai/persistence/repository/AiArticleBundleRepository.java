@@ -0,0 +1,17 @@
+package com.finsight.finsight.domain.ai.persistence.repository;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiArticleBundleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AiArticleBundleRepository extends JpaRepository<AiArticleBundleEntity, Long> {
+
+    /**
+     * 재생성 시작 시 삭제 (없으면 0행, 엔티티 로딩 없이)
+     */
+    @Modifying
+    @Query("DELETE FROM AiArticleBundleEntity b WHERE b.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,30 @@
+package com.finsight.finsight.domain.ai.persistence.repository;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AiBatchRepository extends JpaRepository<AiBatchEntity, Long> {
+
+    List<AiBatchEntity> findByStatusOrderByIdAsc(AiBatchStatus status);
+
+    /**
+     * 이번 폴링 차례 잡기 (next_poll_at 이 지났을 때 한 인스턴스만 1 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_batch
+        SET next_poll_at = LOCALTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND')
+        WHERE ai_batch_id = :id
+          AND status = 'SUBMITTED'
+          AND (next_poll_at IS NULL OR next_poll_at <= LOCALTIMESTAMP)
+        """, nativeQuery = true)
+    int claimPoll(@Param("id") Long id, @Param("leaseSeconds") long leaseSeconds);
+}
@@ -3,18 +3,30 @@ package com.finsight.finsight.domain.ai.persistence.repository;
 import com.finsight.finsight.domain.ai.persistence.entity.AiJobEntity;
 import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
 import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface AiJobRepository extends JpaRepository<AiJobEntity, Long> {
 
-    @Query("select j from AiJobEntity j join fetch j.article where j.id = :id")
-    Optional<AiJobEntity> findByIdWithArticle(@Param("id") Long id);
+    /**
+     * 상태 전환 전 Job 행 잠금 (리스 소유 확인과 Sweeper 회수/재claim 을 직렬화)
+     * - 기사 행까지 잠그지 않도록 fetch join 없이 (article 은 같은 트랜잭션에서 지연 로딩)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from AiJobEntity j where j.id = :id")
+    Optional<AiJobEntity> findByIdForUpdate(@Param("id") Long id);
 
+    /**
+     * 워커 claim 용 PENDING 잠금
+     * - next_run_at 이 미래인 PENDING(로컬 제한으로 되돌린 Job)은 그때까지 제외
+     * - 바깥 쿼리에서도 status 를 다시 확인: 서브쿼리 스냅샷 이후 다른 워커가 claim 하고 커밋한 행은
+     *   잠글 때 PENDING 이 아니므로 빠짐
+     */
     @Query(value = """
     SELECT ai_job_id
     FROM ai_jobs
@@ -23,39 +35,292 @@ public interface AiJobRepository extends JpaRepository<AiJobEntity, Long> {
         FROM ai_jobs
         WHERE status = 'PENDING'
           AND job_type = :type
-        ORDER BY requested_at ASC
+          AND prompt_version NOT IN (:excludedVersions)
+          AND (next_run_at IS NULL OR next_run_at <= LOCALTIMESTAMP)
+        ORDER BY priority DESC, requested_at ASC
         FETCH FIRST :limit ROWS ONLY
     )
+      AND status = 'PENDING'
     FOR UPDATE SKIP LOCKED
     """, nativeQuery = true)
     List<Long> findPendingIdsForUpdateSkipLocked(@Param("type") String type,
+                                                 @Param("excludedVersions") List<String> excludedVersions,
                                                  @Param("limit") int limit);
 
+    /**
+     * 배치 제출용 PENDING 잠금 (배치 전용 prompt_version, includeAll = 1 이면 모든 버전의 오래된 것부터)
+     * - backlog 모드에서도 부스트/에이징으로 maxPriority 에 닿은 Job 은 워커에 남김
+     * - 바깥 쿼리에서 status 재확인 (findPendingIdsForUpdateSkipLocked 와 같은 이유)
+     */
+    @Query(value = """
+    SELECT ai_job_id
+    FROM ai_jobs
+    WHERE ai_job_id IN (
+        SELECT ai_job_id
+        FROM ai_jobs
+        WHERE status = 'PENDING'
+          AND job_type = :type
+          AND (prompt_version IN (:versions) OR (:includeAll = 1 AND priority < :maxPriority))
+          AND (next_run_at IS NULL OR next_run_at <= LOCALTIMESTAMP)
+        ORDER BY requested_at ASC
+        FETCH FIRST :limit ROWS ONLY
+    )
+      AND status = 'PENDING'
+    FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> findPendingIdsForBatchSkipLocked(@Param("type") String type,
+                                                @Param("versions") List<String> versions,
+                                                @Param("includeAll") int includeAll,
+                                                @Param("maxPriority") int maxPriority,
+                                                @Param("limit") int limit);
+
+    long countByStatusAndJobType(AiJobStatus status, AiJobType jobType);
+
+    /**
+     * 특정 소유자(워커/배치)가 잡고 있는 Job (RUNNING 으로 조회)
+     */
+    @Query("SELECT j.id FROM AiJobEntity j WHERE j.status = :status AND j.workerId = :workerId")
+    List<Long> findIdsByStatusAndWorkerId(@Param("status") AiJobStatus status, @Param("workerId") String workerId);
+
+    /**
+     * ids 중 특정 소유자가 잡고 있는 Job (claim 직후 실제로 리스를 받은 행 확인)
+     */
+    @Query("SELECT j.id FROM AiJobEntity j WHERE j.id IN :ids AND j.status = :status AND j.workerId = :workerId")
+    List<Long> findIdsByIdInAndStatusAndWorkerId(@Param("ids") List<Long> ids,
+                                                 @Param("status") AiJobStatus status,
+                                                 @Param("workerId") String workerId);
+
+    /**
+     * claim: 잠근 PENDING 행을 RUNNING + 리스(worker_id, lease_expires_at)로 한 번에 전환
+     * - findPendingIdsForUpdateSkipLocked 와 같은 트랜잭션에서 호출 (행 잠금 유지)
+     */
     @Modifying
     @Query(value = """
         UPDATE ai_jobs
         SET status = 'RUNNING',
-            started_at = LOCALTIMESTAMP
+            worker_id = :workerId,
+            lease_expires_at = LOCALTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND'),
+            running_started_at = LOCALTIMESTAMP,
+            started_at = COALESCE(started_at, LOCALTIMESTAMP)
         WHERE ai_job_id IN (:ids)
           AND status = 'PENDING'
         """, nativeQuery = true)
-    int markRunning(@Param("ids") List<Long> ids);
+    int claimLeases(@Param("ids") List<Long> ids,
+                    @Param("workerId") String workerId,
+                    @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 실행 중 Job 리스 연장 (내가 잡고 있는 RUNNING 행만)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET lease_expires_at = LOCALTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND')
+        WHERE ai_job_id IN (:ids)
+          AND worker_id = :workerId
+          AND status = 'RUNNING'
+        """, nativeQuery = true)
+    int renewLeases(@Param("ids") List<Long> ids,
+                    @Param("workerId") String workerId,
+                    @Param("leaseSeconds") long leaseSeconds);
 
     Optional<AiJobEntity> findTopByArticle_IdAndJobTypeOrderByRequestedAtDesc(Long articleId, AiJobType jobType);
 
+    boolean existsByArticle_IdAndJobTypeAndPromptVersion(Long articleId, AiJobType jobType, String promptVersion);
+
     /**
-     * RUNNING 상태에서 stuck된 Job 조회 (runningStartedAt < threshold)
+     * 기사별 DAG 진행 직렬화용 (root Job 행 잠금)
      */
-    @Query("SELECT j FROM AiJobEntity j WHERE j.status = :status AND j.runningStartedAt < :threshold")
-    List<AiJobEntity> findStuckRunningJobs(@Param("status") AiJobStatus status,
-                                           @Param("threshold") LocalDateTime threshold);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT j FROM AiJobEntity j
+        WHERE j.article.id = :articleId AND j.jobType = :type AND j.promptVersion = :promptVersion
+        """)
+    Optional<AiJobEntity> findForUpdate(@Param("articleId") Long articleId,
+                                        @Param("type") AiJobType type,
+                                        @Param("promptVersion") String promptVersion);
 
     /**
-     * RETRY_WAIT 상태에서 nextRunAt이 지난 Job 조회
+     * 기사의 Job 타입별 상태 ([jobType, status])
      */
-    @Query("SELECT j FROM AiJobEntity j WHERE j.status = :status AND j.nextRunAt <= :now")
-    List<AiJobEntity> findRetryWaitJobsReadyToRun(@Param("status") AiJobStatus status,
-                                                   @Param("now") LocalDateTime now);
+    @Query("""
+        SELECT j.jobType, j.status FROM AiJobEntity j
+        WHERE j.article.id = :articleId AND j.promptVersion = :promptVersion
+        """)
+    List<Object[]> findTypeAndStatus(@Param("articleId") Long articleId,
+                                     @Param("promptVersion") String promptVersion);
+
+    // =========================
+    // Sweeper: 청크 단위 set-based 전환 (엔티티 로딩 없이, 청크마다 짧은 트랜잭션)
+    // - 재시도 가능 여부(retry_count < max_retries)는 SQL 에서 판단
+    // - 전환 내용은 AiJobEntity.markStuckRetryWait / markStuckFailed / markPendingForRetry 와 같음
+    // =========================
+
+    /**
+     * 리스 만료 RUNNING → RETRY_WAIT (재시도 가능, 1분 후)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET status = 'RETRY_WAIT',
+            last_error_code = 'STUCK_TIMEOUT',
+            last_error_message = 'Job stuck in RUNNING state, recovered by sweeper',
+            retry_count = retry_count + 1,
+            next_run_at = LOCALTIMESTAMP + NUMTODSINTERVAL(1, 'MINUTE'),
+            running_started_at = NULL,
+            lease_expires_at = NULL
+        WHERE status = 'RUNNING'
+          AND lease_expires_at < LOCALTIMESTAMP
+          AND retry_count < max_retries
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int requeueLeaseExpired(@Param("chunkSize") int chunkSize);
+
+    /**
+     * 리스 만료 RUNNING → FAILED (재시도 소진)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET status = 'FAILED',
+            last_error_code = 'STUCK_TIMEOUT',
+            last_error_message = 'Job stuck in RUNNING state, max retries exceeded',
+            finished_at = LOCALTIMESTAMP,
+            running_started_at = NULL,
+            lease_expires_at = NULL
+        WHERE status = 'RUNNING'
+          AND lease_expires_at < LOCALTIMESTAMP
+          AND retry_count >= max_retries
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int failLeaseExpired(@Param("chunkSize") int chunkSize);
+
+    /**
+     * 리스 없이 stuckMinutes 이상 RUNNING → RETRY_WAIT (재시도 가능, 1분 후)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET status = 'RETRY_WAIT',
+            last_error_code = 'STUCK_TIMEOUT',
+            last_error_message = 'Job stuck in RUNNING state, recovered by sweeper',
+            retry_count = retry_count + 1,
+            next_run_at = LOCALTIMESTAMP + NUMTODSINTERVAL(1, 'MINUTE'),
+            running_started_at = NULL,
+            lease_expires_at = NULL
+        WHERE status = 'RUNNING'
+          AND lease_expires_at IS NULL
+          AND running_started_at < LOCALTIMESTAMP - NUMTODSINTERVAL(:stuckMinutes, 'MINUTE')
+          AND retry_count < max_retries
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int requeueStuck(@Param("stuckMinutes") int stuckMinutes, @Param("chunkSize") int chunkSize);
+
+    /**
+     * 리스 없이 stuckMinutes 이상 RUNNING → FAILED (재시도 소진)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET status = 'FAILED',
+            last_error_code = 'STUCK_TIMEOUT',
+            last_error_message = 'Job stuck in RUNNING state, max retries exceeded',
+            finished_at = LOCALTIMESTAMP,
+            running_started_at = NULL,
+            lease_expires_at = NULL
+        WHERE status = 'RUNNING'
+          AND lease_expires_at IS NULL
+          AND running_started_at < LOCALTIMESTAMP - NUMTODSINTERVAL(:stuckMinutes, 'MINUTE')
+          AND retry_count >= max_retries
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int failStuck(@Param("stuckMinutes") int stuckMinutes, @Param("chunkSize") int chunkSize);
+
+    /**
+     * RETRY_WAIT 중 next_run_at 이 지난 Job → PENDING
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET status = 'PENDING',
+            next_run_at = NULL,
+            running_started_at = NULL,
+            lease_expires_at = NULL
+        WHERE status = 'RETRY_WAIT'
+          AND next_run_at <= LOCALTIMESTAMP
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int releaseRetryWait(@Param("chunkSize") int chunkSize);
+
+    /**
+     * 기사의 미완료 Job 우선순위 부스트 (RUNNING 도 올려서 DAG 자식 Job 이 이어받게)
+     * - 이미 그 이상이면 건너뜀 → 같은 기사를 반복 조회해도 0행
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET priority = :priority
+        WHERE naver_article_id = :articleId
+          AND status IN ('PENDING', 'RETRY_WAIT', 'RUNNING')
+          AND priority < :priority
+        """, nativeQuery = true)
+    int boostArticle(@Param("articleId") Long articleId, @Param("priority") int priority);
+
+    /**
+     * 에이징: PENDING 이 agingMinutes 기다릴 때마다 우선순위 +1 (maxPriority 까지, requested_at 기준이라 몇 번 돌아도 같은 값)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ai_jobs
+        SET priority = LEAST(:maxPriority,
+                FLOOR((CAST(LOCALTIMESTAMP AS DATE) - CAST(requested_at AS DATE)) * 1440 / :agingMinutes))
+        WHERE status = 'PENDING'
+          AND requested_at < LOCALTIMESTAMP - NUMTODSINTERVAL(:agingMinutes, 'MINUTE')
+          AND priority < LEAST(:maxPriority,
+                FLOOR((CAST(LOCALTIMESTAMP AS DATE) - CAST(requested_at AS DATE)) * 1440 / :agingMinutes))
+          AND ROWNUM <= :chunkSize
+        """, nativeQuery = true)
+    int agePending(@Param("agingMinutes") int agingMinutes,
+                   @Param("maxPriority") int maxPriority,
+                   @Param("chunkSize") int chunkSize);
+
+    // =========================
+    // 큐 텔레메트리 샘플 (AiQueueTelemetry)
+    // - SUCCESS 가 대부분인 테이블이라 OR 로 묶으면 전체 스캔 → 상태 그룹별로 인덱스를 타는 쿼리 2개
+    // - 둘 다 [job_type, status, 행 수, 가장 오래된 행의 requested_at 이후 경과 초]
+    // =========================
+
+    /**
+     * 대기/실행 상태 전체 (idx_ai_job_status)
+     */
+    @Query(value = """
+        SELECT job_type, status, COUNT(*),
+               ROUND(MAX((CAST(LOCALTIMESTAMP AS DATE) - CAST(requested_at AS DATE)) * 86400))
+        FROM ai_jobs
+        WHERE status IN ('PENDING', 'RETRY_WAIT', 'RUNNING', 'SUSPENDED')
+        GROUP BY job_type, status
+        """, nativeQuery = true)
+    List<Object[]> sampleActiveQueue();
+
+    /**
+     * 최근 windowSeconds 안에 끝난 SUCCESS/FAILED (처리율 계산용, idx_ai_job_finished 범위 스캔만)
+     * - 경과 초는 쓰지 않으므로 0
+     */
+    @Query(value = """
+        SELECT job_type, status, COUNT(*), 0
+        FROM ai_jobs
+        WHERE status IN ('SUCCESS', 'FAILED')
+          AND finished_at >= LOCALTIMESTAMP - NUMTODSINTERVAL(:windowSeconds, 'SECOND')
+        GROUP BY job_type, status
+        """, nativeQuery = true)
+    List<Object[]> sampleRecentFinished(@Param("windowSeconds") long windowSeconds);
 
     /**
      * SUSPENDED 상태의 Job 중 특정 에러코드 조건으로 조회 (quota/balance 관련)
@@ -1,5 +1,7 @@
 package com.finsight.finsight.domain.learning.domain.service;
 
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundle;
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundleService;
 import com.finsight.finsight.domain.ai.persistence.entity.AiArticleInsightEntity;
 import com.finsight.finsight.domain.ai.persistence.entity.AiArticleSummaryEntity;
 import com.finsight.finsight.domain.ai.persistence.repository.AiArticleInsightRepository;
@@ -26,6 +28,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +41,7 @@ public class NewsQueryService {
     private final AiArticleInsightRepository aiArticleInsightRepository;
     private final AiArticleSummaryRepository aiArticleSummaryRepository;
     private final LearningConverter learningConverter;
+    private final AiArticleBundleService aiArticleBundleService;
 
     // 일반 뉴스 리스트 조회
     public LearningResponseDTO.NewListResponse getNewsList(Category category, SortType sort, int size,
@@ -105,13 +109,23 @@ public class NewsQueryService {
         NaverArticleEntity article = naverArticleRepository.findById(newsId)
                 .orElseThrow(() -> new NaverArticleException(NaverArticleErrorCode.NAVER_ARTICLE_NOT_FOUND));
 
-        AiArticleInsightEntity insight = aiArticleInsightRepository.findByArticleId(newsId)
+        // 유사 중복 기사면 원본 기사의 AI 결과를 사용
+        Long aiArticleId = article.resolveAiArticleId();
+
+        // AI 생성이 끝난 기사는 묶음 하나로 (로컬 → Redis → DB)
+        Optional<AiArticleBundle> bundle = aiArticleBundleService.get(aiArticleId);
+        if (bundle.isPresent()) {
+            return learningConverter.toNewsDetailResponse(article, bundle.get());
+        }
+
+        // 생성 중인 기사는 있는 결과로
+        AiArticleInsightEntity insight = aiArticleInsightRepository.findByArticleId(aiArticleId)
                 .orElseThrow(() -> new NaverArticleException(NaverArticleErrorCode.NAVER_ARTICLE_INSIGHT_NOT_FOUND));
 
-        AiArticleSummaryEntity summary = aiArticleSummaryRepository.findByArticleId(newsId)
+        AiArticleSummaryEntity summary = aiArticleSummaryRepository.findByArticleId(aiArticleId)
                 .orElseThrow(() -> new NaverArticleException(NaverArticleErrorCode.NAVER_ARTICLE_SUMMERY_NOT_FOUND));
 
-        List<AiTermCardEntity> terms = aiTermCardRepository.findByArticleIdOrderByCardOrderAsc(newsId);
+        List<AiTermCardEntity> terms = aiTermCardRepository.findByArticleIdOrderByCardOrderAsc(aiArticleId);
 
         return learningConverter.toNewsDetailResponse(article, terms, summary, insight);
     }
@@ -1,5 +1,6 @@
 package com.finsight.finsight.domain.learning.persistence.mapper;
 
+import com.finsight.finsight.domain.ai.domain.bundle.AiArticleBundle;
 import com.finsight.finsight.domain.learning.application.dto.response.LearningResponseDTO;
 import com.finsight.finsight.domain.learning.domain.constant.Category;
 import com.finsight.finsight.domain.learning.domain.constant.SortType;
@@ -108,22 +109,56 @@ public class LearningConverter {
             AiArticleSummaryEntity summary,
             AiArticleInsightEntity insight) {
 
-        return LearningResponseDTO.NewsDetailResponse.builder()
-                .category(article.getSection())
-                .coreTerms(terms.stream()
+        return toNewsDetailResponse(
+                article,
+                terms.stream()
                         .map(card -> LearningResponseDTO.CoreTerm.builder()
                                 .termId(card.getTerm().getId())
                                 .term(card.getTerm().getDisplayName())
                                 .description(card.getTerm().getDefinition())
                                 .build())
-                        .toList())
+                        .toList(),
+                summary.getSummary3Lines(),
+                summary.getSummaryFull(),
+                insight.getInsightJson());
+    }
+
+    // AI 결과 묶음 (DAG 완료 시 조립) -> NewsDetailResponse
+    public LearningResponseDTO.NewsDetailResponse toNewsDetailResponse(
+            NaverArticleEntity article,
+            AiArticleBundle bundle) {
+
+        return toNewsDetailResponse(
+                article,
+                bundle.termCards().stream()
+                        .map(card -> LearningResponseDTO.CoreTerm.builder()
+                                .termId(card.termId())
+                                .term(card.term())
+                                .description(card.definition())
+                                .build())
+                        .toList(),
+                bundle.summary3Lines(),
+                bundle.summaryFull(),
+                bundle.insightJson());
+    }
+
+    private LearningResponseDTO.NewsDetailResponse toNewsDetailResponse(
+            NaverArticleEntity article,
+            List<LearningResponseDTO.CoreTerm> coreTerms,
+            String summary3Lines,
+            String summaryFull,
+            String insightJson) {
+
+        return LearningResponseDTO.NewsDetailResponse.builder()
+                .category(article.getSection())
+                .coreTerms(coreTerms)
                 .title(article.getTitle())
                 .date(formatKoreanDate(article.getPublishedAt()))
                 .thumbnailUrl(article.getThumbnailUrl())
                 .originalUrl(article.getUrl())
-                .summary3Lines(parseSummary3Lines(summary.getSummary3Lines()))
-                .bodySummary(summary.getSummaryFull())
-                .insights(parseInsights(insight.getInsightJson()))
+                .summary3Lines(parseSummary3Lines(summary3Lines))
+                .bodySummary(summaryFull)
+                .insights(parseInsights(insightJson))
                 .build();
     }
 
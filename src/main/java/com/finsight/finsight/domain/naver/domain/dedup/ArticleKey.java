@@ -0,0 +1,11 @@
+package com.finsight.finsight.domain.naver.domain.dedup;
+
+/**
+ * 네이버 기사 식별 키 (oid, aid)
+ */
+public record ArticleKey(String oid, String aid) {
+
+    public String asString() {
+        return oid + ":" + aid;
+    }
+}
@@ -0,0 +1,87 @@
+package com.finsight.finsight.domain.naver.domain.dedup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기사 키용 Bloom filter (thread-safe)
+ *
+ * - mightContain()=false 는 "확실히 처음 보는 키" → DB 조회 생략 가능
+ * - mightContain()=true 는 "본 적 있을 수 있음" → DB로 확정 필요 (false positive 존재)
+ * - 비트 배열은 AtomicLongArray CAS로 갱신하므로 크롤링 스레드 여러 개가 동시에 put 해도 안전
+ */
+public class ArticleKeyBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public ArticleKeyBloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        double p = (fpp <= 0 || fpp >= 1) ? 0.01 : fpp;
+
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(ArticleKey key) {
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1, h2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(ArticleKey key) {
+        long h1 = hash(key, 0x9E3779B97F4A7C15L);
+        long h2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(h1, h2, i))) return false;
+        }
+        return true;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * (h2 | 1L), bitSize);
+    }
+
+    private void setBit(long bitIndex) {
+        int word = (int) (bitIndex >>> 6);
+        long mask = 1L << (bitIndex & 63);
+        long prev;
+        do {
+            prev = bits.get(word);
+            if ((prev & mask) != 0) return;
+        } while (!bits.compareAndSet(word, prev, prev | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << (bitIndex & 63))) != 0;
+    }
+
+    /**
+     * FNV-1a(64) 변형 + seed 혼합 → 더블 해싱용 해시 2개 생성
+     */
+    private static long hash(ArticleKey key, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (byte b : key.asString().getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
@@ -0,0 +1,148 @@
+package com.finsight.finsight.domain.naver.domain.dedup;
+
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 크롤링 중복 체크 (목록 페이지 단위 일괄 처리)
+ *
+ * 1. Bloom filter에서 "확실히 새 기사"인 키는 DB 조회 없이 신규로 판정
+ * 2. 나머지 키(본 적 있을 수 있음)만 모아서 (oid, aid) 1회 쿼리로 확정
+ *
+ * - 필터는 기동 시 최근 warmupDays 일치 naver_article 키로 워밍
+ * - 워밍 범위 밖의 오래된 기사가 목록에 다시 나오면 신규로 판정될 수 있으나,
+ *   저장 시 uk_naver_oid_aid 제약(DataIntegrityViolationException)으로 막힌다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverArticleDedupService implements ApplicationRunner {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final NaverArticleRepository repository;
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private volatile ArticleKeyBloomFilter filter;
+
+    // 워밍이 한 번도 성공하지 못했으면 필터의 negative를 믿지 않고 전부 DB로 확정
+    private volatile boolean warmed;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Gauge.builder("crawler_dedup_filter_keys", this, s -> s.filter == null ? 0 : s.filter.insertions())
+                .register(meterRegistry);
+        warmUp();
+    }
+
+    /**
+     * 매일 필터를 새로 만들어 오래된 키를 정리 (false positive 비율 유지)
+     */
+    @Scheduled(cron = "${naver.crawler.dedup-rewarm-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rewarm() {
+        warmUp();
+    }
+
+    public void warmUp() {
+        ArticleKeyBloomFilter fresh = new ArticleKeyBloomFilter(props.getDedupFilterCapacity(), props.getDedupFilterFpp());
+        try {
+            LocalDateTime since = LocalDateTime.now(KST).minusDays(props.getDedupWarmupDays());
+            List<Object[]> rows = repository.findOidAidCollectedSince(since);
+            for (Object[] row : rows) {
+                fresh.put(new ArticleKey((String) row[0], (String) row[1]));
+            }
+            this.filter = fresh;
+            this.warmed = true;
+            log.info("[NAVER-CRAWL] dedup filter warmed keys={} since={}", rows.size(), since);
+        } catch (Exception e) {
+            // 실패 시 기존 필터 유지 (워밍 전이면 모든 키를 DB로 확정)
+            log.warn("[NAVER-CRAWL] dedup filter warm-up failed err={}", e.toString());
+        }
+    }
+
+    /**
+     * 목록 페이지에서 뽑은 키 중 이미 저장된 키 집합 반환
+     */
+    public Set<ArticleKey> findExisting(Collection<ArticleKey> keys) {
+        if (keys.isEmpty()) return Set.of();
+
+        ArticleKeyBloomFilter f = currentFilter();
+
+        List<ArticleKey> candidates = new ArrayList<>();
+        for (ArticleKey key : keys) {
+            if (!warmed || f.mightContain(key)) {
+                candidates.add(key);
+            } else {
+                inc("filter_negative");
+            }
+        }
+
+        if (candidates.isEmpty()) return Set.of();
+
+        Set<String> oids = new HashSet<>();
+        Set<String> aids = new HashSet<>();
+        for (ArticleKey key : candidates) {
+            oids.add(key.oid());
+            aids.add(key.aid());
+        }
+
+        // oid IN × aid IN 은 요청 키의 상위 집합이므로 메모리에서 정확히 거른다
+        Set<ArticleKey> found = new HashSet<>();
+        for (Object[] row : repository.findOidAidIn(oids, aids)) {
+            found.add(new ArticleKey((String) row[0], (String) row[1]));
+        }
+        inc("db_query");
+
+        Set<ArticleKey> existing = new HashSet<>();
+        for (ArticleKey key : candidates) {
+            if (found.contains(key)) {
+                existing.add(key);
+                inc("db_hit");
+            } else {
+                inc("filter_false_positive");
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * 저장(또는 중복 레이스) 직후 호출 → 다음 크롤링부터 필터에 반영
+     */
+    public void markSeen(String oid, String aid) {
+        currentFilter().put(new ArticleKey(oid, aid));
+    }
+
+    private ArticleKeyBloomFilter currentFilter() {
+        ArticleKeyBloomFilter f = filter;
+        if (f == null) {
+            synchronized (this) {
+                if (filter == null) {
+                    filter = new ArticleKeyBloomFilter(props.getDedupFilterCapacity(), props.getDedupFilterFpp());
+                }
+                f = filter;
+            }
+        }
+        return f;
+    }
+
+    private void inc(String result) {
+        Counter.builder("crawler_dedup_total")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
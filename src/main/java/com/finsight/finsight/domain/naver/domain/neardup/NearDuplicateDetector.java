@@ -0,0 +1,116 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleContentRepository;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유사 중복 기사 탐지 (SUMMARY enqueue 전)
+ *
+ * - 여러 언론사가 같은 통신사 기사를 거의 그대로 재배포 → 복사본마다 AI 체인(SUMMARY → ... → QUIZ)이 도는 것을 방지
+ * - 본문 SimHash를 최근 기사 LSH 인덱스(SimHashIndex)와 비교해 해밍 거리 nearDupMaxDistance 이하면 중복
+ * - 중복 기사는 canonical_article_id 로 원본 기사에 연결되고 AI Job을 만들지 않음
+ *   (AI 결과 조회는 NaverArticleEntity.resolveAiArticleId() 기준)
+ * - 인덱스에는 AI 체인을 가진 원본 기사만 등록, 기동 시 최근 nearDupWindowHours 기사로 워밍
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearDuplicateDetector implements ApplicationRunner {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final NaverArticleContentRepository contentRepository;
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private volatile SimHashIndex index;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        index = new SimHashIndex(props.getNearDupIndexCapacity());
+        Gauge.builder("crawler_near_duplicate_index_size", this, d -> d.index == null ? 0 : d.index.size())
+                .register(meterRegistry);
+
+        if (!props.isNearDupEnabled()) return;
+
+        try {
+            LocalDateTime since = LocalDateTime.now(KST).minusHours(props.getNearDupWindowHours());
+            List<Object[]> rows = contentRepository.findCanonicalIdContentCollectedSince(since);
+            for (Object[] row : rows) {
+                index.add((Long) row[0], SimHash.of((String) row[1]), (LocalDateTime) row[2]);
+            }
+            log.info("[NAVER-CRAWL] near-duplicate index warmed size={} since={}", index.size(), since);
+        } catch (Exception e) {
+            // 워밍 실패 시 빈 인덱스로 시작 (중복을 놓칠 뿐 잘못 연결하지는 않음)
+            log.warn("[NAVER-CRAWL] near-duplicate index warmup fail err={}", e.toString());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 항목 정리
+     */
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul")
+    public void evictExpired() {
+        SimHashIndex current = index;
+        if (current == null) return;
+        int evicted = current.evictOlderThan(LocalDateTime.now(KST).minusHours(props.getNearDupWindowHours()));
+        if (evicted > 0) {
+            log.debug("[NAVER-CRAWL] near-duplicate index evicted={} size={}", evicted, current.size());
+        }
+    }
+
+    public boolean isEnabled() {
+        return props.isNearDupEnabled() && index != null;
+    }
+
+    public long signature(String content) {
+        return SimHash.of(content);
+    }
+
+    /**
+     * @return 유사 원본 기사 ID (없으면 null)
+     */
+    public Long findCanonical(long signature) {
+        if (!isEnabled()) return null;
+
+        Long canonicalId = index.findNearest(signature, props.getNearDupMaxDistance());
+        inc(canonicalId == null ? "unique" : "duplicate");
+        return canonicalId;
+    }
+
+    public void register(Long articleId, long signature) {
+        if (!isEnabled() || articleId == null) return;
+        index.add(articleId, signature, LocalDateTime.now(KST));
+    }
+
+    /**
+     * 저장 트랜잭션이 롤백된 기사 제거 (존재하지 않는 ID로 연결되는 것 방지)
+     */
+    public void unregister(Collection<Long> articleIds) {
+        if (index == null) return;
+        for (Long id : articleIds) {
+            if (id != null) index.remove(id);
+        }
+    }
+
+    private void inc(String result) {
+        Counter.builder("crawler_near_duplicate_total")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
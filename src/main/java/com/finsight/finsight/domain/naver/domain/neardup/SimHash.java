@@ -0,0 +1,79 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import java.util.Arrays;
+
+/**
+ * 본문 64bit SimHash
+ *
+ * - 공백/문장부호 제거 후 문자 4-gram shingle → 64bit 해시 → 비트별 가중 투표
+ * - 통신사 기사 재배포처럼 문장 일부만 다른 본문은 해밍 거리가 작게 나옴
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 4;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    public static long of(String text) {
+        if (text == null) return 0L;
+
+        char[] normalized = normalize(text);
+        int n = normalized.length;
+        if (n == 0) return 0L;
+
+        int[] votes = new int[64];
+        if (n < SHINGLE) {
+            vote(votes, hash(normalized, 0, n));
+        } else {
+            for (int i = 0; i + SHINGLE <= n; i++) {
+                vote(votes, hash(normalized, i, SHINGLE));
+            }
+        }
+
+        long signature = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) signature |= 1L << bit;
+        }
+        return signature;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static char[] normalize(String text) {
+        char[] out = new char[text.length()];
+        int len = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out[len++] = Character.toLowerCase(c);
+            }
+        }
+        return len == out.length ? out : Arrays.copyOf(out, len);
+    }
+
+    private static void vote(int[] votes, long h) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((h >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a + murmur3 finalizer (shingle 해시 비트 분포 균일화)
+    private static long hash(char[] s, int from, int len) {
+        long h = FNV_OFFSET;
+        for (int i = from; i < from + len; i++) {
+            h ^= s[i];
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,120 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 기사 SimHash LSH 인덱스 (in-memory, thread-safe)
+ *
+ * - 64bit를 16bit × 4 band로 나눠 band 값별 버킷에 등록
+ * - 해밍 거리 3 이하인 두 서명은 적어도 한 band가 정확히 같음 (비둘기집) → 해당 버킷 후보만 비교
+ * - 용량(capacity) / 보관 기간(window) 초과분은 오래된 순으로 제거
+ */
+class SimHashIndex {
+
+    static final int MAX_SUPPORTED_DISTANCE = 3;
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+
+    private final int capacity;
+
+    private final Map<Integer, List<Entry>> buckets = new HashMap<>();
+    private final Map<Long, Entry> byArticleId = new HashMap<>();
+    private final Deque<Entry> insertionOrder = new ArrayDeque<>();
+
+    SimHashIndex(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return 해밍 거리 maxDistance 이하로 가장 가까운 기사 ID (없으면 null)
+     */
+    synchronized Long findNearest(long signature, int maxDistance) {
+        int limit = Math.min(maxDistance, MAX_SUPPORTED_DISTANCE);
+        Entry best = null;
+        int bestDistance = Integer.MAX_VALUE;
+
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> bucket = buckets.get(bucketKey(band, signature));
+            if (bucket == null) continue;
+            for (Entry e : bucket) {
+                int d = SimHash.distance(signature, e.signature);
+                if (d <= limit && (d < bestDistance || (d == bestDistance && e.articleId < best.articleId))) {
+                    best = e;
+                    bestDistance = d;
+                }
+            }
+        }
+        return best == null ? null : best.articleId;
+    }
+
+    synchronized void add(long articleId, long signature, LocalDateTime indexedAt) {
+        if (byArticleId.containsKey(articleId)) return;
+
+        Entry e = new Entry(articleId, signature, indexedAt);
+        byArticleId.put(articleId, e);
+        insertionOrder.addLast(e);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(band, signature), k -> new ArrayList<>(2)).add(e);
+        }
+
+        while (byArticleId.size() > capacity) {
+            removeEntry(insertionOrder.pollFirst());
+        }
+    }
+
+    synchronized void remove(long articleId) {
+        Entry e = byArticleId.get(articleId);
+        if (e == null) return;
+        insertionOrder.remove(e);
+        removeEntry(e);
+    }
+
+    /**
+     * indexedAt이 cutoff 이전인 항목 제거
+     */
+    synchronized int evictOlderThan(LocalDateTime cutoff) {
+        int evicted = 0;
+        Iterator<Entry> it = insertionOrder.iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (!e.indexedAt.isBefore(cutoff)) continue;
+            it.remove();
+            removeEntry(e);
+            evicted++;
+        }
+        return evicted;
+    }
+
+    synchronized int size() {
+        return byArticleId.size();
+    }
+
+    private void removeEntry(Entry e) {
+        if (e == null) return;
+        byArticleId.remove(e.articleId);
+        for (int band = 0; band < BANDS; band++) {
+            int key = bucketKey(band, e.signature);
+            List<Entry> bucket = buckets.get(key);
+            if (bucket == null) continue;
+            bucket.remove(e);
+            if (bucket.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    // 상위 2bit: band 번호, 하위 16bit: band 값
+    private static int bucketKey(int band, long signature) {
+        int value = (int) ((signature >>> (band * BAND_BITS)) & 0xFFFF);
+        return (band << BAND_BITS) | value;
+    }
+
+    private record Entry(long articleId, long signature, LocalDateTime indexedAt) {
+    }
+}
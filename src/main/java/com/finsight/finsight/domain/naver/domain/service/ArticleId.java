@@ -0,0 +1,60 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.naver.domain.dedup.ArticleKey;
+
+import java.net.URI;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네이버 기사 URL에서 추출한 (oid, aid)
+ */
+final class ArticleId {
+
+    private static final Pattern ARTICLE_PATH = Pattern.compile("/article/(\\d+)/(\\d+)");
+
+    final String oid;
+    final String aid;
+
+    ArticleId(String oid, String aid) {
+        this.oid = oid;
+        this.aid = aid;
+    }
+
+    ArticleKey key() {
+        return new ArticleKey(oid, aid);
+    }
+
+    String canonicalUrl() {
+        return "https://n.news.naver.com/mnews/article/" + oid + "/" + aid;
+    }
+
+    static ArticleId from(String url) {
+        if (url == null) return null;
+
+        Matcher m = ARTICLE_PATH.matcher(url);
+        if (m.find()) return new ArticleId(m.group(1), m.group(2));
+
+        try {
+            URI uri = URI.create(url);
+            String q = uri.getQuery();
+            if (q == null) return null;
+
+            String oid = queryParam(q, "oid");
+            String aid = queryParam(q, "aid");
+            if (oid != null && aid != null) return new ArticleId(oid, aid);
+        } catch (Exception ignore) {}
+
+        return null;
+    }
+
+    private static String queryParam(String query, String key) {
+        for (String part : query.split("&")) {
+            int idx = part.indexOf('=');
+            if (idx <= 0) continue;
+            if (!part.substring(0, idx).equals(key)) continue;
+            return part.substring(idx + 1);
+        }
+        return null;
+    }
+}
@@ -1,8 +1,6 @@
 package com.finsight.finsight.domain.naver.domain.service;
 
-import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
 import com.finsight.finsight.domain.ai.persistence.entity.QAiArticleSummaryEntity;
-import com.finsight.finsight.domain.ai.persistence.entity.QAiQuizSetEntity;
 import com.finsight.finsight.domain.learning.domain.constant.Category;
 import com.finsight.finsight.domain.learning.domain.constant.SortType;
 import com.finsight.finsight.domain.learning.domain.service.CursorParser;
@@ -13,6 +11,7 @@ import com.finsight.finsight.domain.ai.persistence.entity.QAiTermCardEntity;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -88,27 +87,8 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
                                                         .exists()));
                 }
 
-                // 용어 카드 3개 이상 조건
-                QAiTermCardEntity qAiTermCardEntity = QAiTermCardEntity.aiTermCardEntity;
-                builder.and(naverArticleEntity.id.in(
-                                JPAExpressions.select(qAiTermCardEntity.article.id)
-                                                .from(qAiTermCardEntity)
-                                                .groupBy(qAiTermCardEntity.article.id)
-                                                .having(qAiTermCardEntity.count().goe(3L))));
-
-                // 퀴즈 생성 여부 (내용 퀴즈 & 용어 퀴즈)
-                QAiQuizSetEntity qAiQuizSetEntity = QAiQuizSetEntity.aiQuizSetEntity;
-                builder.and(JPAExpressions.selectOne()
-                                .from(qAiQuizSetEntity)
-                                .where(qAiQuizSetEntity.article.eq(naverArticleEntity)
-                                                .and(qAiQuizSetEntity.quizKind.eq(AiJobType.QUIZ_CONTENT)))
-                                .exists());
-
-                builder.and(JPAExpressions.selectOne()
-                                .from(qAiQuizSetEntity)
-                                .where(qAiQuizSetEntity.article.eq(naverArticleEntity)
-                                                .and(qAiQuizSetEntity.quizKind.eq(AiJobType.QUIZ_TERM)))
-                                .exists());
+                // AI 결과 준비 완료 (용어 카드 3개 이상, 퀴즈 2종)
+                builder.and(aiReady(naverArticleEntity));
 
                 // 2. 콘텐츠 조회 (Offset 기반)
                 List<NaverArticleEntity> content = queryFactory
@@ -151,27 +131,8 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
                         builder.and(cursorPredicate(naverArticleEntity, sort, cursor));
                 }
 
-                // 3) 용어 카드 3개 이상 조건
-                QAiTermCardEntity qAiTermCardEntity = QAiTermCardEntity.aiTermCardEntity;
-                builder.and(naverArticleEntity.id.in(
-                                JPAExpressions.select(qAiTermCardEntity.article.id)
-                                                .from(qAiTermCardEntity)
-                                                .groupBy(qAiTermCardEntity.article.id)
-                                                .having(qAiTermCardEntity.count().goe(3L))));
-
-                // 4) 퀴즈 생성 여부 (내용 퀴즈 & 용어 퀴즈)
-                QAiQuizSetEntity qAiQuizSetEntity = QAiQuizSetEntity.aiQuizSetEntity;
-                builder.and(JPAExpressions.selectOne()
-                                .from(qAiQuizSetEntity)
-                                .where(qAiQuizSetEntity.article.eq(naverArticleEntity)
-                                                .and(qAiQuizSetEntity.quizKind.eq(AiJobType.QUIZ_CONTENT)))
-                                .exists());
-
-                builder.and(JPAExpressions.selectOne()
-                                .from(qAiQuizSetEntity)
-                                .where(qAiQuizSetEntity.article.eq(naverArticleEntity)
-                                                .and(qAiQuizSetEntity.quizKind.eq(AiJobType.QUIZ_TERM)))
-                                .exists());
+                // 3) AI 결과 준비 완료 (용어 카드 3개 이상, 퀴즈 2종)
+                builder.and(aiReady(naverArticleEntity));
 
                 return builder;
         }
@@ -208,33 +169,14 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
         @Override
         public List<NaverArticleEntity> findTopPopularBySection(NaverEconomySection section, int limit) {
                 QNaverArticleEntity article = QNaverArticleEntity.naverArticleEntity;
-                QAiTermCardEntity termCard = QAiTermCardEntity.aiTermCardEntity;
-                QAiQuizSetEntity quizSet = QAiQuizSetEntity.aiQuizSetEntity;
 
                 BooleanBuilder builder = new BooleanBuilder();
 
                 // 1) 섹션 조건
                 builder.and(article.section.eq(section));
 
-                // 2) 용어 카드 3개 이상 조건
-                builder.and(article.id.in(
-                                JPAExpressions.select(termCard.article.id)
-                                                .from(termCard)
-                                                .groupBy(termCard.article.id)
-                                                .having(termCard.count().goe(3L))));
-
-                // 3) 퀴즈 생성 여부 (내용 퀴즈 & 용어 퀴즈)
-                builder.and(JPAExpressions.selectOne()
-                                .from(quizSet)
-                                .where(quizSet.article.eq(article)
-                                                .and(quizSet.quizKind.eq(AiJobType.QUIZ_CONTENT)))
-                                .exists());
-
-                builder.and(JPAExpressions.selectOne()
-                                .from(quizSet)
-                                .where(quizSet.article.eq(article)
-                                                .and(quizSet.quizKind.eq(AiJobType.QUIZ_TERM)))
-                                .exists());
+                // 2) AI 결과 준비 완료 (용어 카드 3개 이상, 퀴즈 2종)
+                builder.and(aiReady(article));
 
                 return queryFactory
                                 .selectFrom(article)
@@ -248,10 +190,8 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
         @Override
         public List<NaverArticleEntity> findTopLatestBySection(NaverEconomySection section, int limit) {
                 QNaverArticleEntity article = QNaverArticleEntity.naverArticleEntity;
-                QAiTermCardEntity termCard = QAiTermCardEntity.aiTermCardEntity;
-                QAiQuizSetEntity quizSet = QAiQuizSetEntity.aiQuizSetEntity;
 
-                BooleanBuilder builder = buildAiCompletedCondition(article, termCard, quizSet);
+                BooleanBuilder builder = new BooleanBuilder(aiReady(article));
 
                 // 섹션 조건
                 builder.and(article.section.eq(section));
@@ -268,10 +208,8 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
         @Override
         public List<NaverArticleEntity> findTopLatestAll(int limit) {
                 QNaverArticleEntity article = QNaverArticleEntity.naverArticleEntity;
-                QAiTermCardEntity termCard = QAiTermCardEntity.aiTermCardEntity;
-                QAiQuizSetEntity quizSet = QAiQuizSetEntity.aiQuizSetEntity;
 
-                BooleanBuilder builder = buildAiCompletedCondition(article, termCard, quizSet);
+                BooleanBuilder builder = new BooleanBuilder(aiReady(article));
 
                 return queryFactory
                                 .selectFrom(article)
@@ -281,33 +219,9 @@ public class ArticleQueryDslImpl implements ArticleQueryDsl {
                                 .fetch();
         }
 
-        // AI Job 완료 조건 빌더 (용어카드 3개 이상, 퀴즈 2종 존재)
-        private BooleanBuilder buildAiCompletedCondition(
-                        QNaverArticleEntity article,
-                        QAiTermCardEntity termCard,
-                        QAiQuizSetEntity quizSet) {
-                BooleanBuilder builder = new BooleanBuilder();
-
-                // 용어 카드 3개 이상 조건
-                builder.and(article.id.in(
-                                JPAExpressions.select(termCard.article.id)
-                                                .from(termCard)
-                                                .groupBy(termCard.article.id)
-                                                .having(termCard.count().goe(3L))));
-
-                // 퀴즈 생성 여부 (내용 퀴즈 & 용어 퀴즈)
-                builder.and(JPAExpressions.selectOne()
-                                .from(quizSet)
-                                .where(quizSet.article.eq(article)
-                                                .and(quizSet.quizKind.eq(AiJobType.QUIZ_CONTENT)))
-                                .exists());
-
-                builder.and(JPAExpressions.selectOne()
-                                .from(quizSet)
-                                .where(quizSet.article.eq(article)
-                                                .and(quizSet.quizKind.eq(AiJobType.QUIZ_TERM)))
-                                .exists());
-
-                return builder;
+        // AI 결과 준비 완료 조건 (용어 카드 3개 이상, 퀴즈 2종)
+        // - AiJobService 가 naver_article.ai_ready 로 유지 → 결과 테이블 서브쿼리 없이 피드 인덱스로 필터
+        private BooleanExpression aiReady(QNaverArticleEntity article) {
+                return article.aiReady.isTrue();
         }
 }
\ No newline at end of file
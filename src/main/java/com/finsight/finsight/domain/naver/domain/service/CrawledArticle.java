@@ -0,0 +1,7 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+/**
+ * 저장 대기 중인 크롤링 결과 (식별자 + 파싱 결과)
+ */
+record CrawledArticle(ArticleId id, ParsedArticle parsed) {
+}
@@ -0,0 +1,234 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.StreamParser;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 네이버 목록/기사 HTML 파싱
+ * - 순차 크롤링(NaverCrawlerService)과 파이프라인(NaverCrawlPipeline)이 함께 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverArticleParser {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    private static final DateTimeFormatter OFFSET_NO_COLON =
+            new DateTimeFormatterBuilder()
+                    .appendPattern("yyyy-MM-dd'T'HH:mm:ssZ")
+                    .toFormatter();
+
+    private static final DateTimeFormatter SPACE_DATETIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final MeterRegistry meterRegistry;
+    private final NaverStreamingArticleParser streamingParser;
+
+    List<ArticleId> extractArticleIds(Document doc) {
+        LinkedHashSet<String> canonUrls = new LinkedHashSet<>();
+
+        // 메인 기사 목록 영역(.section_latest)에서만 링크 추출 (사이드바/인기뉴스 제외)
+        Element mainList = doc.selectFirst("#newsct .section_latest");
+        if (mainList == null) {
+            // fallback: 기존 방식 (전체 페이지에서 추출)
+            mainList = doc;
+            log.debug("[NAVER-CRAWL] .section_latest not found, fallback to full page");
+        }
+
+        for (Element a : mainList.select("a[href]")) {
+            String href = a.absUrl("href");
+            if (href == null || href.isBlank()) continue;
+
+            if (href.contains("/article/") || href.contains("read.naver") || href.contains("n.news.naver.com")) {
+                ArticleId id = ArticleId.from(href);
+                if (id != null) canonUrls.add(id.canonicalUrl());
+            }
+        }
+
+        List<ArticleId> out = new ArrayList<>();
+        for (String u : canonUrls) {
+            ArticleId id = ArticleId.from(u);
+            if (id != null) out.add(id);
+        }
+        return out;
+    }
+
+    /**
+     * 기사 파싱 + 품질 메트릭 기록 (publishedAt/thumbnail 누락)
+     */
+    ParsedArticle parseArticle(Document doc, String sectionName, String articleUrl) {
+        ParsedArticle parsed = parseArticle(doc);
+        recordQuality(parsed, sectionName);
+
+        // 디버깅: publishedAt NULL 원인 추적 로그
+        if (parsed.publishedAt == null) {
+            log.debug("[NAVER-CRAWL] publishedAt NULL section={} url={} meta={} dataDateTime={} timeDatetime={}",
+                    sectionName,
+                    articleUrl,
+                    safe(attr(doc, "meta[property=article:published_time]", "content")),
+                    safe(attr(doc, "span.media_end_head_info_datestamp_time", "data-date-time")),
+                    safe(attr(doc, "time[datetime]", "datetime"))
+            );
+        }
+
+        return parsed;
+    }
+
+    /**
+     * 스트리밍 파싱 (parserEngine=streaming) + 품질 메트릭 기록
+     */
+    ParsedArticle parseArticle(StreamParser streamer, String sectionName, String articleUrl) {
+        ParsedArticle parsed = streamingParser.parse(streamer);
+        recordQuality(parsed, sectionName);
+
+        if (parsed.publishedAt == null) {
+            log.debug("[NAVER-CRAWL] publishedAt NULL section={} url={} (streaming)", sectionName, articleUrl);
+        }
+        return parsed;
+    }
+
+    ParsedArticle parseArticle(Document doc) {
+        String title = firstText(doc, "#title_area", "h2#title_area", "h2.media_end_head_headline");
+        String content = firstText(doc, "#dic_area", "#articleBodyContents");
+        String press = firstAttr(doc, "alt", "a.media_end_head_top_logo img", ".media_end_head_top_logo img");
+
+        LocalDateTime publishedAt = parsePublishedAt(doc);
+        String thumbnailUrl = parseThumbnailUrl(doc);
+
+        return new ParsedArticle(title, press, publishedAt, content, thumbnailUrl);
+    }
+
+    private String parseThumbnailUrl(Document doc) {
+        String og = attr(doc, "meta[property=og:image]", "content");
+        if (og != null && !og.isBlank()) return og.trim();
+
+        String tw = attr(doc, "meta[name=twitter:image]", "content");
+        if (tw != null && !tw.isBlank()) return tw.trim();
+
+        Element ld = doc.selectFirst("script[type=application/ld+json]");
+        if (ld != null) {
+            try {
+                JsonNode root = OM.readTree(ld.data());
+                JsonNode image = root.get("image");
+                if (image != null) {
+                    if (image.isTextual()) return image.asText().trim();
+                    JsonNode url = image.get("url");
+                    if (url != null && url.isTextual()) return url.asText().trim();
+                }
+            } catch (Exception ignore) {}
+        }
+        return null;
+    }
+
+    private LocalDateTime parsePublishedAt(Document doc) {
+        String meta = attr(doc, "meta[property=article:published_time]", "content");
+        LocalDateTime t = parseAny(meta);
+        if (t != null) return t;
+
+        String dataTime = attr(doc, "span.media_end_head_info_datestamp_time", "data-date-time");
+        t = parseAny(dataTime);
+        if (t != null) return t;
+
+        String datetime = attr(doc, "time[datetime]", "datetime");
+        t = parseAny(datetime);
+        if (t != null) return t;
+
+        Element ld = doc.selectFirst("script[type=application/ld+json]");
+        if (ld != null) {
+            try {
+                JsonNode root = OM.readTree(ld.data());
+                JsonNode dp = root.get("datePublished");
+                if (dp != null && !dp.isNull()) {
+                    t = parseAny(dp.asText());
+                    if (t != null) return t;
+                }
+            } catch (Exception ignore) {}
+        }
+
+        return null;
+    }
+
+    private LocalDateTime parseAny(String raw) {
+        if (raw == null || raw.isBlank()) return null;
+
+        try {
+            return OffsetDateTime.parse(raw).atZoneSameInstant(KST).toLocalDateTime();
+        } catch (DateTimeParseException ignore) {}
+
+        try {
+            return OffsetDateTime.parse(raw, OFFSET_NO_COLON).atZoneSameInstant(KST).toLocalDateTime();
+        } catch (DateTimeParseException ignore) {}
+
+        try {
+            return LocalDateTime.parse(raw, SPACE_DATETIME);
+        } catch (DateTimeParseException ignore) {}
+
+        return null;
+    }
+
+    private String firstText(Document doc, String... selectors) {
+        for (String sel : selectors) {
+            Element el = doc.selectFirst(sel);
+            if (el != null) {
+                String t = el.text();
+                if (t != null && !t.isBlank()) return t.trim();
+            }
+        }
+        return null;
+    }
+
+    private String firstAttr(Document doc, String attr, String... selectors) {
+        for (String sel : selectors) {
+            Element el = doc.selectFirst(sel);
+            if (el != null) {
+                String v = el.attr(attr);
+                if (v != null && !v.isBlank()) return v.trim();
+            }
+        }
+        return null;
+    }
+
+    private String attr(Document doc, String css, String attr) {
+        Element el = doc.selectFirst(css);
+        if (el == null) return null;
+        String v = el.attr(attr);
+        return (v == null || v.isBlank()) ? null : v.trim();
+    }
+
+    private void recordQuality(ParsedArticle parsed, String sectionName) {
+        if (parsed.publishedAt == null) inc(sectionName, "published_at_null");
+        if (parsed.thumbnailUrl == null) inc(sectionName, "thumbnail_null");
+    }
+
+    private void inc(String section, String status) {
+        Counter.builder("crawler_articles_total")
+                .tag("section", section)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String safe(String s) {
+        return s == null ? "null" : s;
+    }
+}
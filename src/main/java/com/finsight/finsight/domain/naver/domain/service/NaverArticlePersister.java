@@ -0,0 +1,208 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.ai.domain.service.AiJobService;
+import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.finsight.finsight.domain.naver.domain.dedup.NaverArticleDedupService;
+import com.finsight.finsight.domain.naver.domain.neardup.NearDuplicateDetector;
+import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleContentEntity;
+import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleContentRepository;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
+import com.finsight.finsight.global.config.AiPipelineProperties;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파싱된 기사 저장 + SUMMARY Job enqueue
+ *
+ * - saveBatch: 섹션 결과를 트랜잭션 1개 / flush 1회로 저장
+ *   (NaverArticleEntity, NaverArticleContentEntity, AiJobEntity 모두 sequence ID 기반 → hibernate.jdbc.batch_size 로 batch insert)
+ * - 유니크(oid, aid) 충돌로 flush가 실패하면 전체 롤백 후 기사별 개별 트랜잭션으로 재시도
+ *   → 충돌한 기사만 duplicate_race 처리되고 나머지는 저장됨
+ * - 본문이 최근 기사와 거의 같으면(NearDuplicateDetector) 원본 기사에 연결만 하고 SUMMARY를 만들지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverArticlePersister {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final NaverArticleRepository repository;
+    private final NaverArticleContentRepository contentRepository;
+    private final NaverCrawlerProperties props;
+    private final AiPipelineProperties pipelineProps;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AiJobService aiJobService;
+    private final NaverArticleDedupService dedupService;
+    private final NearDuplicateDetector nearDuplicateDetector;
+
+    /**
+     * 섹션 단위 일괄 저장
+     * @return 저장된 기사 수
+     */
+    int saveBatch(NaverEconomySection section, List<CrawledArticle> items) {
+        if (items.isEmpty()) return 0;
+
+        String sectionName = section.getDisplayName();
+        List<Long> registered = new ArrayList<>();
+
+        try {
+            List<NaverArticleEntity> saved = transactionTemplate.execute(status -> {
+                List<NaverArticleEntity> entities = new ArrayList<>(items.size());
+                for (CrawledArticle item : items) {
+                    entities.add(persistWithSummaryJob(section, item, registered));
+                }
+                // 기사 insert batch + ai_jobs insert batch (order_inserts)
+                repository.flush();
+                return entities;
+            });
+
+            for (int i = 0; i < items.size(); i++) {
+                afterSaved(sectionName, items.get(i), saved.get(i));
+            }
+            inc(sectionName, "batch_flush");
+            return items.size();
+
+        } catch (DataIntegrityViolationException dup) {
+            // 롤백된 기사 ID가 유사 중복 원본으로 잡히지 않도록 먼저 제거
+            nearDuplicateDetector.unregister(registered);
+            log.debug("[NAVER-CRAWL] batch insert conflict, fallback to per-article section={} size={}",
+                    sectionName, items.size());
+            inc(sectionName, "batch_fallback");
+
+            int savedCount = 0;
+            for (CrawledArticle item : items) {
+                if (save(section, item)) savedCount++;
+            }
+            return savedCount;
+        } catch (RuntimeException e) {
+            nearDuplicateDetector.unregister(registered);
+            throw e;
+        }
+    }
+
+    /**
+     * 단건 저장 (자체 트랜잭션)
+     * @return 저장 성공 여부 (유니크 레이스로 막힌 경우 false)
+     */
+    boolean save(NaverEconomySection section, CrawledArticle item) {
+        String sectionName = section.getDisplayName();
+        ArticleId id = item.id();
+        List<Long> registered = new ArrayList<>(1);
+
+        try {
+            NaverArticleEntity entity = transactionTemplate.execute(status -> {
+                NaverArticleEntity e = persistWithSummaryJob(section, item, registered);
+                repository.flush();
+                return e;
+            });
+            afterSaved(sectionName, item, entity);
+            return true;
+        } catch (DataIntegrityViolationException dup) {
+            nearDuplicateDetector.unregister(registered);
+            // 유니크(oid,aid) 레이스 방지
+            dedupService.markSeen(id.oid, id.aid);
+            inc(sectionName, "duplicate_race");
+            log.debug("[NAVER-CRAWL] duplicate prevented by DB section={} oid={} aid={}",
+                    sectionName, id.oid, id.aid);
+            return false;
+        } catch (RuntimeException e) {
+            nearDuplicateDetector.unregister(registered);
+            throw e;
+        }
+    }
+
+    /**
+     * 기사 persist + (본문 길이 충족 + 유사 중복 아님) SUMMARY Job persist. flush는 호출 측에서.
+     * @param registered 유사 중복 인덱스에 등록한 기사 ID (롤백 시 제거용)
+     */
+    private NaverArticleEntity persistWithSummaryJob(NaverEconomySection section, CrawledArticle item,
+                                                     List<Long> registered) {
+        ArticleId id = item.id();
+        ParsedArticle parsed = item.parsed();
+
+        NaverArticleEntity entity = NaverArticleEntity.builder()
+                .section(section)
+                .oid(id.oid)
+                .aid(id.aid)
+                .url(id.canonicalUrl())
+                .title(parsed.title)
+                .press(parsed.press)
+                .publishedAt(parsed.publishedAt)
+                .thumbnailUrl(parsed.thumbnailUrl)
+                .collectedAt(LocalDateTime.now(KST))
+                .build();
+
+        boolean aiEligible = isAiEligible(parsed);
+        long signature = 0L;
+        if (aiEligible && nearDuplicateDetector.isEnabled()) {
+            signature = nearDuplicateDetector.signature(parsed.content);
+            Long canonicalId = nearDuplicateDetector.findCanonical(signature);
+            if (canonicalId != null) entity.linkToCanonical(canonicalId);
+        }
+
+        repository.save(entity);
+        contentRepository.save(NaverArticleContentEntity.of(entity, parsed.content));
+
+        if (aiEligible && entity.getCanonicalArticleId() == null) {
+            aiJobService.enqueueSummary(entity, pipelineProps.getPromptVersion(), "gpt-4o-mini");
+            nearDuplicateDetector.register(entity.getId(), signature);
+            registered.add(entity.getId());
+        }
+        return entity;
+    }
+
+    private void afterSaved(String sectionName, CrawledArticle item, NaverArticleEntity entity) {
+        ArticleId id = item.id();
+        ParsedArticle parsed = item.parsed();
+
+        dedupService.markSeen(id.oid, id.aid);
+        inc(sectionName, "saved");
+
+        log.info("[NAVER-CRAWL] saved section={} oid={} aid={} articleId={} publishedAt={} title={}",
+                sectionName, id.oid, id.aid, entity.getId(), parsed.publishedAt, truncate(parsed.title, 80));
+
+        // 본문 길이가 설정된 최소값 미만이면 AI 작업 건너뛰기
+        if (!isAiEligible(parsed)) {
+            inc(sectionName, "ai_skipped_short_content");
+            log.info("[NAVER-CRAWL] AI job skipped (short content) section={} oid={} aid={} contentLen={} minLen={}",
+                    sectionName, id.oid, id.aid, parsed.content.length(), props.getMinContentLengthForAi());
+        } else if (entity.getCanonicalArticleId() != null) {
+            inc(sectionName, "ai_skipped_near_duplicate");
+            log.info("[NAVER-CRAWL] AI job skipped (near duplicate) section={} oid={} aid={} articleId={} canonicalArticleId={}",
+                    sectionName, id.oid, id.aid, entity.getId(), entity.getCanonicalArticleId());
+        }
+    }
+
+    private boolean isAiEligible(ParsedArticle parsed) {
+        int minLen = props.getMinContentLengthForAi();
+        return minLen <= 0 || parsed.content.length() >= minLen;
+    }
+
+    private void inc(String section, String status) {
+        Counter.builder("crawler_articles_total")
+                .tag("section", section)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String s, int max) {
+        if (s == null) return null;
+        return s.length() <= max ? s : s.substring(0, max) + "...";
+    }
+}
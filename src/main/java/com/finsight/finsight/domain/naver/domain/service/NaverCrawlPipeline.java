@@ -0,0 +1,501 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.finsight.finsight.domain.naver.domain.dedup.ArticleKey;
+import com.finsight.finsight.domain.naver.domain.dedup.NaverArticleDedupService;
+import com.finsight.finsight.domain.naver.domain.service.NaverCrawlerService.CrawlSectionResult;
+import com.finsight.finsight.domain.naver.domain.watermark.CrawlWatermark;
+import com.finsight.finsight.domain.naver.domain.watermark.NaverCrawlWatermarkService;
+import com.finsight.finsight.domain.naver.exception.NaverCrawlException;
+import com.finsight.finsight.domain.naver.exception.code.NaverCrawlErrorCode;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 크롤링 파이프라인 (list fetch → article fetch → parse → persist)
+ *
+ * - 단계 사이는 bounded queue로 연결 → 뒷단이 밀리면 put()이 막혀 앞단이 자연스럽게 감속(backpressure)
+ * - list 단계: 섹션별로 목록 조회 + 중복 체크 + 워터마크/stopAfterSeenStreak 판단 후 신규 기사만 다음 단계로
+ * - persist 단계: 단일 스레드가 섹션별로 모아서 NaverArticlePersister.saveBatch 1회로 저장 + SUMMARY enqueue
+ *   (섹션의 모든 기사가 도착했거나 persistBatchSize에 도달하면 flush)
+ * - 모든 단계가 끝난 뒤 실패 없는 섹션만 워터마크 갱신
+ * - 큐 깊이: crawler_pipeline_queue_depth{queue}, 단계 지연: crawler_stage_seconds{stage}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverCrawlPipeline {
+
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private final NaverPageFetcher fetcher;
+    private final NaverArticleParser parser;
+    private final NaverArticlePersister persister;
+    private final NaverArticleDedupService dedupService;
+    private final NaverCrawlWatermarkService watermarkService;
+
+    // 게이지는 한 번만 등록하고, 실행마다 새 큐를 바인딩
+    private final Map<String, AtomicReference<BlockingQueue<?>>> queueGauges = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 섹션 1회 실행
+     * @return NaverEconomySection 순서의 섹션별 결과
+     */
+    public List<CrawlSectionResult> run() {
+        NaverEconomySection[] sections = NaverEconomySection.values();
+        int capacity = Math.max(1, props.getPipelineQueueCapacity());
+
+        BlockingQueue<ArticleTask> fetchQueue = new ArrayBlockingQueue<>(capacity);
+        BlockingQueue<FetchedArticle> parseQueue = new ArrayBlockingQueue<>(capacity);
+        BlockingQueue<ParsedItem> persistQueue = new ArrayBlockingQueue<>(capacity);
+        bindQueue("article_fetch", fetchQueue);
+        bindQueue("parse", parseQueue);
+        bindQueue("persist", persistQueue);
+
+        Map<NaverEconomySection, SectionState> states = new EnumMap<>(NaverEconomySection.class);
+        for (NaverEconomySection section : sections) {
+            states.put(section, new SectionState(section));
+        }
+
+        int listWorkers = Math.max(1, Math.min(props.getSectionParallelism(), sections.length));
+        int fetchWorkers = Math.max(1, props.getPipelineFetchWorkers());
+        int parseWorkers = Math.max(1, props.getPipelineParseWorkers());
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(fetchWorkers + parseWorkers + 1, r -> {
+            Thread t = new Thread(r, "naver-pipeline-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            // 뒷단부터 띄워서 앞단 put()이 바로 소비되도록
+            Future<?> persistFuture = executor.submit(() -> persistStage(persistQueue, states));
+
+            List<Future<?>> parseFutures = new ArrayList<>();
+            for (int i = 0; i < parseWorkers; i++) {
+                parseFutures.add(executor.submit(() -> parseStage(parseQueue, persistQueue)));
+            }
+
+            List<Future<?>> fetchFutures = new ArrayList<>();
+            for (int i = 0; i < fetchWorkers; i++) {
+                fetchFutures.add(executor.submit(() -> articleFetchStage(fetchQueue, parseQueue)));
+            }
+
+            // list 단계는 섹션 수만큼 작업을 listWorkers 스레드가 나눠 처리
+            ExecutorService listExecutor = Executors.newFixedThreadPool(listWorkers, r -> {
+                Thread t = new Thread(r, "naver-pipeline-list-" + threadSeq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                List<Future<?>> listFutures = new ArrayList<>();
+                for (NaverEconomySection section : sections) {
+                    SectionState state = states.get(section);
+                    listFutures.add(listExecutor.submit(() -> listStage(state, fetchQueue)));
+                }
+                awaitAll(listFutures, "list");
+            } finally {
+                listExecutor.shutdownNow();
+            }
+
+            // 단계별 종료: 앞단이 끝나면 워커 수만큼 종료 신호 전달
+            for (int i = 0; i < fetchWorkers; i++) fetchQueue.put(ArticleTask.POISON);
+            awaitAll(fetchFutures, "article_fetch");
+
+            for (int i = 0; i < parseWorkers; i++) parseQueue.put(FetchedArticle.POISON);
+            awaitAll(parseFutures, "parse");
+
+            persistQueue.put(ParsedItem.POISON);
+            awaitAll(List.of(persistFuture), "persist");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NaverCrawlException(NaverCrawlErrorCode.NAVER_LIST_FETCH_FAIL);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<CrawlSectionResult> results = new ArrayList<>(sections.length);
+        for (NaverEconomySection section : sections) {
+            SectionState state = states.get(section);
+            // 실패한 기사(조회/파싱, 본문 없음 포함)가 있으면 워터마크를 유지해서 다음 실행에서 다시 시도
+            if (state.newest != null && state.listFail.get() == 0 && state.articleFail.get() == 0
+                    && state.parseFail.get() == 0) {
+                LocalDateTime publishedAt = state.newestPublishedAt;
+                if (publishedAt == null && state.watermark != null && state.watermark.matches(state.newest.key())) {
+                    publishedAt = state.watermark.publishedAt();
+                }
+                watermarkService.advance(section, state.newest.key(), publishedAt);
+            }
+
+            CrawlSectionResult r = state.toResult();
+            log.info("[NAVER-CRAWL] pipeline section end: {} scanned={} saved={} listFail={} articleFail={} parseFail={} listPagesTried={} listPagesSuccess={}",
+                    r.section, r.scanned, r.saved, r.listFail, r.articleFail, r.parseFail, r.listPagesTried, r.listPagesSuccess);
+            results.add(r);
+        }
+        return results;
+    }
+
+    // =========================
+    // Stage 1: list fetch + dedup
+    // =========================
+
+    private void listStage(SectionState state, BlockingQueue<ArticleTask> out) {
+        NaverEconomySection section = state.section;
+        String sectionName = section.getDisplayName();
+        int seenStreak = 0;
+        Set<ArticleKey> emitted = new HashSet<>();
+
+        CrawlWatermark watermark = watermarkService.load(section).orElse(null);
+        state.watermark = watermark;
+
+        try {
+            for (int page = 1; page <= props.getMaxPages(); page++) {
+                String listUrl = fetcher.buildListUrl(section.getUrl(), page);
+                state.listPagesTried.incrementAndGet();
+
+                Timer.Sample stageSample = Timer.start(meterRegistry);
+                Document listDoc;
+                try {
+                    Timer.Sample fetchSample = Timer.start(meterRegistry);
+                    listDoc = fetcher.fetch(listUrl);
+                    fetchSample.stop(Timer.builder("crawler_fetch_seconds")
+                            .tag("kind", "list")
+                            .tag("section", sectionName)
+                            .register(meterRegistry));
+                    state.listPagesSuccess.incrementAndGet();
+                } catch (Exception e) {
+                    state.listFail.incrementAndGet();
+                    log.warn("[NAVER-CRAWL] list fetch fail section={} page={} url={} err={}",
+                            sectionName, page, listUrl, e.toString());
+                    continue;
+                }
+
+                List<ArticleId> ids = parser.extractArticleIds(listDoc);
+                if (ids.isEmpty()) {
+                    fetcher.reportEmptyList(listUrl);
+                } else if (page == 1) {
+                    state.newest = ids.get(0);
+                }
+
+                List<ArticleKey> keys = new ArrayList<>(ids.size());
+                for (ArticleId id : ids) keys.add(id.key());
+                Set<ArticleKey> existing = dedupService.findExisting(keys);
+                recordStage("list", stageSample);
+
+                boolean stop = false;
+                for (ArticleId id : ids) {
+                    if (watermark != null && watermark.matches(id.key())) {
+                        inc(sectionName, "stop_at_watermark");
+                        log.info("[NAVER-CRAWL] stop at watermark section={} oid={} aid={}",
+                                sectionName, id.oid, id.aid);
+                        stop = true;
+                        break;
+                    }
+
+                    state.scanned.incrementAndGet();
+                    inc(sectionName, "scanned");
+
+                    if (existing.contains(id.key()) || emitted.contains(id.key())) {
+                        seenStreak++;
+                        inc(sectionName, "duplicate_seen");
+
+                        if (watermark == null && seenStreak >= props.getStopAfterSeenStreak()) {
+                            inc(sectionName, "stop_after_seen_streak");
+                            log.info("[NAVER-CRAWL] stop early section={} reason=seenStreak({}) reached",
+                                    sectionName, seenStreak);
+                            stop = true;
+                            break;
+                        }
+                        continue;
+                    }
+
+                    seenStreak = 0;
+                    emitted.add(id.key());
+                    state.inFlight.incrementAndGet();
+                    out.put(new ArticleTask(state, id));
+                }
+
+                if (stop) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            state.listDone = true;
+        }
+    }
+
+    // =========================
+    // Stage 2: article fetch
+    // =========================
+
+    private void articleFetchStage(BlockingQueue<ArticleTask> in, BlockingQueue<FetchedArticle> out) {
+        try {
+            while (true) {
+                ArticleTask task = in.take();
+                if (task == ArticleTask.POISON) return;
+
+                String sectionName = task.state.section.getDisplayName();
+                String articleUrl = task.id.canonicalUrl();
+
+                Timer.Sample stageSample = Timer.start(meterRegistry);
+                try {
+                    Timer.Sample fetchSample = Timer.start(meterRegistry);
+                    FetchedArticle fetched;
+                    if (props.isStreamingParser()) {
+                        // 스트리밍 엔진: 응답을 읽으면서 바로 파싱 (parse 단계는 결과 검증만)
+                        ParsedArticle parsed = fetcher.fetchStream(articleUrl,
+                                streamer -> parser.parseArticle(streamer, sectionName, articleUrl));
+                        fetched = new FetchedArticle(task, null, parsed);
+                    } else {
+                        fetched = new FetchedArticle(task, fetcher.fetch(articleUrl), null);
+                    }
+                    fetchSample.stop(Timer.builder("crawler_fetch_seconds")
+                            .tag("kind", "article")
+                            .tag("section", sectionName)
+                            .register(meterRegistry));
+                    out.put(fetched);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    task.state.articleFail.incrementAndGet();
+                    task.state.inFlight.decrementAndGet();
+                    inc(sectionName, "article_fail");
+                    log.warn("[NAVER-CRAWL] article fetch fail section={} url={} err={}",
+                            sectionName, articleUrl, e.toString());
+                } finally {
+                    recordStage("article_fetch", stageSample);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // =========================
+    // Stage 3: parse
+    // =========================
+
+    private void parseStage(BlockingQueue<FetchedArticle> in, BlockingQueue<ParsedItem> out) {
+        try {
+            while (true) {
+                FetchedArticle fetched = in.take();
+                if (fetched == FetchedArticle.POISON) return;
+
+                ArticleTask task = fetched.task;
+                String sectionName = task.state.section.getDisplayName();
+                String articleUrl = task.id.canonicalUrl();
+
+                Timer.Sample stageSample = Timer.start(meterRegistry);
+                try {
+                    ParsedArticle parsed = fetched.parsed != null
+                            ? fetched.parsed
+                            : parser.parseArticle(fetched.doc, sectionName, articleUrl);
+                    if (!parsed.hasContent()) {
+                        task.state.parseFail.incrementAndGet();
+                        task.state.inFlight.decrementAndGet();
+                        inc(sectionName, "parse_fail");
+                        log.debug("[NAVER-CRAWL] parse fail(blank content) section={} url={}",
+                                sectionName, articleUrl);
+                        continue;
+                    }
+                    out.put(new ParsedItem(task, parsed));
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    task.state.articleFail.incrementAndGet();
+                    task.state.inFlight.decrementAndGet();
+                    inc(sectionName, "article_fail");
+                    log.warn("[NAVER-CRAWL] article parse fail section={} url={} err={}",
+                            sectionName, articleUrl, e.toString());
+                } finally {
+                    recordStage("parse", stageSample);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // =========================
+    // Stage 4: batched persist + enqueue
+    // =========================
+
+    private void persistStage(BlockingQueue<ParsedItem> in, Map<NaverEconomySection, SectionState> states) {
+        Map<NaverEconomySection, List<ParsedItem>> buffers = new EnumMap<>(NaverEconomySection.class);
+        int batchSize = Math.max(1, props.getPersistBatchSize());
+
+        try {
+            while (true) {
+                ParsedItem item = in.poll(200, TimeUnit.MILLISECONDS);
+
+                if (item == ParsedItem.POISON) {
+                    for (List<ParsedItem> buffer : buffers.values()) flush(buffer);
+                    return;
+                }
+
+                if (item != null) {
+                    SectionState state = item.task.state;
+                    List<ParsedItem> buffer = buffers.computeIfAbsent(state.section, s -> new ArrayList<>());
+                    buffer.add(item);
+                    state.inFlight.decrementAndGet();
+                    if (buffer.size() >= batchSize) flush(buffer);
+                }
+
+                // 섹션의 모든 기사가 도착했으면 해당 섹션 flush (섹션 단위 커밋)
+                for (Map.Entry<NaverEconomySection, List<ParsedItem>> e : buffers.entrySet()) {
+                    SectionState state = states.get(e.getKey());
+                    if (!e.getValue().isEmpty() && state.listDone && state.inFlight.get() == 0) {
+                        flush(e.getValue());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<ParsedItem> buffer) {
+        if (buffer.isEmpty()) return;
+
+        List<ParsedItem> batch = new ArrayList<>(buffer);
+        buffer.clear();
+
+        SectionState state = batch.get(0).task.state;
+        List<CrawledArticle> items = new ArrayList<>(batch.size());
+        for (ParsedItem item : batch) {
+            items.add(new CrawledArticle(item.task.id, item.parsed));
+            if (state.newest != null && item.task.id.key().equals(state.newest.key())) {
+                state.newestPublishedAt = item.parsed.publishedAt;
+            }
+        }
+
+        Timer.Sample stageSample = Timer.start(meterRegistry);
+        try {
+            state.saved.addAndGet(persister.saveBatch(state.section, items));
+        } catch (Exception e) {
+            state.articleFail.addAndGet(batch.size());
+            incEvent("persist_batch_fail");
+            log.error("[NAVER-CRAWL] persist batch fail section={} size={}", state.section.getDisplayName(), batch.size(), e);
+        } finally {
+            recordStage("persist", stageSample);
+        }
+    }
+
+    // =========================
+    // helpers
+    // =========================
+
+    private void awaitAll(List<? extends Future<?>> futures, String stage) throws InterruptedException {
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                incEvent("stage_error");
+                log.error("[NAVER-CRAWL] pipeline stage error stage={}", stage, e.getCause());
+            }
+        }
+    }
+
+    private void bindQueue(String name, BlockingQueue<?> queue) {
+        queueGauges.computeIfAbsent(name, n -> {
+            AtomicReference<BlockingQueue<?>> ref = new AtomicReference<>();
+            Gauge.builder("crawler_pipeline_queue_depth", ref, r -> r.get() == null ? 0 : r.get().size())
+                    .tag("queue", n)
+                    .register(meterRegistry);
+            return ref;
+        }).set(queue);
+    }
+
+    private void recordStage(String stage, Timer.Sample sample) {
+        sample.stop(Timer.builder("crawler_stage_seconds")
+                .tag("stage", stage)
+                .register(meterRegistry));
+    }
+
+    private void inc(String section, String status) {
+        Counter.builder("crawler_articles_total")
+                .tag("section", section)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void incEvent(String status) {
+        Counter.builder("crawler_events_total")
+                .tag("scope", "pipeline")
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 섹션별 진행 상태 (여러 단계 스레드에서 동시에 갱신)
+     */
+    private static class SectionState {
+        final NaverEconomySection section;
+
+        final AtomicInteger scanned = new AtomicInteger();
+        final AtomicInteger saved = new AtomicInteger();
+        final AtomicInteger listFail = new AtomicInteger();
+        final AtomicInteger articleFail = new AtomicInteger();
+        final AtomicInteger parseFail = new AtomicInteger();
+        final AtomicInteger listPagesTried = new AtomicInteger();
+        final AtomicInteger listPagesSuccess = new AtomicInteger();
+
+        // list 단계에서 내보냈지만 아직 persist 버퍼에 도착하지 않은(또는 중간 실패하지 않은) 기사 수
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile boolean listDone;
+
+        // 워터마크: list 단계에서 기록, 모든 단계 종료 후 갱신
+        volatile CrawlWatermark watermark;
+        volatile ArticleId newest;
+        volatile LocalDateTime newestPublishedAt;
+
+        SectionState(NaverEconomySection section) {
+            this.section = section;
+        }
+
+        CrawlSectionResult toResult() {
+            CrawlSectionResult r = new CrawlSectionResult(section.getDisplayName());
+            r.scanned = scanned.get();
+            r.saved = saved.get();
+            r.listFail = listFail.get();
+            r.articleFail = articleFail.get();
+            r.parseFail = parseFail.get();
+            r.listPagesTried = listPagesTried.get();
+            r.listPagesSuccess = listPagesSuccess.get();
+            return r;
+        }
+    }
+
+    private record ArticleTask(SectionState state, ArticleId id) {
+        static final ArticleTask POISON = new ArticleTask(null, null);
+    }
+
+    /**
+     * doc(dom 엔진) 또는 parsed(streaming 엔진) 중 하나만 채워짐
+     */
+    private record FetchedArticle(ArticleTask task, Document doc, ParsedArticle parsed) {
+        static final FetchedArticle POISON = new FetchedArticle(null, null, null);
+    }
+
+    private record ParsedItem(ArticleTask task, ParsedArticle parsed) {
+        static final ParsedItem POISON = new ParsedItem(null, null);
+    }
+}
@@ -1,13 +1,12 @@
 package com.finsight.finsight.domain.naver.domain.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.finsight.finsight.domain.ai.domain.service.AiJobService;
 import com.finsight.finsight.domain.naver.application.dto.response.NaverCrawlResultResponse;
 import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.finsight.finsight.domain.naver.domain.dedup.ArticleKey;
+import com.finsight.finsight.domain.naver.domain.dedup.NaverArticleDedupService;
+import com.finsight.finsight.domain.naver.domain.watermark.CrawlWatermark;
+import com.finsight.finsight.domain.naver.domain.watermark.NaverCrawlWatermarkService;
 import com.finsight.finsight.domain.naver.exception.code.NaverCrawlErrorCode;
-import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
-import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
 import com.finsight.finsight.global.config.NaverCrawlerProperties;
 import com.finsight.finsight.domain.naver.exception.NaverCrawlException;
 import io.micrometer.core.instrument.Counter;
@@ -16,22 +15,18 @@ import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URI;
-import java.time.*;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -39,44 +34,50 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class NaverCrawlerService {
 
-    private final NaverArticleRepository repository;
     private final NaverCrawlerProperties props;
 
     private final MeterRegistry meterRegistry;
 
-    private final AiJobService aiJobService;
-    private final TransactionTemplate transactionTemplate;
+    private final NaverArticleDedupService dedupService;
+    private final NaverCrawlWatermarkService watermarkService;
 
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
-    private static final ObjectMapper OM = new ObjectMapper();
-    private static final Pattern ARTICLE_PATH = Pattern.compile("/article/(\\d+)/(\\d+)");
-
-    private static final DateTimeFormatter OFFSET_NO_COLON =
-            new DateTimeFormatterBuilder()
-                    .appendPattern("yyyy-MM-dd'T'HH:mm:ssZ")
-                    .toFormatter();
-
-    private static final DateTimeFormatter SPACE_DATETIME =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final NaverPageFetcher fetcher;
+    private final NaverArticleParser parser;
+    private final NaverArticlePersister persister;
+    private final NaverCrawlPipeline pipeline;
 
     /**
      * 전체(8개 섹션) 1회 크롤링 실행
      * - 부분 실패는 계속 진행
-     * - 각 섹션별로 트랜잭션 분리 (섹션 완료 시마다 커밋)
+     * - 각 섹션별로 트랜잭션 분리 (섹션 완료 시마다 NaverArticlePersister가 일괄 저장 후 커밋)
+     * - HTTP 조회 동안 트랜잭션/커넥션을 잡지 않도록 실행 자체는 트랜잭션 밖에서 수행
      * - "전체가 거의 실패" 케이스는 AppException으로 올려서 API에서 에러코드로 반환
+     * - parallelEnabled=true면 섹션을 고정 크기 풀에서 병렬 실행 (호스트별 동시성은 NaverHostThrottle이 제한)
+     * - pipelineEnabled=true면 목록/기사 조회/파싱/저장을 단계별 큐로 분리한 파이프라인으로 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NaverCrawlResultResponse crawlAllOnce() {
         Timer.Sample allSample = Timer.start(meterRegistry);
         CrawlAggregate agg = new CrawlAggregate();
 
-        log.info("[NAVER-CRAWL] start all sections maxPages={}, stopAfterSeenStreak={}, timeoutMs={}",
-                props.getMaxPages(), props.getStopAfterSeenStreak(), props.getTimeoutMs());
+        log.info("[NAVER-CRAWL] start all sections maxPages={}, stopAfterSeenStreak={}, timeoutMs={}, parallel={}, pipeline={}",
+                props.getMaxPages(), props.getStopAfterSeenStreak(), props.getTimeoutMs(),
+                props.isParallelEnabled(), props.isPipelineEnabled());
 
         List<NaverCrawlResultResponse.CategoryResult> categoryResults = new ArrayList<>();
 
-        for (NaverEconomySection section : NaverEconomySection.values()) {
-            // 섹션별 트랜잭션 분리 - 각 섹션 완료 시 커밋
-            CrawlSectionResult r = transactionTemplate.execute(status -> crawlSection(section));
+        List<CrawlSectionResult> sectionResults;
+        if (props.isPipelineEnabled()) {
+            sectionResults = pipeline.run();
+        } else if (props.isParallelEnabled()) {
+            sectionResults = crawlSectionsParallel();
+        } else {
+            sectionResults = crawlSectionsSequential();
+        }
+
+        for (int i = 0; i < sectionResults.size(); i++) {
+            NaverEconomySection section = NaverEconomySection.values()[i];
+            CrawlSectionResult r = sectionResults.get(i);
             if (r != null) {
                 agg.add(r);
                 categoryResults.add(
@@ -113,11 +114,63 @@ public class NaverCrawlerService {
         return NaverCrawlResultResponse.of(agg.totalScanned, agg.totalSaved, categoryResults);
     }
 
+    private List<CrawlSectionResult> crawlSectionsSequential() {
+        List<CrawlSectionResult> results = new ArrayList<>();
+        for (NaverEconomySection section : NaverEconomySection.values()) {
+            results.add(crawlSection(section));
+        }
+        return results;
+    }
+
+    /**
+     * 섹션 병렬 실행
+     * - 섹션마다 자기 스레드에서 커밋 (섹션 간 트랜잭션 공유 없음)
+     * - 한 섹션의 예외는 해당 섹션만 누락 처리하고 나머지는 계속 진행
+     * - 결과는 NaverEconomySection 순서대로 반환 (실패 섹션은 null)
+     */
+    private List<CrawlSectionResult> crawlSectionsParallel() {
+        NaverEconomySection[] sections = NaverEconomySection.values();
+        int poolSize = Math.max(1, Math.min(props.getSectionParallelism(), sections.length));
+
+        AtomicInteger threadSeq = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "naver-crawl-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<CrawlSectionResult>> futures = new ArrayList<>(sections.length);
+            for (NaverEconomySection section : sections) {
+                futures.add(executor.submit(() -> crawlSection(section)));
+            }
+
+            List<CrawlSectionResult> results = new ArrayList<>(sections.length);
+            for (int i = 0; i < sections.length; i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    incAll("section", "section_error");
+                    log.error("[NAVER-CRAWL] section crawl error section={}", sections[i].getDisplayName(), e.getCause());
+                    results.add(null);
+                }
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NaverCrawlException(NaverCrawlErrorCode.NAVER_LIST_FETCH_FAIL);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * 섹션(탭) 단위 크롤링
-     * - stopAfterSeenStreak 로 "중복 연속"이면 조기 종료
+     * - 워터마크(직전 크롤링의 최신 기사)를 만나면 그 지점에서 종료
+     * - 워터마크가 없거나 오래됐으면 stopAfterSeenStreak 로 "중복 연속"이면 조기 종료
+     * - 목록/기사 조회 실패 없이 끝나면 1페이지 최상단 기사로 워터마크 갱신
      * - 실패는 카운트만 올리고 계속 진행(부분 실패 허용)
-     * - 트랜잭션은 crawlAllOnce()에서 TransactionTemplate으로 관리
+     * - 신규 기사는 모아뒀다가 섹션 끝에서 saveBatch로 한 번에 저장 (트랜잭션 1개, flush 1회)
      */
     public CrawlSectionResult crawlSection(NaverEconomySection section) {
         String sectionName = section.getDisplayName();
@@ -127,16 +180,23 @@ public class NaverCrawlerService {
 
         int seenStreak = 0;
 
+        CrawlWatermark watermark = watermarkService.load(section).orElse(null);
+        ArticleId newest = null;
+
+        // 섹션 내 저장 대기 목록 (페이지가 밀려 같은 기사가 다시 보이는 경우 중복 방지)
+        List<CrawledArticle> pending = new ArrayList<>();
+        Set<ArticleKey> pendingKeys = new HashSet<>();
+
         log.info("[NAVER-CRAWL] section start: {}", sectionName);
 
         for (int page = 1; page <= props.getMaxPages(); page++) {
-            String listUrl = buildListUrl(section.getUrl(), page);
+            String listUrl = fetcher.buildListUrl(section.getUrl(), page);
             result.listPagesTried++;
 
             Document listDoc;
             try {
                 Timer.Sample fetchSample = Timer.start(meterRegistry);
-                listDoc = fetch(listUrl);
+                listDoc = fetcher.fetch(listUrl);
                 fetchSample.stop(Timer.builder("crawler_fetch_seconds")
                         .tag("kind", "list")
                         .tag("section", sectionName)
@@ -149,17 +209,33 @@ public class NaverCrawlerService {
                 continue;
             }
 
-            List<ArticleId> ids = extractArticleIds(listDoc);
-            if (ids.isEmpty()) continue;
+            List<ArticleId> ids = parser.extractArticleIds(listDoc);
+            if (ids.isEmpty()) {
+                fetcher.reportEmptyList(listUrl);
+                continue;
+            }
+            if (page == 1) newest = ids.get(0);
 
             boolean stop = false;
 
+            // 페이지 단위 중복 체크: Bloom filter + (oid, aid) 일괄 조회 1회
+            List<ArticleKey> keys = new ArrayList<>(ids.size());
+            for (ArticleId id : ids) keys.add(id.key());
+            Set<ArticleKey> existing = dedupService.findExisting(keys);
+
             for (ArticleId id : ids) {
+                if (watermark != null && watermark.matches(id.key())) {
+                    inc(sectionName, "stop_at_watermark");
+                    log.info("[NAVER-CRAWL] stop at watermark section={} oid={} aid={}",
+                            sectionName, id.oid, id.aid);
+                    stop = true;
+                    break;
+                }
+
                 result.scanned++;
                 inc(sectionName, "scanned");
 
-                // DB 중복 체크: (oid, aid)
-                boolean exists = repository.existsByOidAndAid(id.oid, id.aid);
+                boolean exists = existing.contains(id.key()) || pendingKeys.contains(id.key());
                 if (exists) {
                     seenStreak++;
                     inc(sectionName, "duplicate_seen");
@@ -167,7 +243,7 @@ public class NaverCrawlerService {
                     log.debug("[NAVER-CRAWL] already exists section={} oid={} aid={} seenStreak={}",
                             sectionName, id.oid, id.aid, seenStreak);
 
-                    if (seenStreak >= props.getStopAfterSeenStreak()) {
+                    if (watermark == null && seenStreak >= props.getStopAfterSeenStreak()) {
                         inc(sectionName, "stop_after_seen_streak");
                         log.info("[NAVER-CRAWL] stop early section={} reason=seenStreak({}) reached",
                                 sectionName, seenStreak);
@@ -183,31 +259,27 @@ public class NaverCrawlerService {
                 String articleUrl = id.canonicalUrl();
 
                 try {
+                    ParsedArticle parsed;
                     Timer.Sample fetchSample = Timer.start(meterRegistry);
-                    Document articleDoc = fetch(articleUrl);
-                    fetchSample.stop(Timer.builder("crawler_fetch_seconds")
-                            .tag("kind", "article")
-                            .tag("section", sectionName)
-                            .register(meterRegistry));
-
-                    ParsedArticle parsed = parseArticle(articleDoc);
-
-                    // 품질 메트릭
-                    if (parsed.publishedAt == null) inc(sectionName, "published_at_null");
-                    if (parsed.thumbnailUrl == null) inc(sectionName, "thumbnail_null");
-
-                    // 디버깅: publishedAt NULL 원인 추적 로그
-                    if (parsed.publishedAt == null) {
-                        log.debug("[NAVER-CRAWL] publishedAt NULL section={} url={} meta={} dataDateTime={} timeDatetime={}",
-                                sectionName,
-                                articleUrl,
-                                safe(attr(articleDoc, "meta[property=article:published_time]", "content")),
-                                safe(attr(articleDoc, "span.media_end_head_info_datestamp_time", "data-date-time")),
-                                safe(attr(articleDoc, "time[datetime]", "datetime"))
-                        );
+                    if (props.isStreamingParser()) {
+                        // 스트리밍 엔진: 조회와 파싱을 한 번에 (fetch 시간에 파싱 포함)
+                        parsed = fetcher.fetchStream(articleUrl,
+                                streamer -> parser.parseArticle(streamer, sectionName, articleUrl));
+                        fetchSample.stop(Timer.builder("crawler_fetch_seconds")
+                                .tag("kind", "article")
+                                .tag("section", sectionName)
+                                .register(meterRegistry));
+                    } else {
+                        Document articleDoc = fetcher.fetch(articleUrl);
+                        fetchSample.stop(Timer.builder("crawler_fetch_seconds")
+                                .tag("kind", "article")
+                                .tag("section", sectionName)
+                                .register(meterRegistry));
+
+                        parsed = parser.parseArticle(articleDoc, sectionName, articleUrl);
                     }
 
-                    if (parsed.content == null || parsed.content.isBlank()) {
+                    if (!parsed.hasContent()) {
                         result.parseFail++;
                         inc(sectionName, "parse_fail");
 
@@ -216,43 +288,8 @@ public class NaverCrawlerService {
                         continue;
                     }
 
-                    NaverArticleEntity entity = NaverArticleEntity.builder()
-                            .section(section)
-                            .oid(id.oid)
-                            .aid(id.aid)
-                            .url(articleUrl)
-                            .title(parsed.title)
-                            .press(parsed.press)
-                            .publishedAt(parsed.publishedAt)
-                            .thumbnailUrl(parsed.thumbnailUrl)
-                            .content(parsed.content)
-                            .collectedAt(LocalDateTime.now(KST))
-                            .build();
-
-                    try {
-                        repository.save(entity);
-                        result.saved++;
-                        inc(sectionName, "saved");
-
-                        log.info("[NAVER-CRAWL] saved section={} oid={} aid={} publishedAt={} title={}",
-                                sectionName, id.oid, id.aid, parsed.publishedAt, truncate(parsed.title, 80));
-
-                        // 본문 길이가 설정된 최소값 미만이면 AI 작업 건너뛰기
-                        int minLen = props.getMinContentLengthForAi();
-                        int contentLen = parsed.content.length();
-                        if (minLen > 0 && contentLen < minLen) {
-                            inc(sectionName, "ai_skipped_short_content");
-                            log.info("[NAVER-CRAWL] AI job skipped (short content) section={} oid={} aid={} contentLen={} minLen={}",
-                                    sectionName, id.oid, id.aid, contentLen, minLen);
-                        } else {
-                            aiJobService.enqueueSummary(entity, "v1", "gpt-4o-mini");
-                        }
-                    } catch (DataIntegrityViolationException dup) {
-                        // 유니크(oid,aid) 레이스 방지
-                        inc(sectionName, "duplicate_race");
-                        log.debug("[NAVER-CRAWL] duplicate prevented by DB section={} oid={} aid={}",
-                                sectionName, id.oid, id.aid);
-                    }
+                    pending.add(new CrawledArticle(id, parsed));
+                    pendingKeys.add(id.key());
 
                 } catch (Exception e) {
                     result.articleFail++;
@@ -260,14 +297,19 @@ public class NaverCrawlerService {
 
                     log.warn("[NAVER-CRAWL] article fetch/parse fail section={} url={} err={}",
                             sectionName, articleUrl, e.toString());
-                } finally {
-                    politeSleep();
                 }
             }
 
             if (stop) break;
         }
 
+        result.saved = persister.saveBatch(section, pending);
+
+        // 실패한 기사(조회/파싱, 본문 없음 포함)가 있으면 워터마크를 유지해서 다음 실행에서 다시 시도
+        if (newest != null && result.listFail == 0 && result.articleFail == 0 && result.parseFail == 0) {
+            watermarkService.advance(section, newest.key(), publishedAtOf(newest, pending, watermark));
+        }
+
         sectionSample.stop(Timer.builder("crawler_run_seconds")
                 .tag("scope", "section")
                 .tag("section", sectionName)
@@ -279,6 +321,17 @@ public class NaverCrawlerService {
         return result;
     }
 
+    /**
+     * 워터마크 기사 발행 시각: 이번에 수집했으면 파싱 결과, 기존 워터마크와 같으면 그대로 유지
+     */
+    static LocalDateTime publishedAtOf(ArticleId newest, List<CrawledArticle> crawled, CrawlWatermark previous) {
+        for (CrawledArticle c : crawled) {
+            if (c.id().key().equals(newest.key())) return c.parsed().publishedAt;
+        }
+        if (previous != null && previous.matches(newest.key())) return previous.publishedAt();
+        return null;
+    }
+
     // =========================
     // Micrometer helpers
     // =========================
@@ -299,175 +352,6 @@ public class NaverCrawlerService {
                 .increment();
     }
 
-    private String buildListUrl(String baseUrl, int page) {
-        String date = LocalDate.now(KST).format(DateTimeFormatter.BASIC_ISO_DATE); // yyyyMMdd
-        return baseUrl + "?date=" + date + "&page=" + page;
-    }
-
-    private Document fetch(String url) throws Exception {
-        return Jsoup.connect(url)
-                .userAgent(props.getUserAgent())
-                .header("Accept-Language", "ko-KR,ko;q=0.9")
-                .timeout(props.getTimeoutMs())
-                .followRedirects(true)
-                .get();
-    }
-
-    private List<ArticleId> extractArticleIds(Document doc) {
-        LinkedHashSet<String> canonUrls = new LinkedHashSet<>();
-
-        // 메인 기사 목록 영역(.section_latest)에서만 링크 추출 (사이드바/인기뉴스 제외)
-        Element mainList = doc.selectFirst("#newsct .section_latest");
-        if (mainList == null) {
-            // fallback: 기존 방식 (전체 페이지에서 추출)
-            mainList = doc;
-            log.debug("[NAVER-CRAWL] .section_latest not found, fallback to full page");
-        }
-
-        for (Element a : mainList.select("a[href]")) {
-            String href = a.absUrl("href");
-            if (href == null || href.isBlank()) continue;
-
-            if (href.contains("/article/") || href.contains("read.naver") || href.contains("n.news.naver.com")) {
-                ArticleId id = ArticleId.from(href);
-                if (id != null) canonUrls.add(id.canonicalUrl());
-            }
-        }
-
-        List<ArticleId> out = new ArrayList<>();
-        for (String u : canonUrls) {
-            ArticleId id = ArticleId.from(u);
-            if (id != null) out.add(id);
-        }
-        return out;
-    }
-
-    private ParsedArticle parseArticle(Document doc) {
-        String title = firstText(doc, "#title_area", "h2#title_area", "h2.media_end_head_headline");
-        String content = firstText(doc, "#dic_area", "#articleBodyContents");
-        String press = firstAttr(doc, "alt", "a.media_end_head_top_logo img", ".media_end_head_top_logo img");
-
-        LocalDateTime publishedAt = parsePublishedAt(doc);
-        String thumbnailUrl = parseThumbnailUrl(doc);
-
-        return new ParsedArticle(title, press, publishedAt, content, thumbnailUrl);
-    }
-
-    private String parseThumbnailUrl(Document doc) {
-        String og = attr(doc, "meta[property=og:image]", "content");
-        if (og != null && !og.isBlank()) return og.trim();
-
-        String tw = attr(doc, "meta[name=twitter:image]", "content");
-        if (tw != null && !tw.isBlank()) return tw.trim();
-
-        Element ld = doc.selectFirst("script[type=application/ld+json]");
-        if (ld != null) {
-            try {
-                JsonNode root = OM.readTree(ld.data());
-                JsonNode image = root.get("image");
-                if (image != null) {
-                    if (image.isTextual()) return image.asText().trim();
-                    JsonNode url = image.get("url");
-                    if (url != null && url.isTextual()) return url.asText().trim();
-                }
-            } catch (Exception ignore) {}
-        }
-        return null;
-    }
-
-    private LocalDateTime parsePublishedAt(Document doc) {
-        String meta = attr(doc, "meta[property=article:published_time]", "content");
-        LocalDateTime t = parseAny(meta);
-        if (t != null) return t;
-
-        String dataTime = attr(doc, "span.media_end_head_info_datestamp_time", "data-date-time");
-        t = parseAny(dataTime);
-        if (t != null) return t;
-
-        String datetime = attr(doc, "time[datetime]", "datetime");
-        t = parseAny(datetime);
-        if (t != null) return t;
-
-        Element ld = doc.selectFirst("script[type=application/ld+json]");
-        if (ld != null) {
-            try {
-                JsonNode root = OM.readTree(ld.data());
-                JsonNode dp = root.get("datePublished");
-                if (dp != null && !dp.isNull()) {
-                    t = parseAny(dp.asText());
-                    if (t != null) return t;
-                }
-            } catch (Exception ignore) {}
-        }
-
-        return null;
-    }
-
-    private LocalDateTime parseAny(String raw) {
-        if (raw == null || raw.isBlank()) return null;
-
-        try {
-            return OffsetDateTime.parse(raw).atZoneSameInstant(KST).toLocalDateTime();
-        } catch (DateTimeParseException ignore) {}
-
-        try {
-            return OffsetDateTime.parse(raw, OFFSET_NO_COLON).atZoneSameInstant(KST).toLocalDateTime();
-        } catch (DateTimeParseException ignore) {}
-
-        try {
-            return LocalDateTime.parse(raw, SPACE_DATETIME);
-        } catch (DateTimeParseException ignore) {}
-
-        return null;
-    }
-
-    private String firstText(Document doc, String... selectors) {
-        for (String sel : selectors) {
-            Element el = doc.selectFirst(sel);
-            if (el != null) {
-                String t = el.text();
-                if (t != null && !t.isBlank()) return t.trim();
-            }
-        }
-        return null;
-    }
-
-    private String firstAttr(Document doc, String attr, String... selectors) {
-        for (String sel : selectors) {
-            Element el = doc.selectFirst(sel);
-            if (el != null) {
-                String v = el.attr(attr);
-                if (v != null && !v.isBlank()) return v.trim();
-            }
-        }
-        return null;
-    }
-
-    private String attr(Document doc, String css, String attr) {
-        Element el = doc.selectFirst(css);
-        if (el == null) return null;
-        String v = el.attr(attr);
-        return (v == null || v.isBlank()) ? null : v.trim();
-    }
-
-    private void politeSleep() {
-        int min = props.getSleepMinMs();
-        int max = props.getSleepMaxMs();
-        int sleep = min + new Random().nextInt(Math.max(1, max - min + 1));
-        try { Thread.sleep(sleep); }
-        catch (InterruptedException e) { Thread.currentThread().interrupt(); }
-    }
-
-    private static String truncate(String s, int max) {
-        if (s == null) return null;
-        return s.length() <= max ? s : s.substring(0, max) + "...";
-    }
-
-    private static String safe(String s) {
-        return s == null ? "null" : s;
-    }
-
-
     /**
      * 섹션 결과 반환용 (crawlSection() 리턴 타입)
      */
@@ -511,63 +395,4 @@ public class NaverCrawlerService {
             }
         }
     }
-
-    private static class ParsedArticle {
-        final String title;
-        final String press;
-        final LocalDateTime publishedAt;
-        final String content;
-        final String thumbnailUrl;
-
-        ParsedArticle(String title, String press, LocalDateTime publishedAt, String content, String thumbnailUrl) {
-            this.title = title;
-            this.press = press;
-            this.publishedAt = publishedAt;
-            this.content = content;
-            this.thumbnailUrl = thumbnailUrl;
-        }
-    }
-
-    private static class ArticleId {
-        final String oid;
-        final String aid;
-
-        ArticleId(String oid, String aid) {
-            this.oid = oid;
-            this.aid = aid;
-        }
-
-        String canonicalUrl() {
-            return "https://n.news.naver.com/mnews/article/" + oid + "/" + aid;
-        }
-
-        static ArticleId from(String url) {
-            if (url == null) return null;
-
-            Matcher m = ARTICLE_PATH.matcher(url);
-            if (m.find()) return new ArticleId(m.group(1), m.group(2));
-
-            try {
-                URI uri = URI.create(url);
-                String q = uri.getQuery();
-                if (q == null) return null;
-
-                String oid = queryParam(q, "oid");
-                String aid = queryParam(q, "aid");
-                if (oid != null && aid != null) return new ArticleId(oid, aid);
-            } catch (Exception ignore) {}
-
-            return null;
-        }
-
-        private static String queryParam(String query, String key) {
-            for (String part : query.split("&")) {
-                int idx = part.indexOf('=');
-                if (idx <= 0) continue;
-                if (!part.substring(0, idx).equals(key)) continue;
-                return part.substring(idx + 1);
-            }
-            return null;
-        }
-    }
 }
@@ -0,0 +1,85 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.naver.domain.throttle.NaverHostThrottle;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.StreamParser;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+/**
+ * 네이버 페이지 HTTP 조회 (호스트별 throttle + 적응형 rate limit 적용)
+ */
+@Component
+@RequiredArgsConstructor
+public class NaverPageFetcher {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    static final String NEWS_ORIGIN = "https://news.naver.com";
+    static final String ARTICLE_ORIGIN = "https://n.news.naver.com";
+
+    private final NaverCrawlerProperties props;
+    private final NaverHostThrottle hostThrottle;
+
+    String buildListUrl(String baseUrl, int page) {
+        String date = LocalDate.now(KST).format(DateTimeFormatter.BASIC_ISO_DATE); // yyyyMMdd
+        return baseUrl + "?date=" + date + "&page=" + page;
+    }
+
+    Document fetch(String url) throws Exception {
+        String target = resolve(url);
+        return hostThrottle.execute(target, () -> connect(target).get());
+    }
+
+    /**
+     * 응답 본문을 StreamParser로 넘겨 읽으면서 처리 (parserEngine=streaming)
+     * - handler가 일찍 끝나면 나머지 본문은 읽지 않고 연결을 닫음
+     * - 파싱이 응답 수신과 겹치므로 호스트 permit은 handler가 끝날 때까지 유지
+     */
+    <T> T fetchStream(String url, Function<StreamParser, T> handler) throws Exception {
+        String target = resolve(url);
+        return hostThrottle.execute(target, () -> {
+            Connection.Response res = connect(target).execute();
+            try (StreamParser streamer = res.streamParser()) {
+                return handler.apply(streamer);
+            } catch (UncheckedIOException e) {
+                // 본문 수신 중 timeout도 throttle 감속 대상이 되도록 원래 예외로 풀어서 전달
+                throw e.getCause();
+            }
+        });
+    }
+
+    private Connection connect(String target) {
+        return Jsoup.connect(target)
+                .userAgent(props.getUserAgent())
+                .header("Accept-Language", "ko-KR,ko;q=0.9")
+                .timeout(props.getTimeoutMs())
+                .followRedirects(true);
+    }
+
+    /**
+     * 목록 페이지가 비어 있음 → 차단/과부하 신호로 보고 해당 호스트 감속
+     */
+    void reportEmptyList(String listUrl) {
+        hostThrottle.reportSuspicious(resolve(listUrl), "empty_list");
+    }
+
+    /**
+     * 네이버 origin → 설정된 base URL로 치환 (오프라인 replay 스텁 등)
+     * - DB에 저장되는 url / 중복 체크 키는 항상 네이버 원본 URL 기준
+     */
+    String resolve(String url) {
+        if (url.startsWith(NEWS_ORIGIN)) return props.getListBaseUrl() + url.substring(NEWS_ORIGIN.length());
+        if (url.startsWith(ARTICLE_ORIGIN)) return props.getArticleBaseUrl() + url.substring(ARTICLE_ORIGIN.length());
+        return url;
+    }
+}
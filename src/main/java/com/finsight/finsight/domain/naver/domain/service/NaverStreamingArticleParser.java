@@ -0,0 +1,268 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.StreamParser;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+
+/**
+ * 기사 상세 스트리밍 파서 (parserEngine=streaming)
+ *
+ * NaverArticleParser(DOM)와 같은 결과를 내지만
+ * - Jsoup StreamParser로 요소가 닫히는 순서대로 한 번만 훑으며 필요한 값만 기록 (selector 탐색 반복 없음)
+ * - 우선순위가 가장 높은 출처(#dic_area, #title_area, og:image, article:published_time 등)를 모두 찾으면
+ *   나머지 문서(댓글/관련기사/푸터 스크립트)는 파싱하지 않고 중단
+ * - 날짜는 형식을 먼저 판별해서 한 번만 파싱 (예외 기반 재시도 없음)
+ */
+@Component
+class NaverStreamingArticleParser {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    ParsedArticle parse(StreamParser streamer) {
+        Capture c = new Capture();
+
+        Iterator<Element> it = streamer.iterator();
+        while (it.hasNext()) {
+            c.accept(it.next());
+            if (c.complete()) break;
+        }
+        return c.toParsed();
+    }
+
+    /**
+     * 요소별 후보 값 기록 (DOM 파서의 선택자 우선순위를 슬롯으로 유지)
+     */
+    private static final class Capture {
+        // 제목: #title_area > h2.media_end_head_headline
+        String titleById;
+        String titleByClass;
+
+        // 본문: #dic_area > #articleBodyContents
+        String contentDic;
+        String contentLegacy;
+
+        // 언론사 로고 alt
+        String press;
+
+        // 썸네일: og:image > twitter:image > ld+json image
+        String ogImage;
+        String twitterImage;
+
+        // 발행일: meta > span[data-date-time] > time[datetime] > ld+json datePublished
+        String metaPublished;
+        String dataDateTime;
+        String timeDatetime;
+
+        // ld+json 은 필요할 때만 파싱
+        String ldJson;
+
+        void accept(Element el) {
+            String id = el.id();
+            if (!id.isEmpty()) {
+                if (titleById == null && "title_area".equals(id)) titleById = nonBlankText(el);
+                else if (contentDic == null && "dic_area".equals(id)) contentDic = nonBlankText(el);
+                else if (contentLegacy == null && "articleBodyContents".equals(id)) contentLegacy = nonBlankText(el);
+            }
+
+            switch (el.normalName()) {
+                case "meta" -> {
+                    String property = el.attr("property");
+                    if (metaPublished == null && "article:published_time".equals(property)) {
+                        metaPublished = nonBlank(el.attr("content"));
+                    } else if (ogImage == null && "og:image".equals(property)) {
+                        ogImage = nonBlank(el.attr("content"));
+                    } else if (twitterImage == null && "twitter:image".equals(el.attr("name"))) {
+                        twitterImage = nonBlank(el.attr("content"));
+                    }
+                }
+                case "h2" -> {
+                    if (titleByClass == null && el.hasClass("media_end_head_headline")) titleByClass = nonBlankText(el);
+                }
+                case "img" -> {
+                    if (press == null && underLogo(el)) press = nonBlank(el.attr("alt"));
+                }
+                case "span" -> {
+                    if (dataDateTime == null && el.hasClass("media_end_head_info_datestamp_time")) {
+                        dataDateTime = nonBlank(el.attr("data-date-time"));
+                    }
+                }
+                case "time" -> {
+                    if (timeDatetime == null) timeDatetime = nonBlank(el.attr("datetime"));
+                }
+                case "script" -> {
+                    if (ldJson == null && "application/ld+json".equals(el.attr("type"))) ldJson = el.data();
+                }
+                default -> {
+                }
+            }
+        }
+
+        /**
+         * 각 필드의 최우선 출처를 모두 찾았으면 더 읽어도 결과가 바뀌지 않음
+         */
+        boolean complete() {
+            return contentDic != null
+                    && titleById != null
+                    && press != null
+                    && ogImage != null
+                    && metaPublished != null
+                    && parseDate(metaPublished) != null;
+        }
+
+        ParsedArticle toParsed() {
+            String title = titleById != null ? titleById : titleByClass;
+            String content = contentDic != null ? contentDic : contentLegacy;
+
+            JsonNode ld = null;
+            String thumbnail = ogImage != null ? ogImage : twitterImage;
+            if (thumbnail == null) {
+                ld = readLd();
+                thumbnail = ldImage(ld);
+            }
+
+            LocalDateTime publishedAt = parseDate(metaPublished);
+            if (publishedAt == null) publishedAt = parseDate(dataDateTime);
+            if (publishedAt == null) publishedAt = parseDate(timeDatetime);
+            if (publishedAt == null) {
+                if (ld == null) ld = readLd();
+                if (ld != null) {
+                    JsonNode dp = ld.get("datePublished");
+                    if (dp != null && !dp.isNull()) publishedAt = parseDate(dp.asText());
+                }
+            }
+
+            return new ParsedArticle(title, press, publishedAt, content, thumbnail);
+        }
+
+        private JsonNode readLd() {
+            if (ldJson == null) return null;
+            try {
+                return OM.readTree(ldJson);
+            } catch (Exception ignore) {
+                return null;
+            }
+        }
+
+        private static String ldImage(JsonNode root) {
+            if (root == null) return null;
+            JsonNode image = root.get("image");
+            if (image == null) return null;
+            if (image.isTextual()) return image.asText().trim();
+            JsonNode url = image.get("url");
+            if (url != null && url.isTextual()) return url.asText().trim();
+            return null;
+        }
+
+        private static boolean underLogo(Element img) {
+            Element p = img.parent();
+            for (int depth = 0; p != null && depth < 3; depth++, p = p.parent()) {
+                if (p.hasClass("media_end_head_top_logo")) return true;
+            }
+            return false;
+        }
+
+        private static String nonBlankText(Element el) {
+            return nonBlank(el.text());
+        }
+
+        private static String nonBlank(String s) {
+            if (s == null || s.isBlank()) return null;
+            return s.trim();
+        }
+    }
+
+    /**
+     * 네이버에 나오는 세 가지 형식을 모양으로 구분해서 한 번만 파싱
+     * - 2026-01-01T09:00:00+09:00 (ISO offset)
+     * - 2026-01-01T09:00:00+0900  (콜론 없는 offset)
+     * - 2026-01-01 09:00:00       (KST 로컬)
+     */
+    static LocalDateTime parseDate(String raw) {
+        if (raw == null) return null;
+        String s = raw.trim();
+        if (s.length() < 19 || !isDatePrefix(s)) return null;
+
+        try {
+            int year = num(s, 0, 4);
+            int month = num(s, 5, 7);
+            int day = num(s, 8, 10);
+            int hour = num(s, 11, 13);
+            int minute = num(s, 14, 16);
+            int second = num(s, 17, 19);
+            if ((year | month | day | hour | minute | second) < 0) return null;
+
+            char sep = s.charAt(10);
+            if (sep == ' ') {
+                return s.length() == 19 ? LocalDateTime.of(year, month, day, hour, minute, second) : null;
+            }
+            if (sep != 'T') return null;
+
+            // 소수 초 건너뛰기
+            int i = 19;
+            int nanos = 0;
+            if (i < s.length() && s.charAt(i) == '.') {
+                int start = ++i;
+                while (i < s.length() && Character.isDigit(s.charAt(i))) i++;
+                String frac = s.substring(start, Math.min(i, start + 9));
+                if (!frac.isEmpty()) nanos = Integer.parseInt(frac) * POW10[9 - frac.length()];
+            }
+
+            ZoneOffset offset = parseOffset(s, i);
+            if (offset == null) return null;
+
+            return OffsetDateTime.of(year, month, day, hour, minute, second, nanos, offset)
+                    .atZoneSameInstant(KST)
+                    .toLocalDateTime();
+        } catch (RuntimeException e) {
+            // 범위 밖 값(13월 등)은 DOM 파서와 동일하게 null
+            return null;
+        }
+    }
+
+    private static final int[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private static ZoneOffset parseOffset(String s, int i) {
+        int rest = s.length() - i;
+        if (rest == 1 && s.charAt(i) == 'Z') return ZoneOffset.UTC;
+        if (rest != 6 && rest != 5) return null;
+
+        char sign = s.charAt(i);
+        if (sign != '+' && sign != '-') return null;
+
+        int hh = num(s, i + 1, i + 3);
+        int mm;
+        if (rest == 6) {
+            if (s.charAt(i + 3) != ':') return null;
+            mm = num(s, i + 4, i + 6);
+        } else {
+            mm = num(s, i + 3, i + 5);
+        }
+        if (hh < 0 || mm < 0) return null;
+
+        int total = hh * 3600 + mm * 60;
+        return ZoneOffset.ofTotalSeconds(sign == '-' ? -total : total);
+    }
+
+    private static boolean isDatePrefix(String s) {
+        return s.charAt(4) == '-' && s.charAt(7) == '-' && s.charAt(13) == ':' && s.charAt(16) == ':';
+    }
+
+    private static int num(String s, int from, int to) {
+        int v = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+}
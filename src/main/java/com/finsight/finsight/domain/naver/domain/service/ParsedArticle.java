@@ -0,0 +1,26 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 상세 페이지 파싱 결과
+ */
+final class ParsedArticle {
+    final String title;
+    final String press;
+    final LocalDateTime publishedAt;
+    final String content;
+    final String thumbnailUrl;
+
+    ParsedArticle(String title, String press, LocalDateTime publishedAt, String content, String thumbnailUrl) {
+        this.title = title;
+        this.press = press;
+        this.publishedAt = publishedAt;
+        this.content = content;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    boolean hasContent() {
+        return content != null && !content.isBlank();
+    }
+}
@@ -0,0 +1,117 @@
+package com.finsight.finsight.domain.naver.domain.throttle;
+
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 적응형 토큰 버킷 (AIMD)
+ *
+ * - 요청 전 reserve()로 토큰 1개 예약 → 부족하면 대기 시간(ns) 반환
+ * - 빠른 성공(rateFastLatencyMs 이하): rate += rateIncreaseStep (additive increase)
+ * - timeout / 429 / 5xx / 빈 목록 페이지: rate *= rateDecreaseFactor (multiplicative decrease)
+ * - rate는 [rateMinPerSec, rateMaxPerSec] 범위, 현재 값은 crawler_rate_limit_rps{host} 게이지로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverAdaptiveRateLimiter {
+
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 1개 예약
+     * @return 요청 전에 기다려야 하는 시간 (ns)
+     */
+    public long reserve(String host) {
+        return bucket(host).reserve(System.nanoTime());
+    }
+
+    public void onSuccess(String host, long latencyNanos) {
+        if (TimeUnit.NANOSECONDS.toMillis(latencyNanos) > props.getRateFastLatencyMs()) {
+            return; // 느린 성공은 유지 (증가도 감소도 하지 않음)
+        }
+        bucket(host).increase(props.getRateIncreaseStep(), props.getRateMaxPerSec());
+    }
+
+    /**
+     * 차단/과부하 신호 → 감속
+     * @param reason timeout | http_429 | http_5xx | empty_list
+     */
+    public void onBackoff(String host, String reason) {
+        Bucket b = bucket(host);
+        double before = b.rate();
+        double after = b.decrease(props.getRateDecreaseFactor(), props.getRateMinPerSec());
+
+        Counter.builder("crawler_rate_limit_backoff_total")
+                .tag("host", host)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+
+        log.info("[NAVER-CRAWL] rate backoff host={} reason={} rps={} -> {}",
+                host, reason, String.format("%.2f", before), String.format("%.2f", after));
+    }
+
+    private Bucket bucket(String host) {
+        return buckets.computeIfAbsent(host, h -> {
+            Bucket b = new Bucket(props.getRateInitialPerSec(), Math.max(1, props.getRateBurst()), System.nanoTime());
+            Gauge.builder("crawler_rate_limit_rps", b, Bucket::rate)
+                    .tag("host", h)
+                    .register(meterRegistry);
+            return b;
+        });
+    }
+
+    private static class Bucket {
+        private final int capacity;
+        private double ratePerSec;
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(double ratePerSec, int capacity, long now) {
+            this.ratePerSec = ratePerSec;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        synchronized long reserve(long now) {
+            refill(now);
+            tokens -= 1; // 음수면 미래 토큰을 예약한 상태 (대기 필요)
+            if (tokens >= 0) return 0;
+            return (long) (-tokens / ratePerSec * 1_000_000_000L);
+        }
+
+        synchronized void increase(double step, double max) {
+            ratePerSec = Math.min(max, ratePerSec + step);
+        }
+
+        synchronized double decrease(double factor, double min) {
+            ratePerSec = Math.max(min, ratePerSec * factor);
+            return ratePerSec;
+        }
+
+        synchronized double rate() {
+            return ratePerSec;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed <= 0) return;
+            tokens = Math.min(capacity, tokens + elapsed / 1_000_000_000.0 * ratePerSec);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.finsight.finsight.domain.naver.domain.throttle;
+
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 네이버 호스트별 요청 제어
+ *
+ * - 섹션 병렬 크롤링 시에도 호스트(news.naver.com, n.news.naver.com)별 동시 요청 수를 제한
+ * - 요청 속도는 NaverAdaptiveRateLimiter(토큰 버킷 + AIMD)가 결정
+ *   → 응답 결과(성공 지연 / timeout / 429 / 5xx)를 limiter에 되먹임
+ * - 호스트별 in-flight 요청 수는 crawler_host_inflight 게이지로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverHostThrottle {
+
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+    private final NaverAdaptiveRateLimiter rateLimiter;
+
+    private final Map<String, HostSlot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 호스트 permit 획득 → 토큰 대기 → 호출 → 결과 되먹임 → permit 반환
+     */
+    public <T> T execute(String url, Callable<T> call) throws Exception {
+        String host = hostOf(url);
+        HostSlot slot = slots.computeIfAbsent(host, this::newSlot);
+
+        slot.permits.acquire();
+        slot.inFlight.incrementAndGet();
+        try {
+            long waitNanos = rateLimiter.reserve(host);
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+
+            long startNs = System.nanoTime();
+            try {
+                T result = call.call();
+                rateLimiter.onSuccess(host, System.nanoTime() - startNs);
+                return result;
+            } catch (SocketTimeoutException e) {
+                rateLimiter.onBackoff(host, "timeout");
+                throw e;
+            } catch (HttpStatusException e) {
+                int status = e.getStatusCode();
+                if (status == 429) {
+                    rateLimiter.onBackoff(host, "http_429");
+                } else if (status >= 500) {
+                    rateLimiter.onBackoff(host, "http_5xx");
+                }
+                throw e;
+            }
+        } finally {
+            slot.inFlight.decrementAndGet();
+            slot.permits.release();
+        }
+    }
+
+    /**
+     * 빈 목록 페이지 등 응답은 성공했지만 차단이 의심되는 경우
+     */
+    public void reportSuspicious(String url, String reason) {
+        rateLimiter.onBackoff(hostOf(url), reason);
+    }
+
+    private HostSlot newSlot(String host) {
+        HostSlot slot = new HostSlot(Math.max(1, props.getMaxConcurrentPerHost()));
+        Gauge.builder("crawler_host_inflight", slot.inFlight, AtomicInteger::get)
+                .tag("host", host)
+                .register(meterRegistry);
+        log.debug("[NAVER-CRAWL] host slot created host={} maxConcurrent={}", host, props.getMaxConcurrentPerHost());
+        return slot;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "unknown" : host;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private static class HostSlot {
+        final Semaphore permits;
+        final AtomicInteger inFlight = new AtomicInteger();
+
+        HostSlot(int maxConcurrent) {
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+    }
+}
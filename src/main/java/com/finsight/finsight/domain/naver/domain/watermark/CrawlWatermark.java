@@ -0,0 +1,26 @@
+package com.finsight.finsight.domain.naver.domain.watermark;
+
+import com.finsight.finsight.domain.naver.domain.dedup.ArticleKey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 섹션별 크롤링 워터마크 (직전 크롤링에서 본 가장 최신 기사)
+ *
+ * @param key         목록 1페이지 최상단 기사 (oid, aid)
+ * @param publishedAt 해당 기사 발행 시각 (모르면 null)
+ * @param listDate    워터마크를 잡은 목록 날짜 (목록 URL의 date 파라미터 기준)
+ * @param updatedAt   워터마크 갱신 시각 (KST)
+ */
+public record CrawlWatermark(
+        ArticleKey key,
+        LocalDateTime publishedAt,
+        LocalDate listDate,
+        LocalDateTime updatedAt
+) {
+
+    public boolean matches(ArticleKey other) {
+        return key.equals(other);
+    }
+}
@@ -0,0 +1,129 @@
+package com.finsight.finsight.domain.naver.domain.watermark;
+
+import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.finsight.finsight.domain.naver.domain.dedup.ArticleKey;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 섹션별 증분 크롤링 워터마크 (Redis Hash)
+ *
+ * - key: naver:crawl:watermark:{SECTION}, field: oid / aid / publishedAt / listDate / updatedAt
+ * - 크롤러는 목록을 위에서부터 훑다가 워터마크 기사를 만나면 정확히 그 지점에서 멈춤
+ * - 아래 경우는 워터마크를 쓰지 않음 (→ 기존 stopAfterSeenStreak 휴리스틱으로 fallback)
+ *   - 키 없음 (최초 실행, Redis 초기화)
+ *   - listDate가 오늘(KST)이 아님: 목록 URL이 날짜 단위라 어제 워터마크는 오늘 목록에 나오지 않음
+ *   - updatedAt이 watermarkMaxAgeMinutes 보다 오래됨: 크롤러가 오래 멈춰 있었다면 워터마크가 maxPages 밖으로 밀렸을 수 있음
+ *   - Redis 장애
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverCrawlWatermarkService {
+
+    private static final String WATERMARK_KEY_PREFIX = "naver:crawl:watermark:";
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final String F_OID = "oid";
+    private static final String F_AID = "aid";
+    private static final String F_PUBLISHED_AT = "publishedAt";
+    private static final String F_LIST_DATE = "listDate";
+    private static final String F_UPDATED_AT = "updatedAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final NaverCrawlerProperties props;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 사용 가능한 워터마크 조회
+     * @return 없거나 오래됐거나 Redis 장애면 empty
+     */
+    public Optional<CrawlWatermark> load(NaverEconomySection section) {
+        if (!props.isWatermarkEnabled()) return Optional.empty();
+
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(section));
+            if (hash.isEmpty() || hash.get(F_OID) == null || hash.get(F_AID) == null) {
+                inc(section, "missing");
+                return Optional.empty();
+            }
+
+            CrawlWatermark wm = new CrawlWatermark(
+                    new ArticleKey((String) hash.get(F_OID), (String) hash.get(F_AID)),
+                    parseDateTime(hash.get(F_PUBLISHED_AT)),
+                    hash.get(F_LIST_DATE) == null ? null : LocalDate.parse((String) hash.get(F_LIST_DATE)),
+                    parseDateTime(hash.get(F_UPDATED_AT))
+            );
+
+            LocalDateTime now = LocalDateTime.now(KST);
+            boolean otherDay = wm.listDate() == null || !wm.listDate().equals(now.toLocalDate());
+            boolean tooOld = wm.updatedAt() == null
+                    || wm.updatedAt().isBefore(now.minusMinutes(props.getWatermarkMaxAgeMinutes()));
+            if (otherDay || tooOld) {
+                inc(section, "stale");
+                log.debug("[NAVER-CRAWL] watermark stale section={} listDate={} updatedAt={}",
+                        section.getDisplayName(), wm.listDate(), wm.updatedAt());
+                return Optional.empty();
+            }
+
+            inc(section, "hit");
+            return Optional.of(wm);
+        } catch (Exception e) {
+            inc(section, "error");
+            log.warn("[NAVER-CRAWL] watermark load fail section={} err={}", section.getDisplayName(), e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 워터마크 갱신 (섹션 크롤링이 실패 없이 끝났을 때만 호출)
+     */
+    public void advance(NaverEconomySection section, ArticleKey newest, LocalDateTime publishedAt) {
+        if (!props.isWatermarkEnabled() || newest == null) return;
+
+        LocalDateTime now = LocalDateTime.now(KST);
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(F_OID, newest.oid());
+        hash.put(F_AID, newest.aid());
+        hash.put(F_PUBLISHED_AT, publishedAt == null ? "" : publishedAt.toString());
+        hash.put(F_LIST_DATE, now.toLocalDate().toString());
+        hash.put(F_UPDATED_AT, now.toString());
+
+        try {
+            redisTemplate.opsForHash().putAll(key(section), hash);
+            inc(section, "advanced");
+        } catch (Exception e) {
+            inc(section, "error");
+            log.warn("[NAVER-CRAWL] watermark save fail section={} err={}", section.getDisplayName(), e.toString());
+        }
+    }
+
+    private static String key(NaverEconomySection section) {
+        return WATERMARK_KEY_PREFIX + section.name();
+    }
+
+    private static LocalDateTime parseDateTime(Object raw) {
+        if (raw == null || ((String) raw).isBlank()) return null;
+        return LocalDateTime.parse((String) raw);
+    }
+
+    private void inc(NaverEconomySection section, String result) {
+        Counter.builder("crawler_watermark_total")
+                .tag("section", section.getDisplayName())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
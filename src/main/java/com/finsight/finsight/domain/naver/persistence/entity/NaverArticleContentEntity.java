@@ -0,0 +1,39 @@
+package com.finsight.finsight.domain.naver.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 네이버 기사 본문 (naver_article 과 1:1, PK 공유)
+ * - 기사 상세 / AI 처리 경로에서만 조회
+ */
+@Entity
+@Getter
+@Table(name = "naver_article_content")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NaverArticleContentEntity {
+
+    @Id
+    @Column(name = "naver_article_id")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "naver_article_id")
+    private NaverArticleEntity article;
+
+    @Lob
+    @Column(name = "content")
+    private String content;
+
+    private NaverArticleContentEntity(NaverArticleEntity article, String content) {
+        this.article = article;
+        this.content = content;
+    }
+
+    public static NaverArticleContentEntity of(NaverArticleEntity article, String content) {
+        return new NaverArticleContentEntity(article, content);
+    }
+}
@@ -6,18 +6,31 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
+/**
+ * 네이버 기사 메타데이터
+ * - 본문(CLOB)은 NaverArticleContentEntity(naver_article_content)로 분리 → 목록/피드 조회 시 로딩되지 않음
+ */
 @Entity
 @Getter
 @Table(name = "naver_article", uniqueConstraints = @UniqueConstraint(name = "uk_naver_oid_aid", columnNames = { "oid",
-        "aid" }))
+        "aid" }), indexes = {
+                // 피드(AI 완료 기사만): 정렬 순서대로 인덱스를 읽다가 페이지가 차면 멈춤, 섹션은 인덱스 안에서 필터
+                @Index(name = "idx_naver_article_ai_latest",
+                        columnList = "ai_ready, published_at, naver_article_id, section"),
+                @Index(name = "idx_naver_article_ai_popular",
+                        columnList = "ai_ready, view_count, naver_article_id, section")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NaverArticleEntity {
 
+    // IDENTITY는 JDBC batch insert 불가 → pooled sequence (allocationSize 만큼 메모리에서 ID 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "naver_article_seq_gen")
+    @SequenceGenerator(name = "naver_article_seq_gen", sequenceName = "naver_article_seq", allocationSize = 50)
     @Column(name = "naver_article_id")
     private Long id;
 
@@ -43,10 +56,6 @@ public class NaverArticleEntity {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
-    @Lob
-    @Column(name = "content")
-    private String content;
-
     @Column(name = "collected_at", nullable = false)
     private LocalDateTime collectedAt;
 
@@ -56,14 +65,35 @@ public class NaverArticleEntity {
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
 
+    // 유사 중복(재배포) 기사면 AI 결과를 공유할 원본 기사 ID, 원본이면 null
+    @Column(name = "canonical_article_id")
+    private Long canonicalArticleId;
+
+    // AI 결과 준비 여부 (용어 카드 3개 + 내용/용어 퀴즈) → 피드 조회 조건
+    // - AiJobService 가 벌크 UPDATE 로만 켬 (updatable = false: 조회수 동기화 등 엔티티 flush 가 덮어쓰지 않도록)
+    @ColumnDefault("0")
+    @Column(name = "ai_ready", nullable = false, updatable = false)
+    private boolean aiReady;
+
     public void increaseViewCount(long count) {
         this.viewCount += count;
     }
 
+    public void linkToCanonical(Long canonicalArticleId) {
+        this.canonicalArticleId = canonicalArticleId;
+    }
+
+    /**
+     * AI 결과(요약/용어/인사이트/퀴즈)를 조회할 기사 ID
+     */
+    public Long resolveAiArticleId() {
+        return canonicalArticleId != null ? canonicalArticleId : id;
+    }
+
     @Builder
     public NaverArticleEntity(NaverEconomySection section, String oid, String aid, String url,
             String title, String press, LocalDateTime publishedAt,
-            String content, LocalDateTime collectedAt, String thumbnailUrl) {
+            LocalDateTime collectedAt, String thumbnailUrl) {
         this.section = section;
         this.oid = oid;
         this.aid = aid;
@@ -71,7 +101,6 @@ public class NaverArticleEntity {
         this.title = title;
         this.press = press;
         this.publishedAt = publishedAt;
-        this.content = content;
         this.collectedAt = collectedAt;
         this.thumbnailUrl = thumbnailUrl;
         this.viewCount = 0L;
@@ -0,0 +1,23 @@
+package com.finsight.finsight.domain.naver.persistence.repository;
+
+import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleContentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NaverArticleContentRepository extends JpaRepository<NaverArticleContentEntity, Long> {
+
+    @Query("select c.content from NaverArticleContentEntity c where c.id = :articleId")
+    Optional<String> findContentByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 유사 중복 인덱스 워밍용: 최근 수집된 원본 기사 (id, content, collectedAt)
+     */
+    @Query("select a.id, c.content, a.collectedAt from NaverArticleContentEntity c join c.article a " +
+            "where a.collectedAt >= :since and a.canonicalArticleId is null order by a.collectedAt asc")
+    List<Object[]> findCanonicalIdContentCollectedSince(@Param("since") LocalDateTime since);
+}
@@ -3,7 +3,44 @@ package com.finsight.finsight.domain.naver.persistence.repository;
 import com.finsight.finsight.domain.naver.domain.service.ArticleQueryDsl;
 import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface NaverArticleRepository extends JpaRepository<NaverArticleEntity, Long>, ArticleQueryDsl {
     boolean existsByOidAndAid(String oid, String aid);
+
+    /**
+     * 목록 페이지 단위 중복 체크용 (oid, aid) 일괄 조회
+     * - oid IN × aid IN 조합이라 요청 키의 상위 집합이 반환될 수 있음 → 호출 측에서 정확히 필터링
+     */
+    @Query("select a.oid, a.aid from NaverArticleEntity a where a.oid in :oids and a.aid in :aids")
+    List<Object[]> findOidAidIn(@Param("oids") Collection<String> oids,
+                                @Param("aids") Collection<String> aids);
+
+    /**
+     * 중복 체크 필터 워밍용: 최근 수집된 기사 키
+     */
+    @Query("select a.oid, a.aid from NaverArticleEntity a where a.collectedAt >= :since")
+    List<Object[]> findOidAidCollectedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * AI 결과 조회용 기사 ID (유사 중복 기사면 원본 기사 ID)
+     */
+    @Query("select coalesce(a.canonicalArticleId, a.id) from NaverArticleEntity a where a.id = :id")
+    Optional<Long> findAiArticleId(@Param("id") Long id);
+
+    /**
+     * AI 결과 준비 완료 표시 (이미 켜져 있으면 0행)
+     */
+    @Transactional
+    @Modifying
+    @Query("update NaverArticleEntity a set a.aiReady = true where a.id = :id and a.aiReady = false")
+    int markAiReady(@Param("id") Long id);
 }
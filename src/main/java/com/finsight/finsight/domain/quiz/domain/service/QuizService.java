@@ -4,9 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.domain.ai.domain.service.AiJobService;
 import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
 import com.finsight.finsight.domain.ai.persistence.entity.AiQuizSetEntity;
 import com.finsight.finsight.domain.ai.persistence.repository.AiQuizSetRepository;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
 import com.finsight.finsight.domain.quiz.application.dto.request.QuizSubmitRequest;
 import com.finsight.finsight.domain.quiz.application.dto.response.QuizResponse;
 import com.finsight.finsight.domain.quiz.application.dto.response.QuizSubmitResponse;
@@ -28,6 +30,8 @@ import java.util.*;
 public class QuizService {
 
     private final AiQuizSetRepository aiQuizSetRepository;
+    private final AiJobService aiJobService;
+    private final NaverArticleRepository naverArticleRepository;
     private final QuizAttemptRepository quizAttemptRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
@@ -41,10 +45,15 @@ public class QuizService {
     public QuizResponse getQuiz(Long userId, Long naverArticleId, String quizType) {
         AiJobType jobType = parseQuizType(quizType);
 
-        // 퀴즈 세트 조회
+        // 퀴즈 세트 조회 (유사 중복 기사면 원본 기사의 퀴즈)
+        Long aiArticleId = resolveAiArticleId(naverArticleId);
         AiQuizSetEntity quizSet = aiQuizSetRepository
-                .findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(naverArticleId, jobType)
-                .orElseThrow(() -> new QuizException(QuizErrorCode.QUIZ_NOT_FOUND));
+                .findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(aiArticleId, jobType)
+                .orElseThrow(() -> {
+                    // 아직 생성 전이면 이 기사의 AI Job 을 backlog 앞으로
+                    aiJobService.boostArticle(aiArticleId, "quiz");
+                    return new QuizException(QuizErrorCode.QUIZ_NOT_FOUND);
+                });
 
         List<JsonNode> questions = parseQuizJson(quizSet.getQuizJson());
 
@@ -84,9 +93,9 @@ public class QuizService {
     public QuizSubmitResponse submitQuiz(Long userId, QuizSubmitRequest request) {
         AiJobType jobType = parseQuizType(request.quizType());
 
-        // 퀴즈 세트 조회
+        // 퀴즈 세트 조회 (유사 중복 기사면 원본 기사의 퀴즈)
         AiQuizSetEntity quizSet = aiQuizSetRepository
-                .findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(request.naverArticleId(), jobType)
+                .findTopByArticleIdAndQuizKindOrderByCreatedAtDesc(resolveAiArticleId(request.naverArticleId()), jobType)
                 .orElseThrow(() -> new QuizException(QuizErrorCode.QUIZ_NOT_FOUND));
 
         // 사용자 조회
@@ -172,6 +181,11 @@ public class QuizService {
         );
     }
 
+    /** 퀴즈를 조회할 기사 ID (유사 중복 기사면 원본 기사 ID) */
+    private Long resolveAiArticleId(Long naverArticleId) {
+        return naverArticleRepository.findAiArticleId(naverArticleId).orElse(naverArticleId);
+    }
+
     /** quizType 문자열을 AiJobType으로 변환 */
     private AiJobType parseQuizType(String quizType) {
         return switch (quizType.toUpperCase()) {
@@ -0,0 +1,29 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.bundle")
+public class AiArticleBundleProperties {
+    private boolean enabled = true;
+
+    /**
+     * Redis 보관 시간 (지나면 DB 행에서 다시 올림)
+     */
+    private long redisTtlHours = 24;
+
+    /**
+     * 로컬 LRU 항목 수 상한
+     */
+    private int localMaxEntries = 5000;
+
+    /**
+     * 로컬 항목 유효 시간 (evict 신호 유실 대비)
+     */
+    private long localTtlSeconds = 600;
+}
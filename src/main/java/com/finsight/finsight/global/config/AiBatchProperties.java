@@ -0,0 +1,69 @@
+package com.finsight.finsight.global.config;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.batch")
+public class AiBatchProperties {
+
+    // NOT IN / IN 에 빈 목록을 넘기지 않기 위한 값 (실제 prompt_version 과 겹치지 않음)
+    private static final List<String> NONE = List.of("-");
+
+    /**
+     * OpenAI Batch API 실행 모드 (AiBatchExecutor)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 배치로만 처리할 prompt_version (재생성/backfill 용 버전). 활성화 시 일반 워커는 가져가지 않음
+     */
+    private List<String> promptVersions = new ArrayList<>();
+
+    /**
+     * 타입별 PENDING 이 이보다 많으면 일반 버전도 오래된 것부터 배치로 가져감 (0 = 끔)
+     */
+    private int backlogThreshold = 0;
+
+    private List<AiJobType> jobTypes = new ArrayList<>(List.of(AiJobType.values()));
+    private int maxRequestsPerBatch = 500;
+
+    /**
+     * 배치 Job 리스 (폴링마다 연장, 폴링이 끊기면 Sweeper가 회수)
+     */
+    private int leaseMinutes = 60;
+
+    /**
+     * 한 인스턴스가 폴링/결과 반영을 잡고 있는 시간 (다른 인스턴스 중복 폴링 방지)
+     */
+    private int pollLeaseSeconds = 600;
+
+    /**
+     * 결과 파일 다운로드 최대 크기
+     */
+    private int maxFileBytes = 64 * 1024 * 1024;
+
+    /**
+     * Batch API 응답 대기 (결과 파일 다운로드 포함, ms) - 일반 호출의 openai.timeout-ms 와 별도
+     */
+    private int fileTimeoutMs = 300000;
+
+    /**
+     * 일반 워커 claim 에서 뺄 버전 (배치 모드가 꺼져 있으면 없음)
+     */
+    public List<String> excludedFromInteractive() {
+        return enabled && !promptVersions.isEmpty() ? promptVersions : NONE;
+    }
+
+    public List<String> batchVersions() {
+        return promptVersions.isEmpty() ? NONE : promptVersions;
+    }
+}
@@ -0,0 +1,38 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.pipeline")
+public class AiPipelineProperties {
+
+    /**
+     * 새로 저장되는 기사의 SUMMARY Job 에 붙일 prompt_version
+     */
+    private String promptVersion = "v1";
+
+    /**
+     * 통합(fused) 생성 모드로 처리할 prompt_version 목록.
+     * 여기 있는 버전의 SUMMARY Job 은 요약 + 용어 카드 + 인사이트 + 내용 퀴즈를 호출 1번으로 만들고,
+     * TERM_CARDS / INSIGHT / QUIZ_CONTENT Job 은 같은 트랜잭션에서 SUCCESS 로 생성합니다.
+     * (QUIZ_TERM 은 전역 용어 정의가 필요해서 별도 호출 1번 유지 → 기사당 2번)
+     */
+    private List<String> fusedPromptVersions = new ArrayList<>();
+
+    /**
+     * 통합 호출의 max_output_tokens (단독 호출 4개 분량의 출력)
+     */
+    private int fusedMaxOutputTokens = 8000;
+
+    public boolean isFused(String promptVersion) {
+        return promptVersion != null && fusedPromptVersions.contains(promptVersion);
+    }
+}
@@ -0,0 +1,30 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.priority")
+public class AiPriorityProperties {
+
+    /**
+     * AI 결과/퀴즈가 아직 없을 때 그 기사의 미완료 Job 을 부스트할지
+     */
+    private boolean boostEnabled = true;
+
+    /**
+     * 부스트 우선순위 (claim 은 priority DESC, requested_at ASC).
+     * 이 값 이상인 Job 은 backlog 배치로 보내지 않음 (사용자가 기다리는 중)
+     */
+    private int boostPriority = 10;
+
+    /**
+     * PENDING 이 이 시간만큼 기다릴 때마다 우선순위 +1 (boostPriority 까지, 0 이면 에이징 안 함).
+     * 부스트가 계속 들어와도 오래된 Job 이 밀리지 않도록
+     */
+    private int agingMinutes = 15;
+}
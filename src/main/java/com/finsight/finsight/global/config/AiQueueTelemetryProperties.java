@@ -0,0 +1,19 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.telemetry")
+public class AiQueueTelemetryProperties {
+    private boolean enabled = true;
+
+    /**
+     * 처리율 계산 윈도우 (이 시간 안에 끝난 Job 수 기준)
+     */
+    private int rateWindowMinutes = 5;
+}
@@ -0,0 +1,24 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.cache")
+public class AiResultCacheProperties {
+    private boolean enabled = true;
+
+    /**
+     * Redis 보관 시간
+     */
+    private long ttlHours = 168;
+
+    /**
+     * 로컬 LRU 최대 크기 (바이트 근사)
+     */
+    private long localMaxBytes = 32L * 1024 * 1024;
+}
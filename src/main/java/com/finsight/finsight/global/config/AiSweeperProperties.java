@@ -0,0 +1,25 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.sweeper")
+public class AiSweeperProperties {
+    private boolean enabled = true;
+    private int stuckThresholdMinutes = 10;
+
+    /**
+     * 전환 UPDATE 한 번(트랜잭션 하나)에 바꾸는 최대 행 수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 전환 종류별로 한 번 실행에 돌리는 최대 청크 수
+     */
+    private int maxChunksPerRun = 40;
+}
@@ -0,0 +1,60 @@
+package com.finsight.finsight.global.config;
+
+import com.finsight.finsight.domain.ai.domain.dag.AiJobDag;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.worker")
+public class AiWorkerProperties {
+    private boolean enabled = true;
+    private int batchSize = 5;
+
+    /**
+     * enqueue 깨우기 신호(Redis pub/sub)로 즉시 배정 (false면 cron 폴링만)
+     */
+    private boolean wakeupEnabled = true;
+
+    /**
+     * 전체 동시 실행 Job 수 (워커 풀 크기)
+     */
+    private int maxInFlight = 8;
+
+    /**
+     * OpenAI 응답을 논블로킹으로 대기 (풀 스레드 점유 없이 maxInFlight 까지 동시 요청)
+     * - 켜면 maxInFlight/typeConcurrency 를 OpenAI rate limit 에 맞춰 크게 (openai.max-connections 이하)
+     */
+    private boolean asyncEnabled = false;
+
+    /**
+     * claim 리스 길이 (초). 연장 주기(lease-renew-interval-ms)보다 충분히 길게
+     */
+    private long leaseSeconds = 120;
+
+    /**
+     * 리스 연장 주기 (워커 전용 스레드, 스케줄러 공용 스레드와 무관)
+     */
+    private long leaseRenewIntervalMs = 30000;
+
+    /**
+     * 타입별 동시 실행 상한 (없으면 defaultTypeConcurrency)
+     */
+    private int defaultTypeConcurrency = 2;
+    private Map<AiJobType, Integer> typeConcurrency = new EnumMap<>(Map.of(AiJobType.SUMMARY, 4));
+
+    public int concurrencyOf(AiJobType type) {
+        return Math.max(1, typeConcurrency.getOrDefault(type, defaultTypeConcurrency));
+    }
+    /**
+     * 배정 순서 (기본: DAG 위상 정렬, 남은 임계 경로가 긴 타입 먼저)
+     */
+    private AiJobType[] processOrder = AiJobDag.topologicalOrder().toArray(new AiJobType[0]);
+}
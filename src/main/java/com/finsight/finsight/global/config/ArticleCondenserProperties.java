@@ -0,0 +1,24 @@
+package com.finsight.finsight.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.condenser")
+public class ArticleCondenserProperties {
+    private boolean enabled = true;
+
+    /**
+     * SUMMARY 입력 본문 토큰 예산 (추정치 기준)
+     */
+    private int maxInputTokens = 2500;
+
+    /**
+     * 이보다 짧은 조각은 문장으로 보지 않음 (캡션/잔여 기호)
+     */
+    private int minSentenceChars = 8;
+}
@@ -14,10 +14,112 @@ public class NaverCrawlerProperties {
     private int maxPages = 2;
     private int stopAfterSeenStreak = 8;
     private int timeoutMs = 8000;
-    private int sleepMinMs = 250;
-    private int sleepMaxMs = 700;
     private String userAgent = "Mozilla/5.0";
 
+    /**
+     * 목록(news.naver.com) / 기사(n.news.naver.com) 요청 base URL.
+     * 오프라인 replay 스텁으로 돌릴 때만 바꿉니다 (저장되는 기사 URL은 항상 네이버 원본).
+     */
+    private String listBaseUrl = "https://news.naver.com";
+    private String articleBaseUrl = "https://n.news.naver.com";
+
+    /**
+     * 섹션 병렬 크롤링 사용 여부.
+     * false면 기존처럼 섹션을 하나씩 순차 실행합니다.
+     */
+    private boolean parallelEnabled = false;
+
+    /**
+     * 동시에 크롤링할 섹션 수 (섹션 실행 스레드 풀 크기).
+     */
+    private int sectionParallelism = 4;
+
+    /**
+     * 호스트별 동시 요청 상한 (섹션 병렬 실행 시에도 전체 합산 기준).
+     */
+    private int maxConcurrentPerHost = 2;
+
+    /**
+     * 호스트별 적응형 rate limit (토큰 버킷 + AIMD, 단위: 요청/초).
+     * 빠른 성공이면 rateIncreaseStep 만큼 증가, timeout/429/5xx/빈 목록이면 rateDecreaseFactor 배로 감소.
+     */
+    private double rateInitialPerSec = 3.0;
+    private double rateMinPerSec = 0.5;
+    private double rateMaxPerSec = 10.0;
+    private double rateIncreaseStep = 0.2;
+    private double rateDecreaseFactor = 0.5;
+
+    /**
+     * 이 지연(ms) 이하로 끝난 성공 응답만 속도 증가에 반영.
+     */
+    private int rateFastLatencyMs = 1500;
+
+    /**
+     * 토큰 버킷 용량 (한 번에 몰아서 나갈 수 있는 최대 요청 수).
+     */
+    private int rateBurst = 2;
+
+    /**
+     * 단계별 파이프라인(list → article fetch → parse → persist) 사용 여부.
+     * true면 parallelEnabled 보다 우선합니다.
+     */
+    private boolean pipelineEnabled = false;
+
+    /**
+     * 파이프라인 단계 사이 큐 용량 (가득 차면 앞 단계가 대기 → backpressure).
+     */
+    private int pipelineQueueCapacity = 64;
+
+    /**
+     * 기사 상세 조회 / 파싱 단계 워커 수.
+     */
+    private int pipelineFetchWorkers = 4;
+    private int pipelineParseWorkers = 2;
+
+    /**
+     * persist 단계에서 한 트랜잭션으로 묶을 최대 기사 수.
+     */
+    private int persistBatchSize = 20;
+
+    /**
+     * 기사 상세 파싱 엔진.
+     * dom: 전체 DOM을 만든 뒤 selector로 추출 (기본값)
+     * streaming: 응답을 읽으면서 필요한 요소만 기록하고, 본문/메타를 모두 찾으면 나머지는 읽지 않음
+     */
+    private String parserEngine = "dom";
+
+    public boolean isStreamingParser() {
+        return "streaming".equalsIgnoreCase(parserEngine);
+    }
+
+    /**
+     * 중복 체크 Bloom filter 용량 (예상 키 수) / 목표 false positive 비율.
+     */
+    private long dedupFilterCapacity = 200_000;
+    private double dedupFilterFpp = 0.01;
+
+    /**
+     * 기동 시 필터 워밍에 사용할 최근 수집 기간 (일).
+     */
+    private int dedupWarmupDays = 7;
+    private String dedupRewarmCron = "0 30 4 * * *";
+
+    /**
+     * 섹션별 워터마크(직전 크롤링의 최신 기사)에서 정확히 멈추는 증분 크롤링 사용 여부.
+     * 워터마크가 없거나 watermarkMaxAgeMinutes 보다 오래되면 stopAfterSeenStreak로 fallback.
+     */
+    private boolean watermarkEnabled = true;
+    private int watermarkMaxAgeMinutes = 180;
+
+    /**
+     * 유사 중복 기사 탐지 (본문 SimHash, 해밍 거리 nearDupMaxDistance 이하 → 원본 기사 AI 결과 공유).
+     * nearDupMaxDistance 는 최대 3까지 지원 (LSH band 4개).
+     */
+    private boolean nearDupEnabled = true;
+    private int nearDupMaxDistance = 3;
+    private int nearDupWindowHours = 48;
+    private int nearDupIndexCapacity = 20_000;
+
     /**
      * AI 작업을 수행할 최소 본문 길이 (문자 수).
      * 이 길이 미만의 본문은 AI 요약/인사이트/퀴즈 생성을 건너뜁니다.
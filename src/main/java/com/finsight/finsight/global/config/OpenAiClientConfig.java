@@ -9,7 +9,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -19,7 +21,12 @@ public class OpenAiClientConfig {
 
     @Bean
     public WebClient openAiWebClient(OpenAiProperties props) {
-        HttpClient httpClient = HttpClient.create()
+        // 비동기 처리 시 응답 대기 중인 요청마다 커넥션 1개 (기본 풀은 너무 작음)
+        ConnectionProvider provider = ConnectionProvider.builder("openai")
+                .maxConnections(props.getMaxConnections())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.getTimeoutMs())
                 .doOnConnected(conn ->
                         conn.addHandlerLast(new ReadTimeoutHandler(props.getTimeoutMs(), TimeUnit.MILLISECONDS)));
@@ -31,4 +38,29 @@ public class OpenAiClientConfig {
                 .clientConnector(new org.springframework.http.client.reactive.ReactorClientHttpConnector(httpClient))
                 .build();
     }
+
+    /**
+     * Batch API (/files, /batches) 전용
+     * - 결과 파일(최대 ai.batch.max-file-bytes)을 받는 동안 openAiWebClient 의 응답 timeout 에 끊기지 않도록 별도 timeout/풀
+     */
+    @Bean
+    public WebClient openAiBatchWebClient(OpenAiProperties props, AiBatchProperties batchProps) {
+        ConnectionProvider provider = ConnectionProvider.builder("openai-batch")
+                .maxConnections(2)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, props.getTimeoutMs())
+                .responseTimeout(Duration.ofMillis(batchProps.getFileTimeoutMs()))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(batchProps.getFileTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+                .baseUrl(props.getBaseUrl())
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + props.getApiKey())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(batchProps.getMaxFileBytes()))
+                .clientConnector(new org.springframework.http.client.reactive.ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
@@ -13,4 +13,33 @@ public class OpenAiProperties {
     private int timeoutMs = 20000;
     private int maxOutputTokens = 3000;
     private double temperature = 0.2;
+
+    /**
+     * OpenAI 커넥션 풀 크기 (비동기 처리 시 동시 요청 수 상한)
+     */
+    private int maxConnections = 100;
+
+    /**
+     * 동시 요청 적응형 제한 (AIMD, OpenAiConcurrencyLimiter).
+     * 성공 + 잔량 여유(x-ratelimit-remaining-* 비율 > limiterHeadroomRatio)면 윈도우당 limiterIncreaseStep 증가,
+     * 429/timeout 이면 limiterDecreaseFactor 배로 감소. 대기가 limiterMaxQueueWaitMs 를 넘으면 거절.
+     */
+    private boolean limiterEnabled = true;
+    private int limiterInitialConcurrency = 4;
+    private int limiterMinConcurrency = 1;
+    private int limiterMaxConcurrency = 64;
+    private double limiterIncreaseStep = 1.0;
+    private double limiterDecreaseFactor = 0.5;
+    private double limiterHeadroomRatio = 0.1;
+    private long limiterMaxQueueWaitMs = 30000;
+
+    /**
+     * 로컬 제한으로 거절된 Job 을 다시 claim 하기까지 기다리는 시간 (PENDING + next_run_at, 재시도 횟수 미차감)
+     */
+    private long limiterThrottledRequeueDelayMs = 5000;
+
+    /**
+     * 응답 헤더 잔량을 Redis 에 공유하고 요청 전 차감 (인스턴스 간 공통 예산)
+     */
+    private boolean limiterRedisBudgetEnabled = true;
 }
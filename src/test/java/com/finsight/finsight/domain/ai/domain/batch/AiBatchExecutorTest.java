@@ -0,0 +1,256 @@
+package com.finsight.finsight.domain.ai.domain.batch;
+
+import com.finsight.finsight.domain.ai.domain.client.OpenAiBatchClient;
+import com.finsight.finsight.domain.ai.domain.service.AiJobService;
+import com.finsight.finsight.domain.ai.exception.code.AiErrorCode;
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiBatchStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.domain.ai.persistence.repository.AiBatchRepository;
+import com.finsight.finsight.domain.ai.persistence.repository.AiJobRepository;
+import com.finsight.finsight.global.config.AiBatchProperties;
+import com.finsight.finsight.global.config.OpenAiClientConfig;
+import com.finsight.finsight.global.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AiBatchExecutor 제출 → 폴링 → 결과/에러 파일 반영 → 나머지 실패 처리
+ *
+ * OpenAiBatchClient 는 실제 WebClient(openAiBatchWebClient 설정)로 로컬 스텁(/v1/files, /v1/batches)을 호출하고,
+ * Job 상태 전환(AiJobService)과 리포지토리는 mock 으로 어떤 Job 이 어떤 결과로 반영되는지만 확인합니다.
+ */
+class AiBatchExecutorTest {
+
+    private static final String OWNER = "batch:test";
+    private static final String OUTPUT_TEXT = "{\"summary\":\"ok\"}";
+
+    private OpenAiBatchStubServer stub;
+    private AiJobService aiJobService;
+    private AiJobRepository aiJobRepository;
+    private AiBatchRepository batchRepository;
+    private AiBatchExecutor executor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new OpenAiBatchStubServer();
+
+        OpenAiProperties openAiProps = new OpenAiProperties();
+        openAiProps.setApiKey("test-key");
+        openAiProps.setBaseUrl(stub.baseUrl());
+
+        AiBatchProperties batchProps = new AiBatchProperties();
+        batchProps.setEnabled(true);
+        batchProps.setPromptVersions(List.of("batch-v1"));
+        batchProps.setJobTypes(List.of(AiJobType.SUMMARY));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OpenAiBatchClient batchClient = new OpenAiBatchClient(
+                new OpenAiClientConfig().openAiBatchWebClient(openAiProps, batchProps), registry);
+
+        aiJobService = mock(AiJobService.class);
+        aiJobRepository = mock(AiJobRepository.class);
+        batchRepository = mock(AiBatchRepository.class);
+        when(batchRepository.save(any(AiBatchEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        executor = new AiBatchExecutor(aiJobService, aiJobRepository, batchRepository, batchClient, batchProps, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    // =========================
+    // 제출
+    // =========================
+
+    @Test
+    void submitUploadsJsonlAndCreatesBatch() {
+        when(aiJobService.claimBatchJobs(eq(AiJobType.SUMMARY), anyInt(), anyBoolean(), any(), any()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(aiJobService.prepareBatchRequest(eq(AiJobType.SUMMARY), anyLong(), any()))
+                .thenReturn(Optional.of(Map.of("model", "gpt-4o-mini")));
+        // 캐시 hit 으로 이미 저장된 Job 은 배치에 넣지 않음
+        when(aiJobService.prepareBatchRequest(eq(AiJobType.SUMMARY), eq(3L), any())).thenReturn(Optional.empty());
+        stub.respond("POST", "/v1/files", 200, "{\"id\":\"file-in\"}");
+        stub.respond("POST", "/v1/batches", 200, "{\"id\":\"batch_1\",\"status\":\"validating\"}");
+
+        executor.submit();
+
+        String upload = stub.lastRequest("POST", "/v1/files").body();
+        assertThat(upload).contains("name=\"purpose\"").contains("batch");
+        assertThat(upload).contains("\"custom_id\":\"job-1\"").contains("\"custom_id\":\"job-2\"");
+        assertThat(upload).doesNotContain("\"custom_id\":\"job-3\"");
+        assertThat(upload).contains("\"url\":\"/v1/responses\"");
+
+        String create = stub.lastRequest("POST", "/v1/batches").body();
+        assertThat(create).contains("\"input_file_id\":\"file-in\"").contains("\"endpoint\":\"/v1/responses\"");
+
+        AiBatchEntity batch = savedBatch();
+        assertThat(batch.getStatus()).isEqualTo(AiBatchStatus.SUBMITTED);
+        assertThat(batch.getOpenaiBatchId()).isEqualTo("batch_1");
+        assertThat(batch.getInputFileId()).isEqualTo("file-in");
+        assertThat(batch.getRequestCount()).isEqualTo(2);
+        verify(aiJobService, never()).failBatchJob(anyLong(), any(), any());
+    }
+
+    @Test
+    void submitFailureReleasesClaimedJobsForRetry() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        when(aiJobService.claimBatchJobs(eq(AiJobType.SUMMARY), anyInt(), anyBoolean(), owner.capture(), any()))
+                .thenReturn(List.of(1L, 2L));
+        when(aiJobService.prepareBatchRequest(eq(AiJobType.SUMMARY), anyLong(), any()))
+                .thenReturn(Optional.of(Map.of("model", "gpt-4o-mini")));
+        when(aiJobRepository.findIdsByStatusAndWorkerId(eq(AiJobStatus.RUNNING), any())).thenReturn(List.of(1L, 2L));
+        when(aiJobService.failBatchJob(anyLong(), any(), any())).thenReturn(true);
+        stub.respond("POST", "/v1/files", 500, "{\"error\":{\"message\":\"boom\"}}");
+
+        executor.submit();
+
+        assertThat(stub.lastRequest("POST", "/v1/batches")).isNull();
+        verify(aiJobService).failBatchJob(1L, owner.getValue(), AiErrorCode.OPENAI_BATCH_FAILED);
+        verify(aiJobService).failBatchJob(2L, owner.getValue(), AiErrorCode.OPENAI_BATCH_FAILED);
+
+        AiBatchEntity batch = savedBatch();
+        assertThat(batch.getStatus()).isEqualTo(AiBatchStatus.FAILED);
+        assertThat(batch.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void submitAuthFailureSuspendsClaimedJobs() {
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        when(aiJobService.claimBatchJobs(eq(AiJobType.SUMMARY), anyInt(), anyBoolean(), owner.capture(), any()))
+                .thenReturn(List.of(1L));
+        when(aiJobService.prepareBatchRequest(eq(AiJobType.SUMMARY), anyLong(), any()))
+                .thenReturn(Optional.of(Map.of("model", "gpt-4o-mini")));
+        when(aiJobRepository.findIdsByStatusAndWorkerId(eq(AiJobStatus.RUNNING), any())).thenReturn(List.of(1L));
+        stub.respond("POST", "/v1/files", 401, "{\"error\":{\"code\":\"invalid_api_key\"}}");
+
+        executor.submit();
+
+        verify(aiJobService).failBatchJob(1L, owner.getValue(), AiErrorCode.OPENAI_INVALID_API_KEY);
+    }
+
+    // =========================
+    // 폴링 / 결과 반영
+    // =========================
+
+    @Test
+    void pollInProgressOnlyRenewsLeases() {
+        AiBatchEntity batch = submittedBatch();
+        when(aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, OWNER)).thenReturn(List.of(1L));
+        stub.respond("GET", "/v1/batches/batch_1", 200, "{\"id\":\"batch_1\",\"status\":\"in_progress\"}");
+
+        executor.poll();
+
+        verify(aiJobService).renewLeases(eq(List.of(1L)), eq(OWNER), any());
+        assertThat(batch.getStatus()).isEqualTo(AiBatchStatus.SUBMITTED);
+        assertThat(batch.getOpenaiStatus()).isEqualTo("in_progress");
+        assertThat(stub.requests()).noneMatch(r -> r.path().startsWith("/v1/files"));
+        verify(aiJobService, never()).completeBatchResult(anyLong(), any(), any());
+        verify(aiJobService, never()).failBatchJob(anyLong(), any(), any());
+    }
+
+    @Test
+    void pollCompletedAppliesOutputAndErrorFilesThenFailsRemaining() {
+        AiBatchEntity batch = submittedBatch();
+        // 폴링 시작(리스 연장) 때 3건, 결과 반영 뒤에는 결과에 없던 job-3 만 남음
+        when(aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, OWNER))
+                .thenReturn(List.of(1L, 2L, 3L))
+                .thenReturn(List.of(3L));
+        when(aiJobService.completeBatchResult(anyLong(), any(), any())).thenReturn(true);
+        when(aiJobService.failBatchJob(anyLong(), any(), any())).thenReturn(true);
+
+        stub.respond("GET", "/v1/batches/batch_1", 200, """
+                {"id":"batch_1","status":"completed","output_file_id":"file-out","error_file_id":"file-err"}
+                """);
+        stub.respond("GET", "/v1/files/file-out/content", 200,
+                "{\"custom_id\":\"job-1\",\"response\":{\"status_code\":200,\"body\":{\"output\":[{\"content\":"
+                        + "[{\"type\":\"output_text\",\"text\":\"{\\\"summary\\\":\\\"ok\\\"}\"}]}]}}}\n"
+                        + "not-json\n"
+                        + "{\"custom_id\":\"other-9\",\"response\":{\"status_code\":200,\"body\":{}}}\n");
+        stub.respond("GET", "/v1/files/file-err/content", 200,
+                "{\"custom_id\":\"job-2\",\"response\":{\"status_code\":429,\"body\":{}}}\n");
+
+        executor.poll();
+
+        verify(aiJobService).completeBatchResult(1L, OWNER, OUTPUT_TEXT);
+        verify(aiJobService).failBatchJob(2L, OWNER, AiErrorCode.OPENAI_RATE_LIMIT);
+        verify(aiJobService).failBatchJob(3L, OWNER, AiErrorCode.OPENAI_BATCH_FAILED);
+
+        assertThat(batch.getStatus()).isEqualTo(AiBatchStatus.COMPLETED);
+        assertThat(batch.getOutputFileId()).isEqualTo("file-out");
+        assertThat(batch.getErrorFileId()).isEqualTo("file-err");
+        assertThat(batch.getSuccessCount()).isEqualTo(1);
+        assertThat(batch.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void pollExpiredWithoutFilesFailsAllRemaining() {
+        AiBatchEntity batch = submittedBatch();
+        when(aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, OWNER)).thenReturn(List.of(1L, 2L));
+        when(aiJobService.failBatchJob(anyLong(), any(), any())).thenReturn(true);
+        stub.respond("GET", "/v1/batches/batch_1", 200, "{\"id\":\"batch_1\",\"status\":\"expired\"}");
+
+        executor.poll();
+
+        verify(aiJobService).failBatchJob(1L, OWNER, AiErrorCode.OPENAI_BATCH_FAILED);
+        verify(aiJobService).failBatchJob(2L, OWNER, AiErrorCode.OPENAI_BATCH_FAILED);
+        assertThat(batch.getStatus()).isEqualTo(AiBatchStatus.FAILED);
+        assertThat(batch.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void pollSkipsBatchClaimedByAnotherInstance() {
+        submittedBatch();
+        when(batchRepository.claimPoll(any(), anyLong())).thenReturn(0);
+
+        executor.poll();
+
+        assertThat(stub.requests()).isEmpty();
+        verify(aiJobService, never()).renewLeases(any(), any(), any());
+    }
+
+    // =========================
+    // helpers
+    // =========================
+
+    private AiBatchEntity submittedBatch() {
+        AiBatchEntity batch = AiBatchEntity.builder()
+                .jobType(AiJobType.SUMMARY)
+                .owner(OWNER)
+                .requestCount(3)
+                .build();
+        batch.markSubmitted("batch_1", "file-in", "validating");
+        when(batchRepository.findByStatusOrderByIdAsc(AiBatchStatus.SUBMITTED)).thenReturn(List.of(batch));
+        when(batchRepository.claimPoll(any(), anyLong())).thenReturn(1);
+        return batch;
+    }
+
+    private AiBatchEntity savedBatch() {
+        ArgumentCaptor<AiBatchEntity> saved = ArgumentCaptor.forClass(AiBatchEntity.class);
+        verify(batchRepository, atLeastOnce()).save(saved.capture());
+        return saved.getValue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.finsight.finsight.domain.ai.domain.batch;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * OpenAI Batch API 스텁 (JDK HttpServer)
+ *
+ * - "METHOD /v1/path" 별로 미리 등록한 응답(상태 코드 + 본문)을 돌려줌, 등록 안 된 경로는 404
+ * - 받은 요청(method, path, body)을 순서대로 기록
+ */
+class OpenAiBatchStubServer implements AutoCloseable {
+
+    record Response(int status, String body) {
+    }
+
+    record Request(String method, String path, String body) {
+    }
+
+    private final HttpServer server;
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+
+    OpenAiBatchStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * openai.base-url 로 쓸 주소 (…/v1)
+     */
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    void respond(String method, String path, int status, String body) {
+        responses.put(method + " " + path, new Response(status, body));
+    }
+
+    List<Request> requests() {
+        return requests;
+    }
+
+    Request lastRequest(String method, String path) {
+        Request found = null;
+        for (Request r : requests) {
+            if (r.method().equals(method) && r.path().equals(path)) found = r;
+        }
+        return found;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        requests.add(new Request(method, path, body));
+
+        Response response = responses.getOrDefault(method + " " + path,
+                new Response(404, "{\"error\":{\"message\":\"not found\"}}"));
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
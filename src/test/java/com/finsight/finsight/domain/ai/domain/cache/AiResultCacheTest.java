@@ -0,0 +1,177 @@
+package com.finsight.finsight.domain.ai.domain.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finsight.finsight.global.config.AiResultCacheProperties;
+import com.finsight.finsight.global.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * AI 결과 캐시: 요청 본문 값별 키 분리, 로컬 LRU 바이트 상한
+ */
+class AiResultCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final List<Map<String, String>> INPUT = List.of(
+            Map.of("role", "system", "content", "금융 기사 요약"),
+            Map.of("role", "user", "content", "기사 본문"));
+
+    private OpenAiProperties openAiProps;
+    private AiResultCacheProperties props;
+    private SimpleMeterRegistry registry;
+    private AiResultCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.get(anyString())).thenReturn(null); // Redis 는 항상 miss → 로컬 LRU 동작만 관찰
+
+        openAiProps = new OpenAiProperties();
+        props = new AiResultCacheProperties();
+        registry = new SimpleMeterRegistry();
+        cache = new AiResultCache(redisTemplate, openAiProps, props, registry);
+        cache.init();
+    }
+
+    // =========================
+    // key
+    // =========================
+
+    @Test
+    void sameRequestGivesSameKey() {
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT))
+                .isEqualTo(key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT))
+                .hasSize(64);
+    }
+
+    @Test
+    void keyChangesWithModel() {
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT))
+                .isNotEqualTo(key("gpt-4o", 800, "summary", schema("a"), "v1", INPUT));
+    }
+
+    @Test
+    void keyChangesWithMaxOutputTokens() {
+        // 상한이 낮아 잘린 출력을 다른 상한 요청에 재사용하지 않음
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT))
+                .isNotEqualTo(key("gpt-4o-mini", 2000, "summary", schema("a"), "v1", INPUT));
+    }
+
+    @Test
+    void keyChangesWithSchemaNameOrBody() {
+        String base = key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT);
+
+        assertThat(key("gpt-4o-mini", 800, "fused", schema("a"), "v1", INPUT)).isNotEqualTo(base);
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("b"), "v1", INPUT)).isNotEqualTo(base);
+        assertThat(key("gpt-4o-mini", 800, "summary", null, "v1", INPUT)).isNotEqualTo(base);
+    }
+
+    @Test
+    void keyChangesWithTemperaturePromptVersionAndInput() {
+        String base = key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT);
+
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v2", INPUT)).isNotEqualTo(base);
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v1",
+                List.of(Map.of("role", "user", "content", "다른 본문")))).isNotEqualTo(base);
+
+        openAiProps.setTemperature(0.7);
+        assertThat(key("gpt-4o-mini", 800, "summary", schema("a"), "v1", INPUT)).isNotEqualTo(base);
+    }
+
+    @Test
+    void fieldBoundariesAreSeparated() {
+        // "ab" + "c" 와 "a" + "bc" 가 같은 해시가 되지 않음
+        assertThat(key("gpt", 800, "ab", null, "c", INPUT))
+                .isNotEqualTo(key("gpt", 800, "a", null, "bc", INPUT));
+    }
+
+    // =========================
+    // 로컬 LRU
+    // =========================
+
+    @Test
+    void putThenGetHitsLocal() {
+        cache.put("k", "{\"a\":1}");
+
+        assertThat(cache.get("k")).contains("{\"a\":1}");
+        assertThat(localHits()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenBytesExceeded() {
+        // 글자당 3바이트 근사 → 10글자 = 30바이트, 상한 60바이트면 2개까지
+        props.setLocalMaxBytes(60);
+        cache.put("a", "aaaaaaaaaa");
+        cache.put("b", "bbbbbbbbbb");
+        cache.get("a"); // a 를 최근 사용으로
+        cache.put("c", "cccccccccc");
+
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.get("c")).isPresent();
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(localBytes()).isEqualTo(60);
+    }
+
+    @Test
+    void replacingValueKeepsByteCountExact() {
+        props.setLocalMaxBytes(60);
+        cache.put("a", "aaaaaaaaaa");
+        cache.put("a", "aaaaa");
+
+        assertThat(localBytes()).isEqualTo(15);
+        assertThat(registry.get("ai_result_cache_local_entries").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void entryLargerThanLimitIsNotKeptLocally() {
+        props.setLocalMaxBytes(30);
+        cache.put("small", "aaaaaaaaaa");
+        cache.put("huge", "x".repeat(11));
+
+        assertThat(cache.get("huge")).isEmpty();
+        assertThat(cache.get("small")).isPresent();
+    }
+
+    @Test
+    void disabledCacheNeverHits() {
+        props.setEnabled(false);
+        cache.put("k", "v");
+
+        assertThat(cache.get("k")).isEmpty();
+    }
+
+    private String key(String model, int maxOutputTokens, String schemaName, JsonNode schema,
+                       String promptVersion, List<Map<String, String>> input) {
+        return cache.key(model, maxOutputTokens, schemaName, schema, promptVersion, input);
+    }
+
+    private static JsonNode schema(String field) {
+        return MAPPER.createObjectNode()
+                .put("type", "object")
+                .set("properties", MAPPER.createObjectNode().set(field, MAPPER.createObjectNode().put("type", "string")));
+    }
+
+    private double localHits() {
+        var counter = registry.find("ai_result_cache_total").tag("tier", "local").tag("result", "hit").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double localBytes() {
+        return registry.get("ai_result_cache_local_bytes").gauge().value();
+    }
+}
@@ -0,0 +1,91 @@
+package com.finsight.finsight.domain.ai.domain.dag;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AI Job DAG: 위상 순서, 부모/자식, 실행 가능 / 완료 판정
+ */
+class AiJobDagTest {
+
+    @Test
+    void rootIsSummary() {
+        assertThat(AiJobDag.root()).isEqualTo(AiJobType.SUMMARY);
+        assertThat(AiJobDag.parentsOf(AiJobType.SUMMARY)).isEmpty();
+    }
+
+    @Test
+    void topologicalOrderPutsLongerCriticalPathFirst() {
+        // TERM_CARDS 는 QUIZ_TERM 이 뒤따르므로 같은 단계의 INSIGHT / QUIZ_CONTENT 보다 먼저
+        assertThat(AiJobDag.topologicalOrder()).containsExactly(
+                AiJobType.SUMMARY,
+                AiJobType.TERM_CARDS,
+                AiJobType.INSIGHT,
+                AiJobType.QUIZ_CONTENT,
+                AiJobType.QUIZ_TERM);
+    }
+
+    @Test
+    void everyParentComesBeforeItsChildren() {
+        List<AiJobType> order = AiJobDag.topologicalOrder();
+
+        assertThat(order).containsExactlyInAnyOrder(AiJobType.values());
+        for (AiJobType type : AiJobType.values()) {
+            for (AiJobType child : AiJobDag.childrenOf(type)) {
+                assertThat(order.indexOf(type)).isLessThan(order.indexOf(child));
+            }
+        }
+    }
+
+    @Test
+    void childrenAndParentsMatchEdges() {
+        assertThat(AiJobDag.childrenOf(AiJobType.SUMMARY))
+                .containsExactlyInAnyOrder(AiJobType.TERM_CARDS, AiJobType.INSIGHT, AiJobType.QUIZ_CONTENT);
+        assertThat(AiJobDag.childrenOf(AiJobType.TERM_CARDS)).containsExactly(AiJobType.QUIZ_TERM);
+        assertThat(AiJobDag.childrenOf(AiJobType.INSIGHT)).isEmpty();
+        assertThat(AiJobDag.childrenOf(AiJobType.QUIZ_CONTENT)).isEmpty();
+        assertThat(AiJobDag.childrenOf(AiJobType.QUIZ_TERM)).isEmpty();
+
+        assertThat(AiJobDag.parentsOf(AiJobType.QUIZ_TERM)).containsExactly(AiJobType.TERM_CARDS);
+        assertThat(AiJobDag.parentsOf(AiJobType.INSIGHT)).containsExactly(AiJobType.SUMMARY);
+    }
+
+    @Test
+    void edgeViewsAreReadOnly() {
+        Set<AiJobType> children = AiJobDag.childrenOf(AiJobType.SUMMARY);
+
+        assertThatThrownBy(() -> children.add(AiJobType.QUIZ_TERM))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> AiJobDag.topologicalOrder().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void runnableOnlyWhenAllParentsSucceeded() {
+        Set<AiJobType> none = EnumSet.noneOf(AiJobType.class);
+        Set<AiJobType> summaryDone = EnumSet.of(AiJobType.SUMMARY);
+
+        assertThat(AiJobDag.isRunnable(AiJobType.SUMMARY, none)).isTrue();
+        assertThat(AiJobDag.isRunnable(AiJobType.TERM_CARDS, none)).isFalse();
+        assertThat(AiJobDag.isRunnable(AiJobType.TERM_CARDS, summaryDone)).isTrue();
+        assertThat(AiJobDag.isRunnable(AiJobType.QUIZ_TERM, summaryDone)).isFalse();
+        assertThat(AiJobDag.isRunnable(AiJobType.QUIZ_TERM,
+                EnumSet.of(AiJobType.SUMMARY, AiJobType.TERM_CARDS))).isTrue();
+    }
+
+    @Test
+    void completeOnlyWhenEveryNodeSucceeded() {
+        Set<AiJobType> allButOne = EnumSet.allOf(AiJobType.class);
+        allButOne.remove(AiJobType.QUIZ_TERM);
+
+        assertThat(AiJobDag.isComplete(allButOne)).isFalse();
+        assertThat(AiJobDag.isComplete(EnumSet.allOf(AiJobType.class))).isTrue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.finsight.finsight.domain.ai.domain.prompt;
+
+import com.finsight.finsight.global.config.ArticleCondenserProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 압축: 예산 이내 유지, 원래 문장 순서, 리드 문장 보존, 상투 문구 제거
+ */
+class ArticleCondenserTest {
+
+    private static final String TITLE = "한은 기준금리 동결";
+
+    private static final List<String> SENTENCES = List.of(
+            "한국은행이 기준금리를 연 3.50%로 동결했다.",
+            "물가 상승률은 둔화 흐름을 이어가고 있다.",
+            "가계부채 증가세가 여전히 부담으로 꼽힌다.",
+            "총재는 긴축 기조를 충분히 유지하겠다고 말했다.",
+            "시장에서는 연내 인하 가능성에 주목하고 있다.",
+            "채권 금리는 소폭 하락한 채 거래를 마쳤다.",
+            "환율은 좁은 범위에서 움직이며 보합권에 머물렀다.",
+            "전문가들은 다음 회의에서 방향이 정해질 것으로 봤다.");
+
+    private ArticleCondenserProperties props;
+    private ArticleCondenser condenser;
+
+    @BeforeEach
+    void setUp() {
+        props = new ArticleCondenserProperties();
+        condenser = new ArticleCondenser(props);
+    }
+
+    // =========================
+    // 예산 이하
+    // =========================
+
+    @Test
+    void shortArticleIsKeptAsIs() {
+        String content = String.join(" ", SENTENCES);
+
+        ArticleCondenser.Condensed result = condenser.condense(TITLE, content);
+
+        assertThat(result.text()).isEqualTo(content);
+        assertThat(result.dropped()).isZero();
+        // 압축 후 토큰은 문장별 추정치 합 (문장마다 올림이라 원문 추정치와 몇 토큰 다를 수 있음)
+        assertThat(result.tokensAfter()).isEqualTo(sumTokens(SENTENCES));
+    }
+
+    @Test
+    void boilerplateIsRemovedWithoutDroppingContent() {
+        String content = "[서울=뉴시스] " + SENTENCES.get(0) + " (사진=연합뉴스) " + SENTENCES.get(1)
+                + " 홍길동 기자 hong@example.com ▶ 관련기사 바로가기. ⓒ 뉴시스, 무단전재 및 재배포 금지.";
+
+        ArticleCondenser.Condensed result = condenser.condense(TITLE, content);
+
+        assertThat(result.text()).isEqualTo(SENTENCES.get(0) + " " + SENTENCES.get(1));
+        assertThat(result.dropped()).isZero();
+        assertThat(result.tokensAfter()).isLessThan(result.tokensBefore());
+    }
+
+    @Test
+    void disabledOrBlankInputIsReturnedUnchanged() {
+        String content = "[서울=뉴시스] " + String.join(" ", SENTENCES);
+        assertThat(condenser.condense(TITLE, "  ").text()).isEqualTo("  ");
+        assertThat(condenser.condense(TITLE, null).text()).isNull();
+
+        props.setEnabled(false);
+        assertThat(condenser.condense(TITLE, content).text()).isEqualTo(content);
+    }
+
+    // =========================
+    // 예산 초과
+    // =========================
+
+    @Test
+    void longArticleFitsBudgetAndKeepsOriginalOrder() {
+        props.setMaxInputTokens(60);
+        String content = String.join(" ", SENTENCES);
+
+        ArticleCondenser.Condensed result = condenser.condense(TITLE, content);
+
+        List<String> kept = split(result.text());
+        assertThat(result.tokensAfter()).isLessThanOrEqualTo(60);
+        assertThat(result.tokensAfter()).isEqualTo(sumTokens(kept));
+        assertThat(result.dropped()).isEqualTo(SENTENCES.size() - kept.size()).isPositive();
+        assertThat(SENTENCES).containsSubsequence(kept);
+    }
+
+    @Test
+    void leadSentenceIsAlwaysKept() {
+        props.setMaxInputTokens(1); // 첫 문장 하나도 예산보다 큼
+
+        ArticleCondenser.Condensed result = condenser.condense(TITLE, String.join(" ", SENTENCES));
+
+        assertThat(result.text()).isEqualTo(SENTENCES.get(0));
+        assertThat(result.dropped()).isEqualTo(SENTENCES.size() - 1);
+    }
+
+    @Test
+    void shorterSentenceFillsRemainingBudget() {
+        // 리드 + 긴 문장은 예산 초과, 뒤쪽 짧은 문장은 남은 예산에 들어감
+        String lead = "한국은행이 기준금리를 동결했다.";
+        String longOne = "물가와 가계부채와 환율과 성장 경로를 모두 고려한 결정이라는 설명이 길게 이어졌다.";
+        String shortOne = "시장은 담담했다.";
+        props.setMaxInputTokens(ArticleCondenser.estimateTokens(lead) + ArticleCondenser.estimateTokens(shortOne));
+
+        ArticleCondenser.Condensed result = condenser.condense(TITLE, lead + " " + longOne + " " + shortOne);
+
+        assertThat(result.text()).isEqualTo(lead + " " + shortOne);
+        assertThat(result.dropped()).isEqualTo(1);
+    }
+
+    // =========================
+    // 토큰 추정
+    // =========================
+
+    @Test
+    void estimateCountsHangulPerSyllableAndOthersPerFourChars() {
+        assertThat(ArticleCondenser.estimateTokens(null)).isZero();
+        assertThat(ArticleCondenser.estimateTokens("기준 금리")).isEqualTo(4);
+        assertThat(ArticleCondenser.estimateTokens("abcd")).isEqualTo(1);
+        assertThat(ArticleCondenser.estimateTokens("abcde")).isEqualTo(2);
+        assertThat(ArticleCondenser.estimateTokens("금리 3.50%")).isEqualTo(2 + 2);
+    }
+
+    private static List<String> split(String text) {
+        return new ArrayList<>(Arrays.asList(text.split("(?<=[.!?])\\s+")));
+    }
+
+    private static int sumTokens(List<String> sentences) {
+        int sum = 0;
+        for (String s : sentences) sum += ArticleCondenser.estimateTokens(s);
+        return sum;
+    }
+}
@@ -0,0 +1,412 @@
+package com.finsight.finsight.domain.ai.persistence.repository;
+
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobEntity;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobStatus;
+import com.finsight.finsight.domain.ai.persistence.entity.AiJobType;
+import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.finsight.finsight.domain.naver.persistence.entity.NaverArticleEntity;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
+import com.finsight.finsight.global.config.QuerydslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.oracle.OracleContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AiJobRepository native SQL(Oracle) 테스트
+ *
+ * claim(FOR UPDATE SKIP LOCKED + 리스) → 연장 → 만료 → Sweeper 회수(재시도/실패) 전환을 실제 Oracle 에서 확인합니다.
+ * LOCALTIMESTAMP, NUMTODSINTERVAL, ROWNUM, FETCH FIRST 는 H2 로 대신할 수 없어서 Testcontainers 를 씁니다.
+ * Docker 가 없으면 건너뜁니다.
+ *
+ * 실행:
+ *   ./gradlew test --tests '*AiJobRepositoryTest'
+ *
+ * 테스트 메서드는 트랜잭션 없이 돌고(커밋된 상태로 확인), claim/연장은 워커처럼 TransactionTemplate 안에서 호출합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AiJobRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static OracleContainer oracle = new OracleContainer("gvenzl/oracle-free:23-slim-faststart");
+
+    private static final String VERSION = "v1";
+    private static final String BATCH_VERSION = "batch-v1";
+    private static final List<String> NO_EXCLUDED = List.of("-");
+    private static final long LEASE_SECONDS = 60;
+    private static final int CHUNK = 100;
+
+    @Autowired
+    private AiJobRepository aiJobRepository;
+
+    @Autowired
+    private NaverArticleRepository naverArticleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int articleSeq;
+
+    @AfterEach
+    void cleanUp() {
+        aiJobRepository.deleteAllInBatch();
+        naverArticleRepository.deleteAllInBatch();
+    }
+
+    // =========================
+    // claim
+    // =========================
+
+    @Test
+    void claimLocksPendingByPriorityAndLeasesToOwner() {
+        Long low = pendingJob(VERSION);
+        Long high = pendingJob(VERSION);
+        Long excluded = pendingJob(BATCH_VERSION);
+        setPriority(high, 10);
+
+        List<Long> claimed = claim("w1", List.of(BATCH_VERSION), 1, LEASE_SECONDS);
+
+        assertThat(claimed).containsExactly(high);
+        assertThat(status(high)).isEqualTo("RUNNING");
+        assertThat(workerId(high)).isEqualTo("w1");
+        assertThat(leaseRemainingSeconds(high)).isBetween(1L, LEASE_SECONDS);
+        assertThat(status(low)).isEqualTo("PENDING");
+        assertThat(status(excluded)).isEqualTo("PENDING");
+        assertThat(aiJobRepository.findIdsByStatusAndWorkerId(AiJobStatus.RUNNING, "w1")).containsExactly(high);
+    }
+
+    @Test
+    void claimSkipsThrottledPendingUntilNextRunAt() {
+        Long throttled = pendingJob(VERSION);
+        Long ready = pendingJob(VERSION);
+        setPriority(throttled, 10);
+        jdbcTemplate.update("""
+                UPDATE ai_jobs SET next_run_at = LOCALTIMESTAMP + NUMTODSINTERVAL(5, 'MINUTE')
+                WHERE ai_job_id = ?
+                """, throttled);
+
+        assertThat(claim("w1", NO_EXCLUDED, 10, LEASE_SECONDS)).containsExactly(ready);
+
+        jdbcTemplate.update("""
+                UPDATE ai_jobs SET next_run_at = LOCALTIMESTAMP - NUMTODSINTERVAL(1, 'SECOND')
+                WHERE ai_job_id = ?
+                """, throttled);
+        assertThat(claim("w1", NO_EXCLUDED, 10, LEASE_SECONDS)).containsExactly(throttled);
+    }
+
+    @Test
+    void claimSkipsRowsLockedByAnotherClaimer() throws Exception {
+        Long first = pendingJob(VERSION);
+        Long second = pendingJob(VERSION);
+        setPriority(first, 10);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> other = CompletableFuture.supplyAsync(() -> tx().execute(status -> {
+            List<Long> ids = aiJobRepository.findPendingIdsForUpdateSkipLocked(AiJobType.SUMMARY.name(), NO_EXCLUDED, 1);
+            locked.countDown();
+            await(release);
+            return ids;
+        }));
+
+        try {
+            assertThat(locked.await(30, TimeUnit.SECONDS)).isTrue();
+            List<Long> ids = tx().execute(status ->
+                    aiJobRepository.findPendingIdsForUpdateSkipLocked(AiJobType.SUMMARY.name(), NO_EXCLUDED, 2));
+
+            assertThat(ids).containsExactly(second);
+        } finally {
+            release.countDown();
+        }
+        assertThat(other.get(30, TimeUnit.SECONDS)).containsExactly(first);
+    }
+
+    @Test
+    void claimLeasesOnlyPendingRowsAndReportsActualOwner() {
+        Long taken = pendingJob(VERSION);
+        Long free = pendingJob(VERSION);
+        claimIds(List.of(taken), "w-other", LEASE_SECONDS);
+
+        // 잠금 목록에 다른 워커가 먼저 가져간 행이 섞인 경우 (AiJobService.leaseLocked 의 재확인 경로)
+        List<Long> ids = List.of(taken, free);
+        int updated = tx().execute(status -> aiJobRepository.claimLeases(ids, "w1", LEASE_SECONDS));
+        List<Long> leased = aiJobRepository.findIdsByIdInAndStatusAndWorkerId(ids, AiJobStatus.RUNNING, "w1");
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(leased).containsExactly(free);
+        assertThat(workerId(taken)).isEqualTo("w-other");
+
+        // 이미 RUNNING 인 행은 잠금 쿼리에서도 빠짐
+        assertThat(claim("w2", NO_EXCLUDED, 10, LEASE_SECONDS)).isEmpty();
+    }
+
+    @Test
+    void batchClaimPicksBatchVersionOrBacklogBelowMaxPriority() {
+        Long batch = pendingJob(BATCH_VERSION);
+        Long backlog = pendingJob(VERSION);
+        Long boosted = pendingJob(VERSION);
+        setPriority(boosted, 5);
+
+        List<Long> batchOnly = tx().execute(status -> aiJobRepository.findPendingIdsForBatchSkipLocked(
+                AiJobType.SUMMARY.name(), List.of(BATCH_VERSION), 0, 5, 10));
+        List<Long> withBacklog = tx().execute(status -> aiJobRepository.findPendingIdsForBatchSkipLocked(
+                AiJobType.SUMMARY.name(), List.of(BATCH_VERSION), 1, 5, 10));
+
+        assertThat(batchOnly).containsExactly(batch);
+        assertThat(withBacklog).containsExactlyInAnyOrder(batch, backlog);
+
+        claimIds(List.of(batch), "w1", LEASE_SECONDS);
+        List<Long> afterClaim = tx().execute(status -> aiJobRepository.findPendingIdsForBatchSkipLocked(
+                AiJobType.SUMMARY.name(), List.of(BATCH_VERSION), 0, 5, 10));
+        assertThat(afterClaim).isEmpty();
+    }
+
+    // =========================
+    // 리스 연장
+    // =========================
+
+    @Test
+    void renewLeasesExtendsOnlyOwnRunningJobs() {
+        Long mine = pendingJob(VERSION);
+        Long others = pendingJob(VERSION);
+        claimIds(List.of(mine), "w1", LEASE_SECONDS);
+        claimIds(List.of(others), "w2", LEASE_SECONDS);
+
+        int renewed = renew(List.of(mine, others), "w1", 600);
+
+        assertThat(renewed).isEqualTo(1);
+        assertThat(leaseRemainingSeconds(mine)).isGreaterThan(LEASE_SECONDS);
+        assertThat(leaseRemainingSeconds(others)).isLessThanOrEqualTo(LEASE_SECONDS);
+
+        // 끝난 Job 은 연장하지 않음
+        jdbcTemplate.update("UPDATE ai_jobs SET status = 'SUCCESS' WHERE ai_job_id = ?", mine);
+        assertThat(renew(List.of(mine), "w1", 600)).isZero();
+    }
+
+    // =========================
+    // Sweeper: 리스 만료
+    // =========================
+
+    @Test
+    void expiredLeaseIsRequeuedWhileRetriesRemain() {
+        Long expired = pendingJob(VERSION);
+        Long live = pendingJob(VERSION);
+        claimIds(List.of(expired), "w1", -10);
+        claimIds(List.of(live), "w1", LEASE_SECONDS);
+
+        assertThat(aiJobRepository.failLeaseExpired(CHUNK)).isZero();
+        assertThat(aiJobRepository.requeueLeaseExpired(CHUNK)).isEqualTo(1);
+
+        assertThat(status(expired)).isEqualTo("RETRY_WAIT");
+        assertThat(retryCount(expired)).isEqualTo(1);
+        assertThat(lastErrorCode(expired)).isEqualTo("STUCK_TIMEOUT");
+        assertThat(isNull(expired, "lease_expires_at")).isTrue();
+        assertThat(isNull(expired, "next_run_at")).isFalse();
+        assertThat(status(live)).isEqualTo("RUNNING");
+
+        // 회수된 뒤 원래 워커는 연장할 수 없음
+        assertThat(renew(List.of(expired), "w1", 600)).isZero();
+    }
+
+    @Test
+    void expiredLeaseFailsWhenRetriesExhausted() {
+        Long expired = pendingJob(VERSION);
+        claimIds(List.of(expired), "w1", -10);
+        jdbcTemplate.update("UPDATE ai_jobs SET retry_count = max_retries WHERE ai_job_id = ?", expired);
+
+        assertThat(aiJobRepository.requeueLeaseExpired(CHUNK)).isZero();
+        assertThat(aiJobRepository.failLeaseExpired(CHUNK)).isEqualTo(1);
+
+        assertThat(status(expired)).isEqualTo("FAILED");
+        assertThat(isNull(expired, "finished_at")).isFalse();
+        assertThat(isNull(expired, "lease_expires_at")).isTrue();
+    }
+
+    @Test
+    void leaseExpirySweepsInChunks() {
+        List<Long> ids = List.of(pendingJob(VERSION), pendingJob(VERSION), pendingJob(VERSION));
+        claimIds(ids, "w1", -10);
+
+        assertThat(aiJobRepository.requeueLeaseExpired(2)).isEqualTo(2);
+        assertThat(aiJobRepository.requeueLeaseExpired(2)).isEqualTo(1);
+        assertThat(aiJobRepository.requeueLeaseExpired(2)).isZero();
+    }
+
+    // =========================
+    // Sweeper: 리스 없는 RUNNING (stuck)
+    // =========================
+
+    @Test
+    void stuckRunningWithoutLeaseIsRequeuedOrFailed() {
+        Long retryable = pendingJob(VERSION);
+        Long exhausted = pendingJob(VERSION);
+        Long recent = pendingJob(VERSION);
+        Long leased = pendingJob(VERSION);
+        markRunningWithoutLease(retryable, 30);
+        markRunningWithoutLease(exhausted, 30);
+        markRunningWithoutLease(recent, 5);
+        jdbcTemplate.update("UPDATE ai_jobs SET retry_count = max_retries WHERE ai_job_id = ?", exhausted);
+        claimIds(List.of(leased), "w1", LEASE_SECONDS);
+        jdbcTemplate.update("""
+                UPDATE ai_jobs SET running_started_at = LOCALTIMESTAMP - NUMTODSINTERVAL(30, 'MINUTE')
+                WHERE ai_job_id = ?
+                """, leased);
+
+        assertThat(aiJobRepository.requeueStuck(10, CHUNK)).isEqualTo(1);
+        assertThat(aiJobRepository.failStuck(10, CHUNK)).isEqualTo(1);
+
+        assertThat(status(retryable)).isEqualTo("RETRY_WAIT");
+        assertThat(retryCount(retryable)).isEqualTo(1);
+        assertThat(status(exhausted)).isEqualTo("FAILED");
+        assertThat(status(recent)).isEqualTo("RUNNING");
+        // 리스가 있는 Job 은 리스 만료로만 회수
+        assertThat(status(leased)).isEqualTo("RUNNING");
+    }
+
+    // =========================
+    // Sweeper: RETRY_WAIT → PENDING
+    // =========================
+
+    @Test
+    void retryWaitIsReleasedAfterNextRunAtAndClaimableAgain() {
+        Long due = pendingJob(VERSION);
+        Long waiting = pendingJob(VERSION);
+        claimIds(List.of(due, waiting), "w1", -10);
+        aiJobRepository.requeueLeaseExpired(CHUNK);
+        jdbcTemplate.update("""
+                UPDATE ai_jobs SET next_run_at = LOCALTIMESTAMP - NUMTODSINTERVAL(1, 'SECOND')
+                WHERE ai_job_id = ?
+                """, due);
+
+        assertThat(aiJobRepository.releaseRetryWait(CHUNK)).isEqualTo(1);
+
+        assertThat(status(due)).isEqualTo("PENDING");
+        assertThat(isNull(due, "next_run_at")).isTrue();
+        assertThat(status(waiting)).isEqualTo("RETRY_WAIT");
+
+        assertThat(claim("w2", NO_EXCLUDED, 10, LEASE_SECONDS)).containsExactly(due);
+        assertThat(workerId(due)).isEqualTo("w2");
+    }
+
+    // =========================
+    // helpers
+    // =========================
+
+    private TransactionTemplate tx() {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * AiJobService.claimJobs 와 같은 순서: 잠금 → 리스 → 실제로 받은 행 확인
+     */
+    private List<Long> claim(String owner, List<String> excludedVersions, int limit, long leaseSeconds) {
+        return tx().execute(status -> {
+            List<Long> ids = aiJobRepository.findPendingIdsForUpdateSkipLocked(
+                    AiJobType.SUMMARY.name(), excludedVersions, limit);
+            if (ids.isEmpty()) {
+                return ids;
+            }
+            aiJobRepository.claimLeases(ids, owner, leaseSeconds);
+            return aiJobRepository.findIdsByIdInAndStatusAndWorkerId(ids, AiJobStatus.RUNNING, owner);
+        });
+    }
+
+    private void claimIds(List<Long> ids, String owner, long leaseSeconds) {
+        int updated = tx().execute(status -> aiJobRepository.claimLeases(ids, owner, leaseSeconds));
+        assertThat(updated).isEqualTo(ids.size());
+    }
+
+    private int renew(List<Long> ids, String owner, long leaseSeconds) {
+        return tx().execute(status -> aiJobRepository.renewLeases(ids, owner, leaseSeconds));
+    }
+
+    private Long pendingJob(String promptVersion) {
+        int seq = ++articleSeq;
+        NaverArticleEntity article = naverArticleRepository.save(NaverArticleEntity.builder()
+                .section(NaverEconomySection.FINANCE)
+                .oid("001")
+                .aid("test-" + seq)
+                .url("https://n.news.naver.com/mnews/article/001/test-" + seq)
+                .title("test article " + seq)
+                .collectedAt(LocalDateTime.now())
+                .build());
+        return aiJobRepository.save(AiJobEntity.pending(article, AiJobType.SUMMARY, promptVersion, null)).getId();
+    }
+
+    private void setPriority(Long jobId, int priority) {
+        jdbcTemplate.update("UPDATE ai_jobs SET priority = ? WHERE ai_job_id = ?", priority, jobId);
+    }
+
+    private void markRunningWithoutLease(Long jobId, int startedMinutesAgo) {
+        jdbcTemplate.update("""
+                UPDATE ai_jobs
+                SET status = 'RUNNING',
+                    running_started_at = LOCALTIMESTAMP - NUMTODSINTERVAL(?, 'MINUTE'),
+                    lease_expires_at = NULL
+                WHERE ai_job_id = ?
+                """, startedMinutesAgo, jobId);
+    }
+
+    private String status(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM ai_jobs WHERE ai_job_id = ?", String.class, jobId);
+    }
+
+    private String workerId(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT worker_id FROM ai_jobs WHERE ai_job_id = ?", String.class, jobId);
+    }
+
+    private int retryCount(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT retry_count FROM ai_jobs WHERE ai_job_id = ?", Integer.class, jobId);
+    }
+
+    private String lastErrorCode(Long jobId) {
+        return jdbcTemplate.queryForObject("SELECT last_error_code FROM ai_jobs WHERE ai_job_id = ?", String.class, jobId);
+    }
+
+    private boolean isNull(Long jobId, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ai_jobs WHERE ai_job_id = ? AND " + column + " IS NULL", Integer.class, jobId) == 1;
+    }
+
+    private long leaseRemainingSeconds(Long jobId) {
+        return jdbcTemplate.queryForObject("""
+                SELECT ROUND((CAST(lease_expires_at AS DATE) - CAST(LOCALTIMESTAMP AS DATE)) * 86400)
+                FROM ai_jobs WHERE ai_job_id = ?
+                """, Long.class, jobId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
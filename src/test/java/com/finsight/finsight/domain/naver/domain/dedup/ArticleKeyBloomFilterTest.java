@@ -0,0 +1,85 @@
+package com.finsight.finsight.domain.naver.domain.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleKeyBloomFilterTest {
+
+    @Test
+    void insertedKeysAreNeverReportedAsNew() {
+        ArticleKeyBloomFilter filter = new ArticleKeyBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(key(i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(key(i))).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredFpp() {
+        int inserted = 20_000;
+        double fpp = 0.01;
+        ArticleKeyBloomFilter filter = new ArticleKeyBloomFilter(inserted, fpp);
+        for (int i = 0; i < inserted; i++) {
+            filter.put(key(i));
+        }
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = inserted; i < inserted + probes; i++) {
+            if (filter.mightContain(key(i))) falsePositives++;
+        }
+
+        // 용량만큼 채웠을 때 설정한 fpp 의 2배 이내
+        assertThat((double) falsePositives / probes).isLessThan(fpp * 2);
+    }
+
+    @Test
+    void concurrentPutsDoNotLoseBits() throws Exception {
+        ArticleKeyBloomFilter filter = new ArticleKeyBloomFilter(40_000, 0.01);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t * 10_000;
+                futures.add(pool.submit(() -> {
+                    for (int i = offset; i < offset + 10_000; i++) {
+                        filter.put(key(i));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (int i = 0; i < 40_000; i++) {
+            assertThat(filter.mightContain(key(i))).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(40_000);
+    }
+
+    @Test
+    void invalidFppFallsBackToDefault() {
+        ArticleKeyBloomFilter filter = new ArticleKeyBloomFilter(1_000, 0);
+        filter.put(key(1));
+
+        assertThat(filter.mightContain(key(1))).isTrue();
+    }
+
+    private static ArticleKey key(int i) {
+        return new ArticleKey(String.format("%03d", i % 50), String.format("%010d", i));
+    }
+}
@@ -0,0 +1,137 @@
+package com.finsight.finsight.domain.naver.domain.dedup;
+
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bloom filter negative 는 DB 조회 생략, positive / 워밍 전 / 워밍 실패는 DB 로 확정
+ */
+class NaverArticleDedupServiceTest {
+
+    private static final ArticleKey SAVED = new ArticleKey("001", "0000000001");
+    private static final ArticleKey NEW = new ArticleKey("001", "0000000002");
+    private static final ArticleKey OTHER_PRESS = new ArticleKey("002", "0000000003");
+
+    private final List<ArticleKey> db = new ArrayList<>();
+    private NaverArticleRepository repository;
+    private SimpleMeterRegistry registry;
+    private NaverArticleDedupService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NaverArticleRepository.class);
+        registry = new SimpleMeterRegistry();
+
+        NaverCrawlerProperties props = new NaverCrawlerProperties();
+        props.setDedupFilterCapacity(1_000);
+        props.setDedupFilterFpp(0.01);
+
+        // (oid IN, aid IN) 쿼리처럼 요청하지 않은 조합도 돌려줌
+        when(repository.findOidAidIn(anyCollection(), anyCollection())).thenAnswer(inv -> {
+            Collection<String> oids = inv.getArgument(0);
+            Collection<String> aids = inv.getArgument(1);
+            return rows(db.stream().filter(k -> oids.contains(k.oid()) && aids.contains(k.aid())).toList());
+        });
+        when(repository.findOidAidCollectedSince(any())).thenAnswer(inv -> rows(db));
+
+        service = new NaverArticleDedupService(repository, props, registry);
+    }
+
+    @Test
+    void beforeWarmUpEveryKeyIsCheckedInDb() {
+        db.add(SAVED);
+
+        Set<ArticleKey> existing = service.findExisting(List.of(SAVED, NEW));
+
+        assertThat(existing).containsExactly(SAVED);
+        assertThat(requestedAids()).containsExactlyInAnyOrder(SAVED.aid(), NEW.aid());
+    }
+
+    @Test
+    void filterNegativeSkipsDbAfterWarmUp() {
+        db.add(SAVED);
+        service.warmUp();
+
+        Set<ArticleKey> existing = service.findExisting(List.of(SAVED, NEW));
+
+        assertThat(existing).containsExactly(SAVED);
+        assertThat(requestedAids()).containsExactly(SAVED.aid());
+        assertThat(count("filter_negative")).isEqualTo(1);
+    }
+
+    @Test
+    void allNegativeKeysDoNotQueryDb() {
+        service.warmUp();
+
+        assertThat(service.findExisting(List.of(NEW, OTHER_PRESS))).isEmpty();
+        verify(repository, never()).findOidAidIn(anyCollection(), anyCollection());
+    }
+
+    @Test
+    void filterPositiveMissingFromDbIsResolvedAsNew() {
+        service.warmUp();
+        // 필터에는 있지만 DB 에는 없는 키 (false positive 와 같은 경로)
+        service.markSeen(NEW.oid(), NEW.aid());
+
+        assertThat(service.findExisting(List.of(NEW))).isEmpty();
+        assertThat(count("filter_false_positive")).isEqualTo(1);
+    }
+
+    @Test
+    void crossProductRowsFromDbAreFilteredInMemory() {
+        ArticleKey crossed = new ArticleKey(OTHER_PRESS.oid(), SAVED.aid());
+        db.add(SAVED);
+        db.add(crossed);
+
+        // crossed 는 요청하지 않았지만 oid IN × aid IN 조건에는 걸림
+        Set<ArticleKey> existing = service.findExisting(List.of(SAVED, OTHER_PRESS));
+
+        assertThat(existing).containsExactly(SAVED);
+    }
+
+    @Test
+    void failedWarmUpKeepsDbFallback() {
+        when(repository.findOidAidCollectedSince(any())).thenThrow(new IllegalStateException("db down"));
+        service.warmUp();
+        db.add(NEW);
+
+        assertThat(service.findExisting(List.of(NEW))).containsExactly(NEW);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<String> requestedAids() {
+        ArgumentCaptor<Collection<String>> aids = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).findOidAidIn(anyCollection(), aids.capture());
+        return aids.getValue();
+    }
+
+    private double count(String result) {
+        var counter = registry.find("crawler_dedup_total").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static List<Object[]> rows(List<ArticleKey> keys) {
+        List<Object[]> rows = new ArrayList<>();
+        for (ArticleKey k : keys) {
+            rows.add(new Object[]{k.oid(), k.aid()});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,101 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleContentRepository;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 워밍된 원본 기사와 해밍 거리 임계값 이하인 본문만 canonical 로 연결
+ */
+class NearDuplicateDetectorTest {
+
+    private static final String ORIGINAL = SimHashTest.ARTICLE;
+
+    private NaverArticleContentRepository contentRepository;
+    private NaverCrawlerProperties props;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        contentRepository = mock(NaverArticleContentRepository.class);
+        props = new NaverCrawlerProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void warmedArticleIsFoundForNearCopy() {
+        NearDuplicateDetector detector = warmedWith(List.<Object[]>of(
+                new Object[]{10L, ORIGINAL, LocalDateTime.now()}));
+
+        long copy = detector.signature("(서울=연합뉴스) 홍길동 기자 = " + ORIGINAL);
+
+        assertThat(detector.findCanonical(copy)).isEqualTo(10L);
+        assertThat(count("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    void distantSignatureIsUnique() {
+        NearDuplicateDetector detector = warmedWith(List.<Object[]>of(
+                new Object[]{10L, ORIGINAL, LocalDateTime.now()}));
+
+        long far = detector.signature(ORIGINAL) ^ 0xFL;
+
+        assertThat(detector.findCanonical(far)).isNull();
+        assertThat(count("unique")).isEqualTo(1);
+    }
+
+    @Test
+    void registeredAndUnregisteredArticles() {
+        NearDuplicateDetector detector = warmedWith(List.of());
+        long sig = detector.signature(ORIGINAL);
+
+        detector.register(20L, sig);
+        assertThat(detector.findCanonical(sig)).isEqualTo(20L);
+
+        detector.unregister(List.of(20L));
+        assertThat(detector.findCanonical(sig)).isNull();
+    }
+
+    @Test
+    void disabledDetectorNeverLinks() {
+        props.setNearDupEnabled(false);
+        NearDuplicateDetector detector = warmedWith(List.<Object[]>of(
+                new Object[]{10L, ORIGINAL, LocalDateTime.now()}));
+
+        assertThat(detector.isEnabled()).isFalse();
+        assertThat(detector.findCanonical(detector.signature(ORIGINAL))).isNull();
+    }
+
+    @Test
+    void failedWarmUpStartsWithEmptyIndex() {
+        when(contentRepository.findCanonicalIdContentCollectedSince(any()))
+                .thenThrow(new IllegalStateException("db down"));
+        NearDuplicateDetector detector = new NearDuplicateDetector(contentRepository, props, registry);
+        detector.run(null);
+
+        assertThat(detector.isEnabled()).isTrue();
+        assertThat(detector.findCanonical(detector.signature(ORIGINAL))).isNull();
+    }
+
+    private NearDuplicateDetector warmedWith(List<Object[]> rows) {
+        when(contentRepository.findCanonicalIdContentCollectedSince(any())).thenReturn(rows);
+        NearDuplicateDetector detector = new NearDuplicateDetector(contentRepository, props, registry);
+        detector.run(null);
+        return detector;
+    }
+
+    private double count(String result) {
+        var counter = registry.find("crawler_near_duplicate_total").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LSH band 인덱스: 해밍 거리 임계값 이하만 연결, 용량/보관 기간 제거
+ */
+class SimHashIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final long SIG = 0x1234_5678_9ABC_DEF0L;
+
+    @Test
+    void linksSignaturesUpToMaxDistance() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SIG, NOW);
+
+        assertThat(index.findNearest(SIG, 3)).isEqualTo(1L);
+        assertThat(index.findNearest(flip(SIG, 0), 3)).isEqualTo(1L);
+        // 서로 다른 band 3개를 바꿔도 남은 band 하나로 후보에 잡힘, 4개 모두 바뀌면 거리 4 → 미연결
+        assertThat(index.findNearest(flip(SIG, 0, 20, 40), 3)).isEqualTo(1L);
+        assertThat(index.findNearest(flip(SIG, 0, 20, 40, 60), 3)).isNull();
+    }
+
+    @Test
+    void respectsSmallerConfiguredDistance() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SIG, NOW);
+
+        assertThat(index.findNearest(flip(SIG, 1), 1)).isEqualTo(1L);
+        assertThat(index.findNearest(flip(SIG, 1, 2), 1)).isNull();
+        assertThat(index.findNearest(flip(SIG, 1, 2), 0)).isNull();
+    }
+
+    @Test
+    void distanceAboveSupportedLimitIsClamped() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SIG, NOW);
+
+        // 거리 4 이상은 LSH가 보장하지 못하므로 설정값과 무관하게 연결하지 않음
+        assertThat(index.findNearest(flip(SIG, 0, 1, 2, 3), 10)).isNull();
+    }
+
+    @Test
+    void prefersClosestThenLowestId() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(7L, flip(SIG, 5), NOW);
+        index.add(3L, flip(SIG, 6), NOW);
+        index.add(9L, flip(SIG, 7, 8), NOW);
+
+        assertThat(index.findNearest(SIG, 3)).isEqualTo(3L);
+
+        index.add(1L, SIG, NOW);
+        assertThat(index.findNearest(SIG, 3)).isEqualTo(1L);
+    }
+
+    @Test
+    void capacityEvictsOldestFirst() {
+        SimHashIndex index = new SimHashIndex(2);
+        index.add(1L, SIG, NOW);
+        index.add(2L, ~SIG, NOW);
+        index.add(3L, SIG ^ 0xFFFF_0000_FFFF_0000L, NOW);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findNearest(SIG, 3)).isNull();
+        assertThat(index.findNearest(~SIG, 3)).isEqualTo(2L);
+    }
+
+    @Test
+    void evictOlderThanRemovesExpiredEntries() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SIG, NOW.minusHours(50));
+        index.add(2L, ~SIG, NOW);
+
+        assertThat(index.evictOlderThan(NOW.minusHours(48))).isEqualTo(1);
+        assertThat(index.findNearest(SIG, 3)).isNull();
+        assertThat(index.findNearest(~SIG, 3)).isEqualTo(2L);
+    }
+
+    @Test
+    void removeUnlinksArticle() {
+        SimHashIndex index = new SimHashIndex(100);
+        index.add(1L, SIG, NOW);
+        index.remove(1L);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findNearest(SIG, 3)).isNull();
+    }
+
+    private static long flip(long signature, int... bits) {
+        for (int bit : bits) {
+            signature ^= 1L << bit;
+        }
+        return signature;
+    }
+}
@@ -0,0 +1,74 @@
+package com.finsight.finsight.domain.naver.domain.neardup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SimHash 서명 / 해밍 거리
+ */
+class SimHashTest {
+
+    // 통신사 재배포 기사 길이 수준의 본문 (짧은 글은 몇 글자 차이에도 해밍 거리가 크게 벌어짐)
+    static final String ARTICLE = """
+            한국은행 금융통화위원회는 17일 서울 중구 한은 본관에서 통화정책방향 회의를 열고 기준금리를 연 3.50%로 동결했다.
+            지난해 1월 이후 열 차례 연속 동결로, 물가 상승률이 둔화 흐름을 이어가고 있지만 가계부채 증가세와 환율 변동성이
+            여전히 부담으로 작용했다는 분석이 나온다. 이창용 총재는 회의 직후 기자간담회에서 "물가가 목표 수준으로 수렴한다는
+            확신이 들 때까지 긴축 기조를 충분히 유지할 것"이라고 말했다. 다만 금통위원 여섯 명 가운데 한 명은 인하 소수의견을
+            낸 것으로 알려져 시장에서는 연내 인하 가능성에 무게가 실리고 있다. 한은은 이날 올해 경제성장률 전망치를 기존 2.1%로
+            유지하고, 소비자물가 상승률 전망치는 2.6%에서 2.4%로 낮췄다. 수출이 반도체를 중심으로 회복세를 보이고 있으나 고금리에
+            따른 내수 부진이 길어지면서 성장 경로의 불확실성이 크다는 판단이다. 부동산 시장에 대해서는 수도권 일부 지역에서 가격
+            상승 조짐이 나타나고 있다며 거시건전성 정책과의 공조가 필요하다고 강조했다. 미국 연방준비제도의 정책 방향과 중국 경기
+            둔화, 중동 지역 지정학적 위험도 주요 변수로 꼽혔다. 채권시장에서는 국고채 3년물 금리가 전 거래일보다 0.03%포인트
+            내린 연 3.28%에 마감했고, 원·달러 환율은 1,330원대 중반에서 움직였다. 증권가 전문가들은 "하반기 물가 경로가 예상대로
+            움직인다면 오는 10월 회의에서 첫 인하가 단행될 가능성이 높다"고 내다봤다. 반면 일각에서는 가계대출 증가 속도가 다시
+            빨라지고 있는 만큼 인하 시점이 연말로 늦춰질 수 있다는 신중론도 제기된다. 정부는 다음 달 가계부채 관리 방안을 추가로
+            내놓을 예정이며, 금융당국은 은행권의 주택담보대출 관리 실태를 점검하기로 했다.
+            """;
+
+    @Test
+    void sameTextGivesSameSignature() {
+        assertThat(SimHash.of(ARTICLE)).isEqualTo(SimHash.of(ARTICLE));
+    }
+
+    @Test
+    void whitespaceAndPunctuationAreIgnored() {
+        String reformatted = ARTICLE.replace(" ", "\n  ").replace(".", "").replace(",", "");
+
+        assertThat(SimHash.distance(SimHash.of(ARTICLE), SimHash.of(reformatted))).isZero();
+    }
+
+    @Test
+    void smallEditsStayWithinThreshold() {
+        long original = SimHash.of(ARTICLE);
+
+        assertThat(SimHash.distance(original, SimHash.of(ARTICLE.replace("17일", "18일"))))
+                .isLessThanOrEqualTo(SimHashIndex.MAX_SUPPORTED_DISTANCE);
+        assertThat(SimHash.distance(original, SimHash.of("(서울=연합뉴스) 홍길동 기자 = " + ARTICLE)))
+                .isLessThanOrEqualTo(SimHashIndex.MAX_SUPPORTED_DISTANCE);
+        assertThat(SimHash.distance(original, SimHash.of(ARTICLE + " 무단전재 및 재배포 금지.")))
+                .isLessThanOrEqualTo(SimHashIndex.MAX_SUPPORTED_DISTANCE);
+    }
+
+    @Test
+    void unrelatedTextIsFarApart() {
+        String other = "삼성전자가 3분기 잠정 실적을 발표했다. 반도체 부문 영업이익이 시장 예상치를 크게 웃돌면서 "
+                + "메모리 업황 회복 기대가 커졌고 외국인 순매수가 이어지며 주가는 장중 신고가를 경신했다.";
+
+        assertThat(SimHash.distance(SimHash.of(ARTICLE), SimHash.of(other)))
+                .isGreaterThan(SimHashIndex.MAX_SUPPORTED_DISTANCE);
+    }
+
+    @Test
+    void emptyInputHasZeroSignature() {
+        assertThat(SimHash.of(null)).isZero();
+        assertThat(SimHash.of(" .,!? ")).isZero();
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertThat(SimHash.distance(0L, 0L)).isZero();
+        assertThat(SimHash.distance(0L, 0b1011L)).isEqualTo(3);
+        assertThat(SimHash.distance(-1L, 0L)).isEqualTo(64);
+    }
+}
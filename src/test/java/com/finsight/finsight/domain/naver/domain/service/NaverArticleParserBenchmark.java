@@ -0,0 +1,125 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기사 상세 파서 벤치마크 (dom vs streaming)
+ *
+ * NaverReplayStubServer 와 같은 fixture HTML(캡처본이 있으면 캡처본)을 메모리에 올려두고
+ * 두 엔진으로 반복 파싱해서 articles/sec, 기사당 할당량(KB/article)을 출력합니다.
+ * 네트워크 없이 단일 스레드로 돌기 때문에 할당량은 현재 스레드 기준 정확한 값입니다.
+ * 두 엔진의 결과(title/press/publishedAt/content/thumbnail)가 같은지도 함께 검증합니다.
+ *
+ * 실행:
+ *   ./gradlew test --tests '*NaverArticleParserBenchmark' -Dcrawler.bench=true \
+ *       -Dcrawler.bench.bodyChars=4000 -Dcrawler.bench.tailChars=60000
+ *
+ * 옵션 (crawler.bench.*): articles(fixture 수), parseIterations, bodyChars, tailChars
+ */
+@EnabledIfSystemProperty(named = "crawler.bench", matches = "true")
+class NaverArticleParserBenchmark {
+
+    private static final String BASE_URI = "https://n.news.naver.com/mnews/article/";
+
+    @Test
+    void domVsStreaming() throws Exception {
+        NaverReplayStubServer.Config stubConfig = NaverReplayStubServer.Config.fromSystemProperties();
+        int articles = Integer.getInteger("crawler.bench.articles", 200);
+        int iterations = Integer.getInteger("crawler.bench.parseIterations", 20);
+
+        List<String> pages = new ArrayList<>(articles);
+        try (NaverReplayStubServer stub = new NaverReplayStubServer(stubConfig)) {
+            for (int i = 1; i <= articles; i++) {
+                pages.add(stub.renderArticle(NaverReplayStubServer.oid(i % 8), NaverReplayStubServer.aid(i)));
+            }
+        }
+
+        NaverArticleParser domParser = new NaverArticleParser(new SimpleMeterRegistry(), new NaverStreamingArticleParser());
+        NaverStreamingArticleParser streamingParser = new NaverStreamingArticleParser();
+
+        Function<String, ParsedArticle> dom = html -> domParser.parseArticle(Jsoup.parse(html, BASE_URI));
+        Function<String, ParsedArticle> streaming = html -> {
+            try (StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(new StringReader(html), BASE_URI)) {
+                return streamingParser.parse(streamer);
+            }
+        };
+
+        // 결과 동일성
+        for (String html : pages) {
+            ParsedArticle a = dom.apply(html);
+            ParsedArticle b = streaming.apply(html);
+            assertThat(b.title).isEqualTo(a.title);
+            assertThat(b.press).isEqualTo(a.press);
+            assertThat(b.publishedAt).isEqualTo(a.publishedAt);
+            assertThat(b.content).isEqualTo(a.content);
+            assertThat(b.thumbnailUrl).isEqualTo(a.thumbnailUrl);
+        }
+
+        // 워밍업 (JIT)
+        measure(dom, pages, Math.max(1, iterations / 4));
+        measure(streaming, pages, Math.max(1, iterations / 4));
+
+        Result domResult = measure(dom, pages, iterations);
+        Result streamingResult = measure(streaming, pages, iterations);
+
+        long avgBytes = pages.stream().mapToLong(String::length).sum() / pages.size();
+        System.out.println(new StringBuilder()
+                .append("\n===== Naver article parser benchmark =====\n")
+                .append(String.format("fixtures=%d avgChars=%d iterations=%d%n", pages.size(), avgBytes, iterations))
+                .append(domResult.format("dom"))
+                .append(streamingResult.format("streaming"))
+                .append(String.format("speedup=%.2fx allocation=%.0f%%%n",
+                        streamingResult.perSecond() / domResult.perSecond(),
+                        100.0 * streamingResult.bytesPerArticle() / domResult.bytesPerArticle())));
+    }
+
+    private static Result measure(Function<String, ParsedArticle> engine, List<String> pages, int iterations) {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        mx.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        long sink = 0;
+        long allocatedBefore = mx.getThreadAllocatedBytes(threadId);
+        long startNs = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (String html : pages) {
+                ParsedArticle parsed = engine.apply(html);
+                sink += parsed.content == null ? 0 : parsed.content.length();
+            }
+        }
+        long elapsedNs = System.nanoTime() - startNs;
+        long allocated = mx.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(sink).isPositive();
+        return new Result((long) iterations * pages.size(), elapsedNs, allocated);
+    }
+
+    private record Result(long articles, long elapsedNs, long allocatedBytes) {
+
+        double perSecond() {
+            return articles / (elapsedNs / 1_000_000_000.0);
+        }
+
+        double bytesPerArticle() {
+            return (double) allocatedBytes / articles;
+        }
+
+        String format(String engine) {
+            return String.format("%-10s %10.1f articles/sec  %8.1f us/article  %8.1f KB/article%n",
+                    engine, perSecond(), elapsedNs / 1_000.0 / articles, bytesPerArticle() / 1024);
+        }
+    }
+}
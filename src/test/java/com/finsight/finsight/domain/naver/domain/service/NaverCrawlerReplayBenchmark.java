@@ -0,0 +1,236 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.ai.domain.service.AiJobService;
+import com.finsight.finsight.domain.naver.application.dto.response.NaverCrawlResultResponse;
+import com.finsight.finsight.domain.naver.domain.dedup.NaverArticleDedupService;
+import com.finsight.finsight.domain.naver.domain.neardup.NearDuplicateDetector;
+import com.finsight.finsight.domain.naver.domain.throttle.NaverAdaptiveRateLimiter;
+import com.finsight.finsight.domain.naver.domain.throttle.NaverHostThrottle;
+import com.finsight.finsight.domain.naver.domain.watermark.NaverCrawlWatermarkService;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleContentRepository;
+import com.finsight.finsight.domain.naver.persistence.repository.NaverArticleRepository;
+import com.finsight.finsight.global.config.AiPipelineProperties;
+import com.finsight.finsight.global.config.NaverCrawlerProperties;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 크롤러 오프라인 replay 벤치마크
+ *
+ * NaverReplayStubServer(HTML fixture) 를 상대로 NaverCrawlerService.crawlAllOnce() 를 반복 실행하고
+ * articles/sec, 단계별 지연(crawler_fetch_seconds / crawler_stage_seconds), 할당량(MB/s, KB/article)을 출력합니다.
+ * DB / Redis / OpenAI 는 mock (저장은 하지만 매 실행마다 전부 신규 기사로 판정).
+ *
+ * 실행:
+ *   ./gradlew test --tests '*NaverCrawlerReplayBenchmark' -Dcrawler.bench=true \
+ *       -Dcrawler.bench.mode=pipeline -Dcrawler.bench.latencyMs=50 -Dcrawler.bench.errorRate=0.02
+ *
+ * 옵션 (crawler.bench.*):
+ *   mode=sequential|parallel|pipeline, parserEngine=dom|streaming, warmupRuns, runs, rps(호스트별 시작 rate),
+ *   articlesPerSection, pageSize, bodyChars, tailChars, latencyMs, jitterMs, errorRate, throttleRate, serverThreads
+ */
+@EnabledIfSystemProperty(named = "crawler.bench", matches = "true")
+class NaverCrawlerReplayBenchmark {
+
+    @Test
+    void replayCrawlAllOnce() throws Exception {
+        NaverReplayStubServer.Config stubConfig = NaverReplayStubServer.Config.fromSystemProperties();
+        String mode = System.getProperty("crawler.bench.mode", "pipeline");
+        int warmupRuns = Integer.getInteger("crawler.bench.warmupRuns", 1);
+        int runs = Integer.getInteger("crawler.bench.runs", 3);
+
+        try (NaverReplayStubServer stub = new NaverReplayStubServer(stubConfig)) {
+            NaverCrawlerProperties props = benchProperties(stub, stubConfig, mode);
+
+            // 워밍업 (JIT, 커넥션, 게이지 등록)
+            for (int i = 0; i < warmupRuns; i++) {
+                runOnce(newCrawler(props, new SimpleMeterRegistry()));
+            }
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            NaverCrawlerService crawler = newCrawler(props, registry);
+            AllocationSampler allocation = new AllocationSampler();
+
+            long requestsBefore = stub.requests();
+            long errorsBefore = stub.injectedErrors();
+            long totalSaved = 0;
+            int failedRuns = 0;
+
+            allocation.start();
+            long startNs = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                NaverCrawlResultResponse r = runOnce(crawler);
+                if (r == null) failedRuns++;
+                else totalSaved += r.getTotalSaved();
+            }
+            long elapsedNs = System.nanoTime() - startNs;
+            long allocatedBytes = allocation.stop();
+
+            double seconds = elapsedNs / 1_000_000_000.0;
+            StringBuilder report = new StringBuilder()
+                    .append("\n===== Naver crawler replay benchmark =====\n")
+                    .append(String.format("mode=%s parser=%s runs=%d (failed=%d) sections=8 articlesPerSection=%d pages=%d%n",
+                            mode, props.getParserEngine(), runs, failedRuns, stubConfig.articlesPerSection, stubConfig.pages()))
+                    .append(String.format("stub latency=%dms+0..%dms errorRate=%.3f throttleRate=%.3f%n",
+                            stubConfig.latencyMs, stubConfig.jitterMs, stubConfig.errorRate, stubConfig.throttleRate))
+                    .append(String.format("requests=%d injectedErrors=%d%n",
+                            stub.requests() - requestsBefore, stub.injectedErrors() - errorsBefore))
+                    .append(String.format("saved=%d elapsed=%.2fs throughput=%.1f articles/sec%n",
+                            totalSaved, seconds, totalSaved / seconds))
+                    .append(String.format("allocation=%.1f MB/s (%.1f KB/article)%n",
+                            allocatedBytes / seconds / (1024 * 1024),
+                            totalSaved == 0 ? 0.0 : allocatedBytes / 1024.0 / totalSaved))
+                    .append("-- timers (count / mean ms / max ms)\n");
+
+            registry.getMeters().stream()
+                    .filter(m -> m instanceof Timer)
+                    .sorted(Comparator.comparing(m -> m.getId().toString()))
+                    .forEach(m -> appendTimer(report, (Timer) m));
+
+            System.out.println(report);
+            assertThat(totalSaved).isPositive();
+        }
+    }
+
+    private static NaverCrawlResultResponse runOnce(NaverCrawlerService crawler) {
+        try {
+            return crawler.crawlAllOnce();
+        } catch (RuntimeException e) {
+            // 에러 주입 비율이 높으면 전체 실패 예외가 날 수 있음 → 실패 run 으로 집계
+            System.out.println("[bench] crawlAllOnce failed: " + e);
+            return null;
+        }
+    }
+
+    private static NaverCrawlerProperties benchProperties(NaverReplayStubServer stub,
+                                                          NaverReplayStubServer.Config stubConfig,
+                                                          String mode) {
+        NaverCrawlerProperties props = new NaverCrawlerProperties();
+        props.setListBaseUrl(stub.baseUrl());
+        props.setArticleBaseUrl(stub.baseUrl());
+        props.setMaxPages(stubConfig.pages());
+        props.setStopAfterSeenStreak(Integer.MAX_VALUE);
+        props.setTimeoutMs(10_000);
+        props.setParallelEnabled("parallel".equals(mode));
+        props.setPipelineEnabled("pipeline".equals(mode));
+        props.setWatermarkEnabled(false);
+        props.setParserEngine(System.getProperty("crawler.bench.parserEngine", props.getParserEngine()));
+
+        double rps = Double.parseDouble(System.getProperty("crawler.bench.rps", "1000"));
+        props.setRateInitialPerSec(rps);
+        props.setRateMaxPerSec(Math.max(rps, props.getRateMaxPerSec()));
+        props.setMaxConcurrentPerHost(Integer.getInteger("crawler.bench.maxConcurrentPerHost", 8));
+        return props;
+    }
+
+    /**
+     * 실제 크롤링 컴포넌트 + mock 저장소로 NaverCrawlerService 조립
+     */
+    private static NaverCrawlerService newCrawler(NaverCrawlerProperties props, SimpleMeterRegistry registry) {
+        NaverArticleRepository repository = mock(NaverArticleRepository.class);
+        NaverArticleContentRepository contentRepository = mock(NaverArticleContentRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+        NaverArticleDedupService dedupService = new NaverArticleDedupService(repository, props, registry);
+        dedupService.run(null);
+
+        NearDuplicateDetector nearDuplicateDetector = new NearDuplicateDetector(contentRepository, props, registry);
+        nearDuplicateDetector.run(null);
+
+        NaverCrawlWatermarkService watermarkService =
+                new NaverCrawlWatermarkService(mock(StringRedisTemplate.class), props, registry);
+
+        NaverHostThrottle hostThrottle =
+                new NaverHostThrottle(props, registry, new NaverAdaptiveRateLimiter(props, registry));
+        NaverPageFetcher fetcher = new NaverPageFetcher(props, hostThrottle);
+        NaverArticleParser parser = new NaverArticleParser(registry, new NaverStreamingArticleParser());
+        NaverArticlePersister persister = new NaverArticlePersister(repository, contentRepository, props,
+                new AiPipelineProperties(), registry, tx, mock(AiJobService.class), dedupService, nearDuplicateDetector);
+        NaverCrawlPipeline pipeline = new NaverCrawlPipeline(props, registry, fetcher, parser, persister,
+                dedupService, watermarkService);
+
+        return new NaverCrawlerService(props, registry, dedupService, watermarkService,
+                fetcher, parser, persister, pipeline);
+    }
+
+    private static void appendTimer(StringBuilder sb, Timer t) {
+        Meter.Id id = t.getId();
+        StringBuilder tags = new StringBuilder();
+        id.getTags().forEach(tag -> {
+            if (!"section".equals(tag.getKey())) tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' ');
+        });
+        sb.append(String.format("  %-24s %-40s %6d / %8.2f / %8.2f%n",
+                id.getName(), tags.toString().trim(), t.count(),
+                t.mean(TimeUnit.MILLISECONDS), t.max(TimeUnit.MILLISECONDS)));
+    }
+
+    /**
+     * 스레드별 할당 바이트 샘플링 (JDK 17에는 전체 누적 할당 API가 없음)
+     * - 크롤링 풀 스레드는 실행이 끝나면 사라지므로 주기적으로 스레드별 최대값을 기록해 합산
+     * - 마지막 샘플 이후 종료된 스레드의 할당분은 누락될 수 있어 근사값
+     */
+    private static final class AllocationSampler {
+        private final com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        private final Map<Long, Long> baseline = new HashMap<>();
+        private final Map<Long, Long> latest = new HashMap<>();
+        private volatile boolean running;
+        private Thread sampler;
+
+        void start() {
+            mx.setThreadAllocatedMemoryEnabled(true);
+            sample(baseline);
+            running = true;
+            sampler = new Thread(() -> {
+                while (running) {
+                    synchronized (latest) {
+                        sample(latest);
+                    }
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "bench-alloc-sampler");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        long stop() throws InterruptedException {
+            running = false;
+            sampler.join();
+            long total = 0;
+            synchronized (latest) {
+                sample(latest);
+                for (Map.Entry<Long, Long> e : latest.entrySet()) {
+                    total += e.getValue() - baseline.getOrDefault(e.getKey(), 0L);
+                }
+            }
+            return total;
+        }
+
+        private void sample(Map<Long, Long> into) {
+            long[] ids = mx.getAllThreadIds();
+            long[] bytes = mx.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] >= 0) into.merge(ids[i], bytes[i], Math::max);
+            }
+        }
+    }
+}
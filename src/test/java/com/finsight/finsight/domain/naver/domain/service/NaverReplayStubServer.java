@@ -0,0 +1,327 @@
+package com.finsight.finsight.domain.naver.domain.service;
+
+import com.finsight.finsight.domain.naver.domain.constant.NaverEconomySection;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 네이버 뉴스 오프라인 replay 스텁 (JDK HttpServer)
+ *
+ * - 목록: /breakingnews/section/101/{code}?date=..&page=N → naver-replay/list.html 템플릿
+ * - 기사: /mnews/article/{oid}/{aid} → naver-replay/article.html 템플릿
+ * - 실제로 캡처한 HTML이 있으면 우선 사용
+ *   - naver-replay/captured/list/{code}_{page}.html
+ *   - naver-replay/captured/article/{oid}_{aid}.html
+ * - 응답 지연(latencyMs + 0~jitterMs), 500 에러 비율(errorRate), 429 비율(throttleRate) 주입
+ *
+ * 섹션 i(0부터)의 기사는 oid = (i+1) 3자리, aid = 최신순으로 articlesPerSection → 1
+ */
+class NaverReplayStubServer implements AutoCloseable {
+
+    private static final String FIXTURE_DIR = "naver-replay/";
+    private static final DateTimeFormatter DATA_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] WORDS = {
+            "기준금리", "물가", "환율", "코스피", "반도체", "수출", "부동산", "가계부채", "고용", "성장률",
+            "한국은행", "금융위원회", "채권", "유동성", "투자", "소비", "실적", "영업이익", "배당", "공매도",
+            "전세", "분양", "대출", "예금", "스타트업", "벤처", "글로벌", "관세", "유가", "원자재"
+    };
+
+    private final Config config;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final String listTemplate;
+    private final String listItemTemplate;
+    private final String articleTemplate;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    NaverReplayStubServer(Config config) throws IOException {
+        this.config = config;
+        this.listTemplate = readFixture("list.html");
+        this.listItemTemplate = readFixture("list-item.html");
+        this.articleTemplate = readFixture("article.html");
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newFixedThreadPool(config.serverThreads);
+        server.setExecutor(executor);
+        server.createContext("/breakingnews/section/", this::handleList);
+        server.createContext("/mnews/article/", this::handleArticle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // =========================
+    // handlers
+    // =========================
+
+    private void handleList(HttpExchange ex) throws IOException {
+        if (injectFault(ex)) return;
+
+        String path = ex.getRequestURI().getPath();
+        String code = path.substring(path.lastIndexOf('/') + 1);
+        int page = intParam(ex.getRequestURI().getQuery(), "page", 1);
+
+        String captured = readCaptured("list/" + code + "_" + page + ".html");
+        if (captured != null) {
+            respond(ex, 200, captured);
+            return;
+        }
+
+        int sectionIndex = sectionIndex(code);
+        if (sectionIndex < 0) {
+            respond(ex, 404, "unknown section");
+            return;
+        }
+
+        StringBuilder items = new StringBuilder();
+        int from = (page - 1) * config.pageSize;
+        int to = Math.min(config.articlesPerSection, from + config.pageSize);
+        for (int i = from; i < to; i++) {
+            String oid = oid(sectionIndex);
+            String aid = aid(config.articlesPerSection - i);
+            items.append(listItemTemplate
+                    .replace("{{oid}}", oid)
+                    .replace("{{aid}}", aid)
+                    .replace("{{title}}", title(oid, aid))
+                    .replace("{{lede}}", sentence(new Random(seed(oid, aid)), 12))
+                    .replace("{{press}}", press(oid)));
+        }
+
+        respond(ex, 200, listTemplate.replace("{{items}}", items));
+    }
+
+    private void handleArticle(HttpExchange ex) throws IOException {
+        if (injectFault(ex)) return;
+
+        // /mnews/article/{oid}/{aid}
+        String[] parts = ex.getRequestURI().getPath().split("/");
+        if (parts.length < 5) {
+            respond(ex, 404, "not found");
+            return;
+        }
+        String oid = parts[3];
+        String aid = parts[4];
+
+        respond(ex, 200, renderArticle(oid, aid));
+    }
+
+    /**
+     * 기사 상세 HTML (캡처본이 있으면 캡처본, 없으면 템플릿 생성)
+     * - 파서 벤치마크(NaverArticleParserBenchmark)도 서버 없이 같은 HTML을 씀
+     */
+    String renderArticle(String oid, String aid) {
+        String captured = readCaptured("article/" + oid + "_" + aid + ".html");
+        if (captured != null) return captured;
+
+        Random rnd = new Random(seed(oid, aid));
+        LocalDateTime publishedAt = LocalDateTime.of(2026, 1, 1, 9, 0)
+                .plusMinutes(Long.parseLong(aid) % 10_000);
+
+        StringBuilder body = new StringBuilder(config.bodyChars + 256);
+        while (body.length() < config.bodyChars) {
+            body.append("      ").append(sentence(rnd, 10 + rnd.nextInt(15))).append("<br><br>\n");
+        }
+
+        // 본문 뒤 관련기사/추천 영역 (실제 페이지는 본문보다 훨씬 큼)
+        StringBuilder tail = new StringBuilder(config.tailChars + 256);
+        while (tail.length() < config.tailChars) {
+            tail.append("      <li><a href=\"https://n.news.naver.com/mnews/article/").append(oid).append('/')
+                    .append(aid(1 + rnd.nextInt(1_000_000))).append("\">")
+                    .append(sentence(rnd, 8)).append("</a></li>\n");
+        }
+
+        return articleTemplate
+                .replace("{{oid}}", oid)
+                .replace("{{aid}}", aid)
+                .replace("{{title}}", title(oid, aid))
+                .replace("{{press}}", press(oid))
+                .replace("{{publishedAt}}", publishedAt.atOffset(ZoneOffset.ofHours(9)).toString())
+                .replace("{{dataDateTime}}", publishedAt.format(DATA_DATE_TIME))
+                .replace("{{body}}", body)
+                .replace("{{tail}}", tail);
+    }
+
+    /**
+     * 지연 + 에러 주입
+     * @return 에러 응답을 보냈으면 true
+     */
+    private boolean injectFault(HttpExchange ex) throws IOException {
+        requests.incrementAndGet();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        long delay = config.latencyMs + (config.jitterMs > 0 ? rnd.nextLong(config.jitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        double roll = rnd.nextDouble();
+        if (roll < config.errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(ex, 500, "injected error");
+            return true;
+        }
+        if (roll < config.errorRate + config.throttleRate) {
+            injectedErrors.incrementAndGet();
+            respond(ex, 429, "injected throttle");
+            return true;
+        }
+        return false;
+    }
+
+    // =========================
+    // helpers
+    // =========================
+
+    private static void respond(HttpExchange ex, int status, CharSequence body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static int sectionIndex(String code) {
+        NaverEconomySection[] sections = NaverEconomySection.values();
+        for (int i = 0; i < sections.length; i++) {
+            if (sections[i].getUrl().endsWith("/" + code)) return i;
+        }
+        return -1;
+    }
+
+    static String oid(int sectionIndex) {
+        return String.format("%03d", sectionIndex + 1);
+    }
+
+    static String aid(int n) {
+        return String.format("%010d", n);
+    }
+
+    private static String title(String oid, String aid) {
+        return sentence(new Random(seed(oid, aid) * 31), 6) + " [" + oid + "-" + aid + "]";
+    }
+
+    private static String press(String oid) {
+        return "리플레이경제" + oid;
+    }
+
+    private static long seed(String oid, String aid) {
+        return Long.parseLong(oid) * 1_000_000_007L + Long.parseLong(aid);
+    }
+
+    private static String sentence(Random rnd, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+            if (rnd.nextInt(5) == 0) sb.append(rnd.nextInt(1000));
+        }
+        return sb.append('.').toString();
+    }
+
+    private static int intParam(String query, String key, int defaultValue) {
+        if (query == null) return defaultValue;
+        for (String part : query.split("&")) {
+            int idx = part.indexOf('=');
+            if (idx > 0 && part.substring(0, idx).equals(key)) {
+                try {
+                    return Integer.parseInt(part.substring(idx + 1));
+                } catch (NumberFormatException e) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String readFixture(String name) {
+        String s = readCaptured0(FIXTURE_DIR + name);
+        if (s == null) throw new IllegalStateException("fixture not found: " + FIXTURE_DIR + name);
+        return s;
+    }
+
+    private static String readCaptured(String relative) {
+        return readCaptured0(FIXTURE_DIR + "captured/" + relative);
+    }
+
+    private static String readCaptured0(String resource) {
+        try (InputStream in = NaverReplayStubServer.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) return null;
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스텁 설정 (system property crawler.bench.* 로 덮어쓰기)
+     */
+    static final class Config {
+        int articlesPerSection = 40;
+        int pageSize = 20;
+        int bodyChars = 2500;
+        int tailChars = 8000;
+        long latencyMs = 20;
+        long jitterMs = 30;
+        double errorRate = 0.0;
+        double throttleRate = 0.0;
+        int serverThreads = 16;
+
+        static Config fromSystemProperties() {
+            Config c = new Config();
+            c.articlesPerSection = Integer.getInteger("crawler.bench.articlesPerSection", c.articlesPerSection);
+            c.pageSize = Integer.getInteger("crawler.bench.pageSize", c.pageSize);
+            c.bodyChars = Integer.getInteger("crawler.bench.bodyChars", c.bodyChars);
+            c.tailChars = Integer.getInteger("crawler.bench.tailChars", c.tailChars);
+            c.latencyMs = Long.getLong("crawler.bench.latencyMs", c.latencyMs);
+            c.jitterMs = Long.getLong("crawler.bench.jitterMs", c.jitterMs);
+            c.errorRate = Double.parseDouble(System.getProperty("crawler.bench.errorRate", String.valueOf(c.errorRate)));
+            c.throttleRate = Double.parseDouble(System.getProperty("crawler.bench.throttleRate", String.valueOf(c.throttleRate)));
+            c.serverThreads = Integer.getInteger("crawler.bench.serverThreads", c.serverThreads);
+            return c;
+        }
+
+        int pages() {
+            return Math.max(1, (articlesPerSection + pageSize - 1) / pageSize);
+        }
+    }
+}